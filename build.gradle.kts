@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -21,21 +22,49 @@ dependencyManagement {
     }
 }
 
+// load generator (open loop HTTP 부하 생성기, 애플리케이션과 별도로 실행합니다.)
+val loadgen by sourceSets.creating
+// test fixtures (테스트와 벤치마크가 함께 쓰는 객체 구성, PointServiceFixture)
+val testFixtures by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations["testFixturesImplementation"].extendsFrom(configurations.implementation.get())
+
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    "loadgenImplementation"(libs.hdr.histogram)
+    "loadgenImplementation"(libs.jackson.databind)
+    testImplementation(testFixtures.output)
+    "jmhImplementation"(testFixtures.output)
 }
 
 // about source and compilation
+// virtual thread 모드(spring.threads.virtual.enabled)는 Java 21 이상에서 동작합니다. : ./gradlew bootRun -Papp.java.version=21
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(property("app.java.version").toString()))
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
+}
+
+// benchmark tasks
+// ./gradlew jmh -PjmhIncludes=PointServiceBenchmark -PjmhThreads=8
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    includes.set(listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*")))
+    providers.gradleProperty("jmhThreads").orNull?.let { threads.set(it.toInt()) }
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
 }
 
 // bundling tasks
@@ -48,5 +77,40 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+// ./gradlew loadTest -Papp.java.version=21
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests comparing platform thread, virtual thread and async request handling."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// ./gradlew bootRun 으로 애플리케이션을 띄운 뒤 실행합니다.
+// ./gradlew runLoadGenerator -PloadgenArgs="--rate=2000 --duration=60s --distribution=ZIPFIAN --reportDir=build/loadgen"
+tasks.register<JavaExec>("runLoadGenerator") {
+    description = "Sends open-loop load to the point API and writes HDR latency reports."
+    group = "verification"
+    classpath = loadgen.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadgen.LoadGenerator")
+    args(providers.gradleProperty("loadgenArgs").getOrElse("").split(" ").filter { it.isNotBlank() })
+}
+// ./gradlew diffLoadReports -PloadgenBase=build/loadgen-main -PloadgenCandidate=build/loadgen
+tasks.register<JavaExec>("diffLoadReports") {
+    description = "Compares two load generator reports."
+    group = "verification"
+    classpath = loadgen.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadgen.LoadReportDiff")
+    args(
+        providers.gradleProperty("loadgenBase").getOrElse("build/loadgen-base"),
+        providers.gradleProperty("loadgenCandidate").getOrElse("build/loadgen"),
+    )
 }
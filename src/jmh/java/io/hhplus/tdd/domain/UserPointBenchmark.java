@@ -0,0 +1,39 @@
+package io.hhplus.tdd.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPoint의 충전/사용 계산 비용을 측정합니다.
+ * - 한도와 잔액 검사만 수행하는 순수 계산이므로 할당이 없어야 합니다. (gc.alloc.rate.norm ≈ 0)
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=UserPointBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserPointBenchmark {
+
+    private UserPoint userPoint;
+    private long amount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userPoint = new UserPoint(1L, 5_000L, System.currentTimeMillis());
+        amount = 100L;
+    }
+
+    @Benchmark
+    public long charge() {
+        return userPoint.charge(amount);
+    }
+
+    @Benchmark
+    public long use() {
+        return userPoint.use(amount);
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.service.transaction.TransactionType;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 PointHistoryTable 대역입니다.
+ * - 지연(throttle) 없이 동작하여 엔진 자체의 비용만 측정되도록 합니다.
+ * - 여러 스레드가 동시에 추가하므로 id 발급과 보관을 lock-free 자료구조로 처리합니다.
+ */
+public class InMemoryPointHistoryTable extends PointHistoryTable {
+
+    private final Queue<PointHistory> table = new ConcurrentLinkedQueue<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        table.add(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 UserPointTable 대역입니다.
+ * - 지연(throttle) 없이 동작하여 엔진 자체의 비용만 측정되도록 합니다.
+ * - 여러 스레드가 동시에 접근하므로 ConcurrentHashMap을 사용합니다.
+ */
+public class InMemoryUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) {
+        UserPoint userPoint = table.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
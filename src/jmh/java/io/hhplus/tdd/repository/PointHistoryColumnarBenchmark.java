@@ -0,0 +1,124 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이력 보관 방식별 이력 하나당 메모리와 한 유저의 이력 합산 속도를 비교합니다.
+ * - OBJECTS : 유저별 ArrayList에 PointHistory 객체를 두는 이전 인덱스 방식
+ * - COLUMNAR : PointHistoryIndex의 유저별 컬럼(long[], byte[]) 방식
+ * - 메모리는 적재 전후의 힙 사용량(GC 후) 차이를 전체 이력 수로 나누어 보조 지표 summarize:bytesPerRow로 결과에 함께 남깁니다.
+ * - summarize는 무작위 유저 한 명의 CHARGE 이력 건수와 금액을 합산합니다.
+ *   결과는 호출당 시간이며, rowsPerUser로 나누면 이력 하나를 합산하는 시간입니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=PointHistoryColumnarBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PointHistoryColumnarBenchmark {
+
+    private static final int TOTAL_ROWS = 10_000_000;
+    private static final PointHistoryCondition CHARGE_ONLY = new PointHistoryCondition(TransactionType.CHARGE, null, null);
+
+    public enum Layout {
+        OBJECTS, COLUMNAR
+    }
+
+    @Param({"OBJECTS", "COLUMNAR"})
+    public Layout layout;
+
+    @Param({"100", "10000"})
+    public int rowsPerUser;
+
+    private int users;
+    private Map<Long, List<PointHistory>> objects;
+    private PointHistoryIndex columnar;
+    private long bytesPerRow;
+    private final AtomicBoolean footprintReported = new AtomicBoolean();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = TOTAL_ROWS / rowsPerUser;
+        long heapBefore = usedHeap();
+
+        if (layout == Layout.OBJECTS) {
+            objects = new HashMap<>();
+        } else {
+            columnar = new PointHistoryIndex();
+        }
+        for (long id = 1; id <= TOTAL_ROWS; id++) {
+            long userId = id % users;
+            TransactionType type = id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            PointHistory pointHistory = new PointHistory(id, userId, id % 1000, type, id);
+            if (layout == Layout.OBJECTS) {
+                objects.computeIfAbsent(userId, key -> new ArrayList<>()).add(pointHistory);
+            } else {
+                columnar.add(pointHistory);
+            }
+        }
+
+        bytesPerRow = Math.max(0L, Math.round((double) (usedHeap() - heapBefore) / TOTAL_ROWS));
+    }
+
+    @Benchmark
+    public long summarize(Footprint footprint) {
+        long userId = ThreadLocalRandom.current().nextLong(users);
+        if (layout == Layout.COLUMNAR) {
+            PointHistorySummary summary = columnar.summarize(userId, CHARGE_ONLY);
+            return summary.count() + summary.chargedAmount();
+        }
+
+        long count = 0L;
+        long charged = 0L;
+        List<PointHistory> userHistories = objects.get(userId);
+        for (PointHistory pointHistory : userHistories) {
+            if (CHARGE_ONLY.matches(pointHistory.type(), pointHistory.updateMillis())) {
+                count++;
+                charged += pointHistory.amount();
+            }
+        }
+        return count + charged;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 적재 직후 잰 이력 하나당 힙 사용량 (bytes)
+     * - 스레드와 측정 iteration에 걸쳐 합산되는 EVENTS 지표이므로, 첫 측정 iteration의 한 스레드만 값을 채웁니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerRow;
+
+        @Setup(Level.Iteration)
+        public void report(PointHistoryColumnarBenchmark benchmark, IterationParams iterationParams) {
+            boolean reporter = iterationParams.getType() == IterationType.MEASUREMENT
+                    && benchmark.footprintReported.compareAndSet(false, true);
+            bytesPerRow = reporter ? benchmark.bytesPerRow : 0L;
+        }
+    }
+}
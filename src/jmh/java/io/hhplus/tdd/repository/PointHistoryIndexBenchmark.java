@@ -0,0 +1,64 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 이력 수가 늘어날 때 유저 이력 조회 지연을 비교합니다.
+ * - index : PointHistoryIndex 조회, 대상 유저의 이력 수(100건)에만 비례해야 합니다.
+ * - tableScan : PointHistoryTable.selectAllByUserId와 같은 전체 순회, 전체 이력 수에 비례합니다.
+ *
+ * 10,000,000건에서 테이블과 인덱스를 합쳐 약 1GB를 쓰므로 3GB heap으로 실행합니다.
+ * 30,000,000건은 3GB heap의 대부분(약 2.7GB)을 차지해 조회 시간보다 GC 시간을 재게 되므로 제외했습니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=PointHistoryIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class PointHistoryIndexBenchmark {
+
+    private static final long TARGET_USER_ID = 0L;
+    private static final int TARGET_USER_ROWS = 100;
+    private static final int OTHER_USERS = 1_000_000;
+
+    @Param({"1000000", "3000000", "10000000"})
+    public int totalRows;
+
+    private PointHistoryIndex pointHistoryIndex;
+    private List<PointHistory> table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryIndex = new PointHistoryIndex();
+        table = new ArrayList<>(totalRows);
+
+        int targetUserStride = totalRows / TARGET_USER_ROWS;
+        for (long id = 1; id <= totalRows; id++) {
+            long userId = id % targetUserStride == 0 ? TARGET_USER_ID : 1 + id % OTHER_USERS;
+            TransactionType type = id % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            PointHistory pointHistory = new PointHistory(id, userId, id % 1000, type, id);
+
+            table.add(pointHistory);
+            pointHistoryIndex.add(pointHistory);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> index() {
+        return pointHistoryIndex.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == TARGET_USER_ID).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 유저 잔액 저장소별 메모리 사용량과 조회/갱신 지연을 비교합니다.
+ * - HEAP : ConcurrentHashMap에 유저마다 객체를 두는 기존 방식
+ * - OFF_HEAP : 힙 밖 메모리의 32 bytes 슬롯에 primitive long으로 보관하는 방식
+ * - 메모리 사용량은 유저를 적재하기 전후의 힙 사용량(GC 후)과 direct buffer 사용량 차이로 구하며,
+ *   유저 한 명당 bytes를 보조 지표(get:heapBytesPerUser, get:offHeapBytesPerUser 등)로 결과에 함께 남깁니다.
+ * - 조회/갱신은 적재한 유저 중 무작위 유저를 대상으로 합니다. gc 프로파일러의 gc.alloc.rate.norm으로 호출당 할당량도 함께 비교합니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=UserPointStoreBenchmark -PjmhThreads=8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "-XX:MaxDirectMemorySize=8g"})
+public class UserPointStoreBenchmark {
+
+    @Param({"HEAP", "OFF_HEAP"})
+    public UserPointStoreProperties.Type store;
+
+    @Param({"1000000", "10000000"})
+    public int users;
+
+    private UserPointStore userPointStore;
+    private long version;
+    private long heapBytesPerUser;
+    private long offHeapBytesPerUser;
+    private final AtomicBoolean footprintReported = new AtomicBoolean();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long heapBefore = usedHeap();
+        long offHeapBefore = usedDirect();
+
+        userPointStore = switch (store) {
+            case HEAP -> new HeapUserPointStore();
+            case OFF_HEAP -> new OffHeapUserPointStore(users);
+        };
+        for (long id = 0; id < users; id++) {
+            userPointStore.put(new VersionedUserPoint(new UserPoint(id, id % 10_000, id), ++version));
+        }
+
+        heapBytesPerUser = bytesPerUser(usedHeap() - heapBefore);
+        offHeapBytesPerUser = bytesPerUser(usedDirect() - offHeapBefore);
+    }
+
+    @Benchmark
+    public VersionedUserPoint get(Footprint footprint) {
+        return userPointStore.get(ThreadLocalRandom.current().nextLong(users));
+    }
+
+    @Benchmark
+    public boolean compareAndSet(Footprint footprint) {
+        long id = ThreadLocalRandom.current().nextLong(users);
+        VersionedUserPoint current = userPointStore.get(id);
+        UserPoint userPoint = current.userPoint();
+        return userPointStore.compareAndSet(current.version(),
+                new VersionedUserPoint(new UserPoint(id, userPoint.point() + 1, userPoint.updateMillis()), current.version() + users));
+    }
+
+    /**
+     * 유저 한 명당 bytes, GC 시점 차이로 적재 전보다 작게 측정되면 0으로 봅니다.
+     */
+    private long bytesPerUser(long bytes) {
+        return Math.max(0L, Math.round((double) bytes / users));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long usedDirect() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    /**
+     * 적재 직후 잰 유저 한 명당 메모리 (bytes)
+     * - EVENTS 지표는 스레드와 측정 iteration에 걸쳐 합산되므로, 첫 측정 iteration에서 한 스레드만 값을 채우고 나머지는 0으로 둡니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long heapBytesPerUser;
+        public long offHeapBytesPerUser;
+
+        @Setup(Level.Iteration)
+        public void report(UserPointStoreBenchmark benchmark, IterationParams iterationParams) {
+            boolean reporter = iterationParams.getType() == IterationType.MEASUREMENT
+                    && benchmark.footprintReported.compareAndSet(false, true);
+            heapBytesPerUser = reporter ? benchmark.heapBytesPerUser : 0L;
+            offHeapBytesPerUser = reporter ? benchmark.offHeapBytesPerUser : 0L;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.PointServiceFixture;
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.repository.InMemoryPointHistoryTable;
+import io.hhplus.tdd.repository.InMemoryUserPointTable;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.service.executor.LockPointTransactionExecutor;
+import io.hhplus.tdd.service.lock.ReferenceCountedUserLockManager;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.support.UserKeyDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService의 트랜잭션 실행과 이력 조회 처리량을 유저 분포별로 측정합니다.
+ * - UserPointTable, PointHistoryTable은 지연이 없는 대역으로 바꾸어 Lock, 캐시, 이력 기록 등 엔진 자체의 비용만 남깁니다.
+ * - 트랜잭션은 스레드마다 충전(1) 후 같은 유저에게 사용(1)을 번갈아 실행하여 한도/잔액 부족 없이 반복되도록 합니다.
+ * - 트랜잭션 추적 로그는 운영 기본값과 같이 끈 상태로 측정합니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=PointServiceBenchmark -PjmhThreads=8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PointServiceBenchmark {
+
+    private static final int HISTORY_PER_USER = 10;
+
+    @Param({"HOT", "UNIFORM", "ZIPFIAN"})
+    public UserKeyDistribution distribution;
+
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointServiceFixture fixture = PointServiceFixture.create(new InMemoryUserPointTable(), new InMemoryPointHistoryTable());
+        PointHistoryWriter pointHistoryWriter = fixture.pointHistoryWriter();
+        pointService = fixture.pointService(new LockPointTransactionExecutor(new ReferenceCountedUserLockManager()));
+
+        for (int i = 0; i < HISTORY_PER_USER; i++) {
+            for (long userId = UserKeyDistribution.FIRST_USER_ID; userId < UserKeyDistribution.FIRST_USER_ID + UserKeyDistribution.USERS; userId++) {
+                pointHistoryWriter.append(userId, 1L, TransactionType.CHARGE, i);
+            }
+        }
+    }
+
+    /**
+     * 스레드마다 충전한 유저를 기억해 두었다가 다음 호출에서 같은 유저에게 사용합니다.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+        long chargedUserId = -1L;
+    }
+
+    @Benchmark
+    public UserPoint executePointTransaction(Caller caller) {
+        if (caller.chargedUserId < 0) {
+            caller.chargedUserId = distribution.nextUserId();
+            return pointService.executePointTransaction(caller.chargedUserId, 1L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        long userId = caller.chargedUserId;
+        caller.chargedUserId = -1L;
+        return pointService.executePointTransaction(userId, 1L, TransactionType.USE, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public List<PointHistory> history() {
+        return pointService.history(distribution.nextUserId());
+    }
+}
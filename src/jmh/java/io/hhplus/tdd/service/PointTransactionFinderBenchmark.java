@@ -0,0 +1,41 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.PointServiceFixture;
+import io.hhplus.tdd.repository.InMemoryPointHistoryTable;
+import io.hhplus.tdd.repository.InMemoryUserPointTable;
+import io.hhplus.tdd.service.transaction.PointTransaction;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트랜잭션 타입으로 전략 컴포넌트를 찾는 비용을 측정합니다.
+ * - 요청마다 호출되므로 stream 순회와 할당 비용이 그대로 트랜잭션 비용에 더해집니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=PointTransactionFinderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointTransactionFinderBenchmark {
+
+    @Param({"CHARGE", "USE"})
+    public TransactionType transactionType;
+
+    private PointTransactionFinder pointTransactionFinder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointTransactionFinder = PointServiceFixture.create(new InMemoryUserPointTable(), new InMemoryPointHistoryTable())
+                .pointTransactionFinder();
+    }
+
+    @Benchmark
+    public PointTransaction findTransactionService() {
+        return pointTransactionFinder.findTransactionService(transactionType);
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.PointServiceFixture;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.repository.InMemoryPointHistoryTable;
+import io.hhplus.tdd.repository.InMemoryUserPointTable;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.service.lock.ReferenceCountedUserLockManager;
+import io.hhplus.tdd.service.transaction.ChargeTransaction;
+import io.hhplus.tdd.service.transaction.UseTransaction;
+import io.hhplus.tdd.support.UserKeyDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트랜잭션 실행 방식(LOCK, OPTIMISTIC)별 처리량을 경합 정도에 따라 비교합니다.
+ * - HOT 분포는 소수 유저에 요청이 몰리는 높은 경합, UNIFORM 분포는 유저가 고르게 흩어지는 낮은 경합을 재현합니다.
+ * - 테이블은 지연이 없는 대역을 사용하고, 트랜잭션은 스레드마다 충전(1) 후 같은 유저에게 사용(1)을 번갈아 실행합니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=PointTransactionExecutorBenchmark -PjmhThreads=8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PointTransactionExecutorBenchmark {
+
+    private static final int MAX_ATTEMPTS = 1_000;
+
+    @Param({"LOCK", "OPTIMISTIC"})
+    public PointTransactionExecutorProperties.Mode mode;
+
+    @Param({"HOT", "UNIFORM"})
+    public UserKeyDistribution distribution;
+
+    private PointTransactionExecutor executor;
+    private ChargeTransaction chargeTransaction;
+    private UseTransaction useTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointServiceFixture fixture = PointServiceFixture.create(new InMemoryUserPointTable(), new InMemoryPointHistoryTable());
+        UserPointCache userPointCache = fixture.userPointCache();
+        chargeTransaction = fixture.chargeTransaction();
+        useTransaction = fixture.useTransaction();
+        executor = switch (mode) {
+            case LOCK -> new LockPointTransactionExecutor(new ReferenceCountedUserLockManager());
+            case OPTIMISTIC -> new OptimisticPointTransactionExecutor(userPointCache, fixture.pointMetrics(), MAX_ATTEMPTS);
+            default -> throw new IllegalArgumentException("비교 대상이 아닌 실행 방식입니다: " + mode);
+        };
+    }
+
+    /**
+     * 스레드마다 충전한 유저를 기억해 두었다가 다음 호출에서 같은 유저에게 사용합니다.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+        long chargedUserId = -1L;
+    }
+
+    @Benchmark
+    public UserPoint execute(Caller caller) {
+        if (caller.chargedUserId < 0) {
+            caller.chargedUserId = distribution.nextUserId();
+            return executor.execute(chargeTransaction, caller.chargedUserId, 1L, System.currentTimeMillis());
+        }
+        long userId = caller.chargedUserId;
+        caller.chargedUserId = -1L;
+        return executor.execute(useTransaction, userId, 1L, System.currentTimeMillis());
+    }
+}
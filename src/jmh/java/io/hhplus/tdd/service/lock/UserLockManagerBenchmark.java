@@ -0,0 +1,52 @@
+package io.hhplus.tdd.service.lock;
+
+import io.hhplus.tdd.support.UserKeyDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock 관리 방식(REFERENCE_COUNTED, STRIPED, ADAPTIVE)별 처리량과 지연 분포를 유저 분포에 따라 비교합니다.
+ * - Throughput 모드로 초당 처리량을, SampleTime 모드로 호출별 지연(p50, p99 등)을 함께 측정합니다.
+ * - ZIPFIAN은 소수 유저에 요청이 몰려 일부 유저만 경합하고, UNIFORM은 경합이 거의 없습니다.
+ * - Lock 안의 작업은 잔액 계산 정도의 짧은 CPU 작업(Blackhole.consumeCPU)으로 대신합니다.
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=UserLockManagerBenchmark -PjmhThreads=8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class UserLockManagerBenchmark {
+
+    private static final long CRITICAL_SECTION_TOKENS = 200L;
+
+    @Param({"REFERENCE_COUNTED", "STRIPED", "ADAPTIVE"})
+    public UserLockProperties.Mode mode;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public UserKeyDistribution distribution;
+
+    private UserLockManager userLockManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userLockManager = switch (mode) {
+            case REFERENCE_COUNTED -> new ReferenceCountedUserLockManager();
+            case STRIPED -> new StripedUserLockManager(1024);
+            case ADAPTIVE -> new AdaptiveUserLockManager(Duration.ofMillis(1), Duration.ZERO);
+        };
+    }
+
+    @Benchmark
+    public Object executeWithLock() {
+        return userLockManager.executeWithLock(distribution.nextUserId(), () -> {
+            Blackhole.consumeCPU(CRITICAL_SECTION_TOKENS);
+            return null;
+        });
+    }
+}
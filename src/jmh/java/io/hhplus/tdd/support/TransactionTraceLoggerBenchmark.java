@@ -0,0 +1,122 @@
+package io.hhplus.tdd.support;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트랜잭션 한 건이 남기는 추적 로그 8건의 비용을 측정합니다.
+ * - legacy : 기존 ThreadLogger 방식 (문자열 연결 + LocalTime 포맷 + synchronized printf, 출력은 버림)
+ * - disabled : TransactionTraceLogger를 끈 상태, baseline과 차이가 없고 할당이 없어야 합니다. (gc.alloc.rate.norm ≈ 0)
+ * - enabled : TransactionTraceLogger를 켠 상태, 호출 스레드는 링 버퍼 기록만 수행합니다.
+ *   버퍼가 가득 차 버린 기록 수는 보조 지표 enabled:dropped(측정 구간 합계)로 함께 나옵니다.
+ * - baseline : 로그 없이 인자만 소비
+ *
+ * 실행 : ./gradlew jmh -PjmhIncludes=TransactionTraceLoggerBenchmark -PjmhThreads=8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionTraceLoggerBenchmark {
+
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private TransactionTraceLogger disabledLogger;
+    private TransactionTraceLogger enabledLogger;
+    private PrintStream nullOut;
+    private final AtomicLong reportedDropped = new AtomicLong();
+
+    private long userId = 1L;
+    private long amount = 100L;
+    private long point = 5_000L;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        disabledLogger = new TransactionTraceLogger(new TransactionTraceProperties(false, 8192));
+        enabledLogger = new TransactionTraceLogger(new TransactionTraceProperties(true, 8192));
+        nullOut = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        enabledLogger.close();
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(userId);
+        blackhole.consume(amount);
+        blackhole.consume(point);
+    }
+
+    @Benchmark
+    public void legacy() {
+        legacyLog("CHARGE 트랜잭션 시작 - 사용자: " + userId + ", 금액: " + amount);
+        legacyLog("사용자 포인트 조회 완료 - 사용자: " + userId + ", 현재 포인트: " + point);
+        legacyLog("포인트 충전 계산 - 현재: " + point + ", 충전액: " + amount);
+        legacyLog("포인트 계산 완료 - 사용자: " + userId + ", 계산된 포인트: " + (point + amount));
+        legacyLog("포인트 업데이트 완료 - 사용자: " + userId + ", 업데이트된 포인트: " + (point + amount));
+        legacyLog("충전 이력 생성 - 사용자: " + userId + ", 금액: " + amount);
+        legacyLog("이력 저장 완료 - 사용자: " + userId + ", history ID: " + userId);
+        legacyLog("CHARGE 트랜잭션 완료 - 사용자: " + userId);
+    }
+
+    @Benchmark
+    public void disabled() {
+        trace(disabledLogger);
+    }
+
+    @Benchmark
+    public void enabled(DropCounters counters) {
+        trace(enabledLogger);
+    }
+
+    private void trace(TransactionTraceLogger traceLogger) {
+        traceLogger.trace("CHARGE 트랜잭션 시작 - 사용자: {}, 금액: {}", userId, amount);
+        traceLogger.trace("사용자 포인트 조회 완료 - 사용자: {}, 현재 포인트: {}", userId, point);
+        traceLogger.trace("포인트 충전 계산 - 현재: {}, 충전액: {}", point, amount);
+        traceLogger.trace("포인트 계산 완료 - 사용자: {}, 계산된 포인트: {}", userId, point + amount);
+        traceLogger.trace("포인트 업데이트 완료 - 사용자: {}, 업데이트된 포인트: {}", userId, point + amount);
+        traceLogger.trace("충전 이력 생성 - 사용자: {}, 금액: {}", userId, amount);
+        traceLogger.trace("이력 저장 완료 - 사용자: {}, history ID: {}", userId, userId);
+        traceLogger.trace("CHARGE 트랜잭션 완료 - 사용자: {}", userId);
+    }
+
+    /**
+     * 아직 보고하지 않은 버린 기록 수를 가져갑니다. 여러 스레드가 동시에 가져가도 한 건은 한 번만 셉니다.
+     */
+    private long claimDropped() {
+        long total = enabledLogger.droppedCount();
+        return Math.max(0L, total - reportedDropped.getAndAccumulate(total, Math::max));
+    }
+
+    private void legacyLog(Object obj) {
+        String time = LocalTime.now().format(formatter);
+        nullOut.printf("%s [%9s] %s\n", time, Thread.currentThread().getName(), obj);
+    }
+
+    /**
+     * enabled에서 버린 기록 수
+     * - 로거는 모든 스레드가 함께 쓰므로, iteration이 끝날 때 각 스레드가 그때까지 늘어난 건수 중 아직 보고되지 않은 만큼만 가져갑니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DropCounters {
+
+        public long dropped;
+
+        @TearDown(Level.Iteration)
+        public void collect(TransactionTraceLoggerBenchmark benchmark) {
+            dropped = benchmark.claimDropped();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.support;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청 대상 유저를 고르는 분포입니다.
+ * - HOT : 모든 요청이 한 유저에게 몰립니다. (같은 유저 Lock 경합의 최악 상황)
+ * - UNIFORM : USERS명의 유저에게 고르게 퍼집니다.
+ * - ZIPFIAN : 소수의 유저에게 요청이 몰리는 현실적인 분포입니다. (지수 1.0, 상위 1% 유저가 약 절반의 요청)
+ */
+public enum UserKeyDistribution {
+
+    HOT {
+        @Override
+        public long nextUserId() {
+            return FIRST_USER_ID;
+        }
+    },
+    UNIFORM {
+        @Override
+        public long nextUserId() {
+            return FIRST_USER_ID + ThreadLocalRandom.current().nextInt(USERS);
+        }
+    },
+    ZIPFIAN {
+        @Override
+        public long nextUserId() {
+            return FIRST_USER_ID + Zipf.sample(ThreadLocalRandom.current().nextDouble());
+        }
+    };
+
+    public static final int USERS = 10_000;
+    public static final long FIRST_USER_ID = 1L;
+
+    public abstract long nextUserId();
+
+    /**
+     * 순위 k(0부터)의 유저가 1/(k+1)에 비례하는 확률로 뽑히도록 누적 분포를 미리 계산해 둡니다.
+     */
+    private static final class Zipf {
+
+        private static final double[] CUMULATIVE = cumulative();
+
+        private static double[] cumulative() {
+            double[] cumulative = new double[USERS];
+            double sum = 0;
+            for (int rank = 0; rank < USERS; rank++) {
+                sum += 1.0 / (rank + 1);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < USERS; rank++) {
+                cumulative[rank] /= sum;
+            }
+            return cumulative;
+        }
+
+        private static int sample(double uniform) {
+            int index = Arrays.binarySearch(CUMULATIVE, uniform);
+            return Math.min(index >= 0 ? index : -index - 1, USERS - 1);
+        }
+    }
+}
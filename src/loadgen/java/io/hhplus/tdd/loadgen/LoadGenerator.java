@@ -0,0 +1,124 @@
+package io.hhplus.tdd.loadgen;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 포인트 API에 open loop 부하를 주고 요청 종류별 지연 시간을 HDR 히스토그램으로 기록합니다.
+ * - i번째 요청은 시작 시각 + i / rate 초에 보내기로 예정되며, 응답을 기다리지 않고 다음 요청을 보냅니다.
+ *   서버가 느려져도 요청 간격이 벌어지지 않으므로, 지연 시간은 예정된 시각부터 측정합니다. (coordinated omission 보정)
+ * - 응답을 기다리는 요청이 maxInFlight를 넘으면 보내지 않고, requestTimeout만큼 걸린 요청으로 지연 시간에 기록합니다.
+ * - 요청 종류는 설정한 비율로, 대상 유저는 설정한 분포로 고릅니다.
+ * - 측정이 끝나면 reportDir에 report.json과 요청 종류별 .hgrm 파일을 씁니다. 두 report.json은 LoadReportDiff로 비교합니다.
+ *
+ * 실행 : ./gradlew runLoadGenerator -PloadgenArgs="--rate=2000 --duration=60s"
+ */
+public final class LoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadGeneratorConfig config;
+    private final HttpClient httpClient;
+    private final UserKeySampler userKeySampler;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadGenerator(LoadGeneratorConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.userKeySampler = new UserKeySampler(config.distribution(), config.users());
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadGeneratorConfig config = LoadGeneratorConfig.parse(args);
+        System.out.printf("부하 생성 시작 - %s, rate: %d/s, warmup: %s, duration: %s, 분포: %s%n",
+                config.baseUrl(), config.rate(), config.warmup(), config.duration(), config.distribution());
+
+        LoadReport report = new LoadGenerator(config).run();
+        report.write(config.reportDir());
+        report.print(System.out);
+        System.out.println("리포트 : " + config.reportDir().toAbsolutePath());
+    }
+
+    /**
+     * warmup과 측정 구간 동안 요청을 보내고, 측정 구간의 결과를 리포트로 반환합니다.
+     * - 측정이 끝난 뒤 응답을 기다리는 요청은 DRAIN_TIMEOUT까지 기다립니다.
+     */
+    public LoadReport run() throws InterruptedException {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1);
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + config.warmup().toNanos();
+        long endNanos = measureStartNanos + config.duration().toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * periodNanos / config.rate();
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            parkUntil(intendedNanos);
+            dispatch(intendedNanos, intendedNanos >= measureStartNanos);
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            System.out.printf("응답을 받지 못한 요청 %d건은 기록하지 않습니다.%n", inFlight.get());
+        }
+        return new LoadReport(config, stats, config.duration());
+    }
+
+    private void dispatch(long intendedNanos, boolean measured) {
+        Operation operation = nextOperation();
+        OperationStats operationStats = stats.get(operation);
+        if (inFlight.incrementAndGet() > config.maxInFlight()) {
+            inFlight.decrementAndGet();
+            if (measured) {
+                operationStats.recordDropped(Math.max(System.nanoTime() - intendedNanos, config.requestTimeout().toNanos()));
+            }
+            return;
+        }
+
+        HttpRequest request = operation.request(config.baseUrl(), userKeySampler.next(), config.amount(), config.requestTimeout());
+        long sentNanos = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long completedNanos = System.nanoTime();
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        String status = error == null ? String.valueOf(response.statusCode()) : "error";
+                        operationStats.record(intendedNanos, sentNanos, completedNanos, status);
+                    }
+                });
+    }
+
+    private Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(config.readWeight() + config.chargeWeight() + config.useWeight());
+        if (pick < config.readWeight()) {
+            return Operation.READ;
+        }
+        return pick < config.readWeight() + config.chargeWeight() ? Operation.CHARGE : Operation.USE;
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0; remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 생성기 설정
+ * - baseUrl : 부하를 줄 애플리케이션 주소
+ * - rate : 초당 요청 수 (open loop, 응답을 기다리지 않고 일정한 간격으로 보냅니다.)
+ * - warmup : 측정 전에 같은 부하를 주는 시간, 이 구간의 응답은 기록하지 않습니다.
+ * - duration : 측정 시간
+ * - readWeight, chargeWeight, useWeight : 조회/충전/사용 요청의 비율
+ * - users, distribution : 요청 대상 유저 수와 분포 (UNIFORM, ZIPFIAN)
+ * - amount : 충전/사용 금액
+ * - maxInFlight : 응답을 기다리는 최대 요청 수, 넘는 요청은 보내지 않고 dropped로 기록합니다.
+ * - requestTimeout : 요청 하나가 응답을 기다리는 최대 시간, dropped 요청은 이 시간만큼 걸린 것으로 지연 시간에 기록합니다.
+ * - reportDir : 리포트를 쓸 디렉터리
+ *
+ * 인자는 --key=value 형식이며, 지정하지 않은 값은 기본값을 사용합니다.
+ * 예 : --rate=2000 --duration=60s --readWeight=80 --chargeWeight=15 --useWeight=5 --distribution=ZIPFIAN
+ */
+public record LoadGeneratorConfig(
+        URI baseUrl,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int readWeight,
+        int chargeWeight,
+        int useWeight,
+        int users,
+        UserKeySampler.Distribution distribution,
+        long amount,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path reportDir
+) {
+
+    private static final Set<String> KEYS = Set.of(
+            "baseUrl", "rate", "warmup", "duration", "readWeight", "chargeWeight", "useWeight",
+            "users", "distribution", "amount", "maxInFlight", "requestTimeout", "reportDir"
+    );
+
+    public LoadGeneratorConfig {
+        if (rate < 1) {
+            throw new IllegalArgumentException("rate는 1 이상이어야 합니다. rate: " + rate);
+        }
+        if (readWeight < 0 || chargeWeight < 0 || useWeight < 0 || readWeight + chargeWeight + useWeight == 0) {
+            throw new IllegalArgumentException(String.format(
+                    "요청 비율은 0 이상이고 합이 양수여야 합니다. read: %d, charge: %d, use: %d", readWeight, chargeWeight, useWeight));
+        }
+        if (users < 1) {
+            throw new IllegalArgumentException("users는 1 이상이어야 합니다. users: " + users);
+        }
+        if (requestTimeout.isZero() || requestTimeout.isNegative()) {
+            throw new IllegalArgumentException("requestTimeout은 양수여야 합니다. requestTimeout: " + requestTimeout);
+        }
+    }
+
+    public static LoadGeneratorConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다. 인자: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String key = arg.substring(2, separator);
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException(String.format("알 수 없는 인자입니다: %s (사용 가능 : %s)", key, KEYS));
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+
+        return new LoadGeneratorConfig(
+                URI.create(values.getOrDefault("baseUrl", "http://localhost:8080")),
+                Integer.parseInt(values.getOrDefault("rate", "1000")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "30s")),
+                Integer.parseInt(values.getOrDefault("readWeight", "80")),
+                Integer.parseInt(values.getOrDefault("chargeWeight", "15")),
+                Integer.parseInt(values.getOrDefault("useWeight", "5")),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                UserKeySampler.Distribution.valueOf(values.getOrDefault("distribution", "ZIPFIAN")),
+                Long.parseLong(values.getOrDefault("amount", "10")),
+                Integer.parseInt(values.getOrDefault("maxInFlight", "20000")),
+                duration(values.getOrDefault("requestTimeout", "60s")),
+                Path.of(values.getOrDefault("reportDir", "build/loadgen"))
+        );
+    }
+
+    /**
+     * 30s, 500ms, 2m 형식의 시간을 읽습니다.
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("시간은 ms, s, m 단위로 지정해야 합니다. 값: " + value);
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 생성 결과 리포트
+ * - report.json : 설정, 요청 종류별 건수, 응답 상태별 건수, 지연 시간 분위수(마이크로초), 실제 처리량
+ *   키 순서가 항상 같으므로 빌드 간 리포트를 diff로 바로 비교할 수 있습니다.
+ * - dropped 요청이 있으면 지연 시간에 requestTimeout으로 포함되었음을 report.json의 droppedRecordedAsMicros와 출력의 주의 문구로 표시합니다.
+ * - {operation}.hgrm : 보정한 지연 시간의 전체 분포 (밀리초, HdrHistogram 플로터 형식)
+ */
+public final class LoadReport {
+
+    static final String REPORT_FILE = "report.json";
+    static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadGeneratorConfig config;
+    private final Map<Operation, OperationStats> stats;
+    private final Duration measured;
+
+    LoadReport(LoadGeneratorConfig config, Map<Operation, OperationStats> stats, Duration measured) {
+        this.config = config;
+        this.stats = stats;
+        this.measured = measured;
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        OBJECT_MAPPER.writeValue(directory.resolve(REPORT_FILE).toFile(), toMap());
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latency().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s%n", "op", "count", "dropped", "p50(us)", "p99(us)", "p99.9(us)", "max(us)", "svc p99");
+        stats.forEach((operation, each) -> out.printf("%-8s %10d %8d %10d %10d %10d %10d %10d%n",
+                operation, each.completed(), each.dropped(),
+                each.latency().getValueAtPercentile(50.0), each.latency().getValueAtPercentile(99.0),
+                each.latency().getValueAtPercentile(99.9), each.latency().getMaxValue(),
+                each.serviceTime().getValueAtPercentile(99.0)));
+        out.printf("achieved rate: %.1f/s (target %d/s)%n", achievedRate(), config.rate());
+        long dropped = dropped();
+        if (dropped > 0) {
+            out.printf("주의: maxInFlight(%d)를 넘어 보내지 못한 요청 %d건이 지연 시간 분위수에 %s로 포함되어 있습니다.%n",
+                    config.maxInFlight(), dropped, config.requestTimeout());
+        }
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> configMap = new LinkedHashMap<>();
+        configMap.put("baseUrl", config.baseUrl().toString());
+        configMap.put("rate", config.rate());
+        configMap.put("warmup", config.warmup().toString());
+        configMap.put("duration", config.duration().toString());
+        configMap.put("readWeight", config.readWeight());
+        configMap.put("chargeWeight", config.chargeWeight());
+        configMap.put("useWeight", config.useWeight());
+        configMap.put("users", config.users());
+        configMap.put("distribution", config.distribution().name());
+        configMap.put("amount", config.amount());
+        configMap.put("maxInFlight", config.maxInFlight());
+        configMap.put("requestTimeout", config.requestTimeout().toString());
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, each) -> {
+            Map<String, Object> operationMap = new LinkedHashMap<>();
+            operationMap.put("count", each.completed());
+            operationMap.put("dropped", each.dropped());
+            operationMap.put("statuses", each.statuses());
+            operationMap.put("latencyMicros", summary(each.latency()));
+            operationMap.put("serviceTimeMicros", summary(each.serviceTime()));
+            operations.put(operation.name(), operationMap);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", configMap);
+        report.put("achievedRate", Math.round(achievedRate() * 10) / 10.0);
+        report.put("dropped", dropped());
+        report.put("droppedRecordedAsMicros", dropped() > 0 ? config.requestTimeout().toNanos() / 1_000L : null);
+        report.put("operations", operations);
+        return report;
+    }
+
+    private double achievedRate() {
+        long completed = stats.values().stream().mapToLong(OperationStats::completed).sum();
+        return completed * 1000.0 / Math.max(1L, measured.toMillis());
+    }
+
+    private long dropped() {
+        return stats.values().stream().mapToLong(OperationStats::dropped).sum();
+    }
+
+    private static Map<String, Object> summary(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            summary.put(percentileKey(percentile), histogram.getValueAtPercentile(percentile));
+        }
+        summary.put("max", histogram.getMaxValue());
+        summary.put("mean", Math.round(histogram.getMean() * 10) / 10.0);
+        return summary;
+    }
+
+    static String percentileKey(double percentile) {
+        return "p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile));
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 두 빌드의 report.json을 비교합니다.
+ * - 요청 종류별 건수와 지연 시간 분위수를 나란히 출력하고, 기준 대비 변화율을 표시합니다.
+ * - 인자는 리포트 파일 또는 리포트가 있는 디렉터리입니다. (기준, 비교 대상 순서)
+ *
+ * 실행 : ./gradlew diffLoadReports -PloadgenBase=build/loadgen-main -PloadgenCandidate=build/loadgen
+ */
+public final class LoadReportDiff {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("기준 리포트와 비교할 리포트 경로가 필요합니다. 예: build/loadgen-main build/loadgen");
+        }
+        JsonNode base = read(Path.of(args[0]));
+        JsonNode candidate = read(Path.of(args[1]));
+
+        if (!base.path("config").equals(candidate.path("config"))) {
+            System.out.println("주의: 두 리포트의 부하 설정이 다릅니다.");
+        }
+        System.out.printf("%-28s %12s %12s %9s%n", "", "base", "candidate", "delta");
+        line("achievedRate", base.path("achievedRate"), candidate.path("achievedRate"));
+        line("dropped", base.path("dropped"), candidate.path("dropped"));
+
+        Iterator<Map.Entry<String, JsonNode>> operations = base.path("operations").fields();
+        while (operations.hasNext()) {
+            Map.Entry<String, JsonNode> operation = operations.next();
+            JsonNode baseOperation = operation.getValue();
+            JsonNode candidateOperation = candidate.path("operations").path(operation.getKey());
+
+            line(operation.getKey() + " count", baseOperation.path("count"), candidateOperation.path("count"));
+            line(operation.getKey() + " dropped", baseOperation.path("dropped"), candidateOperation.path("dropped"));
+            Iterator<Map.Entry<String, JsonNode>> latencies = baseOperation.path("latencyMicros").fields();
+            while (latencies.hasNext()) {
+                Map.Entry<String, JsonNode> latency = latencies.next();
+                line(operation.getKey() + " " + latency.getKey() + "(us)",
+                        latency.getValue(), candidateOperation.path("latencyMicros").path(latency.getKey()));
+            }
+        }
+    }
+
+    private static JsonNode read(Path path) throws IOException {
+        Path file = Files.isDirectory(path) ? path.resolve(LoadReport.REPORT_FILE) : path;
+        return OBJECT_MAPPER.readTree(file.toFile());
+    }
+
+    private static void line(String label, JsonNode base, JsonNode candidate) {
+        if (base.isMissingNode() || candidate.isMissingNode()) {
+            System.out.printf("%-28s %12s %12s %9s%n", label, base.asText("-"), candidate.asText("-"), "-");
+            return;
+        }
+        double before = base.asDouble();
+        double after = candidate.asDouble();
+        String delta = before == 0 ? (after == 0 ? "0.0%" : "new") : String.format("%+.1f%%", (after - before) * 100 / before);
+        System.out.printf("%-28s %12s %12s %9s%n", label, base.asText(), candidate.asText(), delta);
+    }
+}
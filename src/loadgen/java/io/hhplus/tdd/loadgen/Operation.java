@@ -0,0 +1,46 @@
+package io.hhplus.tdd.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하 생성기가 보내는 요청 종류
+ * - READ : GET /point/{id}
+ * - CHARGE : PATCH /point/{id}/charge
+ * - USE : PATCH /point/{id}/use
+ */
+public enum Operation {
+
+    READ {
+        @Override
+        HttpRequest request(URI baseUrl, long userId, long amount, Duration timeout) {
+            return builder(baseUrl.resolve("/point/" + userId), timeout).GET().build();
+        }
+    },
+    CHARGE {
+        @Override
+        HttpRequest request(URI baseUrl, long userId, long amount, Duration timeout) {
+            return patch(baseUrl.resolve("/point/" + userId + "/charge"), amount, timeout);
+        }
+    },
+    USE {
+        @Override
+        HttpRequest request(URI baseUrl, long userId, long amount, Duration timeout) {
+            return patch(baseUrl.resolve("/point/" + userId + "/use"), amount, timeout);
+        }
+    };
+
+    abstract HttpRequest request(URI baseUrl, long userId, long amount, Duration timeout);
+
+    private static HttpRequest.Builder builder(URI uri, Duration timeout) {
+        return HttpRequest.newBuilder(uri).timeout(timeout);
+    }
+
+    private static HttpRequest patch(URI uri, long amount, Duration timeout) {
+        return builder(uri, timeout)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류 하나의 측정 결과
+ * - latency : 요청을 보내기로 예정된 시각부터 응답까지의 시간 (coordinated omission 보정)
+ *   서버가 밀려 응답이 늦어지더라도 부하 생성기는 예정된 시각에 다음 요청을 보내므로,
+ *   서버가 멈춘 동안 보내지 못했어야 할 요청의 대기 시간까지 모두 기록됩니다.
+ *   maxInFlight를 넘어 보내지 못한(dropped) 요청도 요청 제한 시간(requestTimeout)만큼 걸린 것으로 함께 기록하므로,
+ *   서버가 포화되어 요청을 버리는 구간에서도 가장 느린 요청이 분위수와 최댓값에서 빠지지 않습니다.
+ * - serviceTime : 실제로 요청을 보낸 시각부터 응답까지의 시간 (보정 전 값, 비교용, dropped 요청은 포함하지 않습니다.)
+ * - 값의 단위는 마이크로초이며, 1시간까지 유효 숫자 3자리로 기록합니다.
+ */
+public final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = 3_600_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, String status) {
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (completedNanos - intendedNanos) / 1_000L));
+        serviceTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (completedNanos - sentNanos) / 1_000L));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void recordDropped(long latencyNanos) {
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, latencyNanos / 1_000L));
+        dropped.increment();
+    }
+
+    public Histogram latency() {
+        return latency;
+    }
+
+    public Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 응답을 받은 요청 수 (latency에 함께 기록된 dropped 요청은 제외)
+     */
+    public long completed() {
+        return latency.getTotalCount() - dropped();
+    }
+
+    /**
+     * 응답 상태별 건수 (HTTP 상태 코드, 연결 실패는 "error"), 키 순서로 정렬
+     */
+    public Map<String, Long> statuses() {
+        Map<String, Long> sorted = new TreeMap<>();
+        statuses.forEach((status, count) -> sorted.put(status, count.sum()));
+        return sorted;
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.loadgen;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 대상 유저 ID를 고릅니다. 유저 ID는 1부터 users까지입니다.
+ * - UNIFORM : 모든 유저에게 고르게 퍼집니다.
+ * - ZIPFIAN : 순위 k(0부터)의 유저가 1/(k+1)에 비례하는 확률로 뽑혀 소수 유저에게 요청이 몰립니다.
+ */
+public final class UserKeySampler {
+
+    public enum Distribution {
+        UNIFORM, ZIPFIAN
+    }
+
+    private final Distribution distribution;
+    private final int users;
+    private final double[] cumulative;
+
+    public UserKeySampler(Distribution distribution, int users) {
+        this.distribution = distribution;
+        this.users = users;
+        this.cumulative = distribution == Distribution.ZIPFIAN ? zipfCumulative(users) : null;
+    }
+
+    public long next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (distribution == Distribution.UNIFORM) {
+            return 1L + random.nextInt(users);
+        }
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return 1L + Math.min(index >= 0 ? index : -index - 1, users - 1);
+    }
+
+    private static double[] zipfCumulative(int users) {
+        double[] cumulative = new double[users];
+        double sum = 0;
+        for (int rank = 0; rank < users; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < users; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+}
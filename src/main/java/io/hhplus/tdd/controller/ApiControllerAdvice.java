@@ -1,13 +1,63 @@
 package io.hhplus.tdd.controller;
 
 import io.hhplus.tdd.controller.dto.ErrorResponse;
+import io.hhplus.tdd.service.executor.OptimisticConflictException;
+import io.hhplus.tdd.service.lock.UserLockProperties;
+import io.hhplus.tdd.service.lock.UserLockRejectedException;
+import io.hhplus.tdd.support.IdempotencyKeyReusedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+
+    private final UserLockProperties userLockProperties;
+
+    ApiControllerAdvice(UserLockProperties userLockProperties) {
+        this.userLockProperties = userLockProperties;
+    }
+
+    @ExceptionHandler(value = OptimisticConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticConflict(OptimisticConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    /**
+     * 이미 사용한 Idempotency-Key로 금액이 다른 요청이 들어오면 422로 응답합니다.
+     */
+    @ExceptionHandler(value = IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
+
+    /**
+     * 유저 Lock 대기 한도를 넘어 거절한 요청은 429와 함께 Retry-After(초)로 재시도 시점을 알려줍니다.
+     */
+    @ExceptionHandler(value = UserLockRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleUserLockRejected(UserLockRejectedException e) {
+        return tooManyRequests(e);
+    }
+
+    /**
+     * 비동기 API의 대기 작업 수 한도를 넘어 거절한 요청도 같은 방식으로 응답합니다.
+     */
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return tooManyRequests(e);
+    }
+
+    private ResponseEntity<ErrorResponse> tooManyRequests(RuntimeException e) {
+        long retryAfterSeconds = Math.max(1L, (userLockProperties.retryAfter().toMillis() + 999L) / 1000L);
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
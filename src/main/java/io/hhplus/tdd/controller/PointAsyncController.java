@@ -0,0 +1,62 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.async.PointAsyncService;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController의 조회/충전/사용 API를 비동기로 제공합니다.
+ * - 결과를 CompletableFuture로 반환하므로, 테이블 호출을 기다리는 동안 요청 처리 스레드를 점유하지 않습니다.
+ * - 실제 작업은 PointAsyncService의 전용 스레드에서 실행되며, 같은 유저의 충전/사용은 도착 순서대로 처리됩니다.
+ */
+@RestController
+@RequestMapping("/point/async")
+public class PointAsyncController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointAsyncController.class);
+
+    private final PointAsyncService pointAsyncService;
+
+    public PointAsyncController(PointAsyncService pointAsyncService) {
+        this.pointAsyncService = pointAsyncService;
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<UserPoint> point(@PathVariable(name = "id") long id) {
+        logger.info("[{}] ======  /point/async/{id} [userId : {}]", getClass().getSimpleName(), id);
+        return pointAsyncService.point(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(
+            @PathVariable(name = "id") long id
+    ) {
+        logger.info("[{}] ======  /point/async/{id}/histories [userId : {}]", getClass().getSimpleName(), id);
+        return pointAsyncService.history(id);
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable(name = "id") long id,
+            @RequestBody long amount
+    ) {
+        logger.info("[{}] ======  /point/async/{id}/charge [userId : {}, amount : {}]", getClass().getSimpleName(), id, amount);
+        return pointAsyncService.executePointTransaction(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable(name = "id") long id,
+            @RequestBody long amount
+    ) {
+        logger.info("[{}] ======  /point/async/{id}/use [userId : {}, amount : {}]", getClass().getSimpleName(), id, amount);
+        return pointAsyncService.executePointTransaction(id, amount, TransactionType.USE, System.currentTimeMillis());
+    }
+}
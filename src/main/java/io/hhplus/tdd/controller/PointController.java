@@ -1,13 +1,32 @@
 package io.hhplus.tdd.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.controller.dto.PointTransactionBatchRequest;
+import io.hhplus.tdd.controller.dto.PointTransactionBatchResponse;
+import io.hhplus.tdd.controller.dto.PointTransferRequest;
 import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistoryPage;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.domain.PointTransfer;
 import io.hhplus.tdd.domain.UserPoint;
 import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.batch.PointBatchService;
+import io.hhplus.tdd.service.batch.PointTransactionResult;
+import io.hhplus.tdd.service.idempotency.PointIdempotency;
+import io.hhplus.tdd.service.transaction.TransactionType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/point")
@@ -17,9 +36,15 @@ public class PointController {
     private static final long currTimeMillis = System.currentTimeMillis();
 
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointIdempotency pointIdempotency;
+    private final ObjectMapper objectMapper;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, PointBatchService pointBatchService, PointIdempotency pointIdempotency, ObjectMapper objectMapper) {
         this.pointService = pointService;
+        this.pointBatchService = pointBatchService;
+        this.pointIdempotency = pointIdempotency;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/{id}")
@@ -45,35 +70,162 @@ public class PointController {
         return rtn;
     }
 
+    @GetMapping("{id}/histories/page")
+    public PointHistoryPage historyPage(
+            @PathVariable(name = "id") long id,
+            @RequestParam(name = "cursor", defaultValue = "0") long cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "type", required = false) TransactionType type,
+            @RequestParam(name = "fromMillis", required = false) Long fromMillis,
+            @RequestParam(name = "toMillis", required = false) Long toMillis
+    ) {
+        logger.info("====== /{id}/histories/page [{}.historyPage()] start ======", getClass().getSimpleName());
+
+        logger.info("[{}] ======  /{id}/histories/page [userId : {}, cursor : {}, size : {}]", getClass().getSimpleName(), id, cursor, size);
+        PointHistoryPage rtn = pointService.historyPage(id, cursor, size, type, fromMillis, toMillis);
+
+        logger.info("====== /{id}/histories/page [{}.historyPage()] end ======", getClass().getSimpleName());
+        return rtn;
+    }
+
+    /**
+     * 유저의 포인트 이력 건수와 타입별 금액 합계를 조회합니다.
+     */
+    @GetMapping("{id}/histories/summary")
+    public PointHistorySummary historySummary(
+            @PathVariable(name = "id") long id,
+            @RequestParam(name = "type", required = false) TransactionType type,
+            @RequestParam(name = "fromMillis", required = false) Long fromMillis,
+            @RequestParam(name = "toMillis", required = false) Long toMillis
+    ) {
+        logger.info("====== /{id}/histories/summary [{}.historySummary()] start ======", getClass().getSimpleName());
+
+        logger.info("[{}] ======  /{id}/histories/summary [userId : {}, type : {}]", getClass().getSimpleName(), id, type);
+        PointHistorySummary rtn = pointService.historySummary(id, type, fromMillis, toMillis);
+
+        logger.info("====== /{id}/histories/summary [{}.historySummary()] end ======", getClass().getSimpleName());
+        return rtn;
+    }
+
+    /**
+     * 유저의 포인트 이력 전체를 NDJSON(한 줄에 이력 하나)으로 내려받습니다.
+     * - 이력을 읽는 대로 응답 스트림에 바로 쓰므로, 이력 수와 관계없이 서버 메모리 사용량이 일정합니다.
+     * - Accept-Encoding에 gzip이 있으면 gzip으로 압축하여 내려줍니다.
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable(name = "id") long id,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        logger.info("====== /{id}/histories/export [{}.exportHistory()] start ======", getClass().getSimpleName());
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        logger.info("[{}] ======  /{id}/histories/export [userId : {}, gzip : {}]", getClass().getSimpleName(), id, gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            writeNdjson(id, out);
+            if (out instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+            out.flush();
+            logger.info("====== /{id}/histories/export [{}.exportHistory()] end ======", getClass().getSimpleName());
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    private void writeNdjson(long id, OutputStream out) throws IOException {
+        try {
+            pointService.streamHistory(id, pointHistory -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(pointHistory));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 유저의 포인트를 충전합니다.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청은 다시 충전하지 않고 첫 요청의 결과를 돌려줍니다.
+     */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable(name = "id") long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(name = PointIdempotency.HEADER, required = false) String idempotencyKey
     ) {
         logger.info("====== /{id}/point [{}.charge()] start ======", getClass().getSimpleName());
 
         logger.info("[{}] ======  /{id}/point [userId : {}]", getClass().getSimpleName(), id);
         logger.info("[{}] ======  /{id}/point [amount : {}]", getClass().getSimpleName(), amount);
 
-        UserPoint rtn = pointService.charge(id, amount, currTimeMillis);
+        UserPoint rtn = pointIdempotency.execute(idempotencyKey, id, TransactionType.CHARGE, amount,
+                () -> pointService.charge(id, amount, currTimeMillis));
         logger.info("[{}] ======  /{id}/point [rtn : {}]", getClass().getSimpleName(), rtn);
 
         logger.info("====== /{id}/point [{}.charge()] end ======", getClass().getSimpleName());
         return rtn;
     }
 
+    /**
+     * 유저의 포인트를 사용합니다.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청은 다시 사용하지 않고 첫 요청의 결과를 돌려줍니다.
+     */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable(name = "id") long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(name = PointIdempotency.HEADER, required = false) String idempotencyKey
     ) {
         logger.info("====== /{id}/use [{}.use()] start ======", getClass().getSimpleName());
 
         logger.info("[{}] ======  /{id}/use [currTimeMillis : {}]", getClass().getSimpleName(), currTimeMillis);
-        UserPoint rtn = pointService.use(id,amount, currTimeMillis);
+        UserPoint rtn = pointIdempotency.execute(idempotencyKey, id, TransactionType.USE, amount,
+                () -> pointService.use(id, amount, currTimeMillis));
 
         logger.info("[{}] ======  /{id}/use [rtn : {}]", getClass().getSimpleName(), rtn);
         logger.info("====== /{id}/use [{}.use()] end ======", getClass().getSimpleName());
         return rtn;
     }
+
+    @PatchMapping("{id}/transfer")
+    public PointTransfer transfer(
+            @PathVariable(name = "id") long id,
+            @RequestBody PointTransferRequest request
+    ) {
+        logger.info("====== /{id}/transfer [{}.transfer()] start ======", getClass().getSimpleName());
+
+        logger.info("[{}] ======  /{id}/transfer [userId : {}, toUserId : {}, amount : {}]",
+                getClass().getSimpleName(), id, request.toUserId(), request.amount());
+        PointTransfer rtn = pointService.transfer(id, request.toUserId(), request.amount(), System.currentTimeMillis());
+
+        logger.info("[{}] ======  /{id}/transfer [rtn : {}]", getClass().getSimpleName(), rtn);
+        logger.info("====== /{id}/transfer [{}.transfer()] end ======", getClass().getSimpleName());
+        return rtn;
+    }
+
+    @PostMapping("/transactions:batch")
+    public PointTransactionBatchResponse batch(
+            @RequestBody PointTransactionBatchRequest request
+    ) {
+        logger.info("====== /transactions:batch [{}.batch()] start ======", getClass().getSimpleName());
+
+        logger.info("[{}] ======  /transactions:batch [items : {}]", getClass().getSimpleName(), request.items().size());
+        List<PointTransactionResult> results = pointBatchService.execute(request.items());
+
+        logger.info("====== /transactions:batch [{}.batch()] end ======", getClass().getSimpleName());
+        return PointTransactionBatchResponse.from(results);
+    }
 }
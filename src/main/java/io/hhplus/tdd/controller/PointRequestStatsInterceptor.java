@@ -0,0 +1,40 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * PointController 요청의 처리 시간을 PointMetrics의 최근 통계에 기록합니다.
+ * - 요청 종류는 처리한 컨트롤러 메서드 이름(point, charge, use ...)으로 구분합니다.
+ * - 스트리밍 응답처럼 비동기로 끝나는 요청은 응답이 끝난 시점(두 번째 dispatch의 afterCompletion)까지를 기록합니다.
+ */
+public class PointRequestStatsInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS = PointRequestStatsInterceptor.class.getName() + ".startNanos";
+
+    private final PointMetrics pointMetrics;
+
+    public PointRequestStatsInterceptor(PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_NANOS) == null) {
+            request.setAttribute(START_NANOS, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && handlerMethod.getBeanType() == PointController.class
+                && request.getAttribute(START_NANOS) instanceof Long startNanos) {
+            pointMetrics.recordRequest(handlerMethod.getMethod().getName(), System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.controller.dto.PointStatsResponse;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.service.lock.UserLockManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 메트릭 저장소 없이 서비스 상태를 확인하는 API
+ * - PointMetrics.STATS_WINDOW 동안의 요청/테이블 호출별 처리량과 p50/p95/p99/max 지연 시간
+ * - 현재 Lock을 잡고 있거나 기다리는 유저 수와 대기 요청이 가장 많은 유저 DEEPEST_QUEUES명
+ *   (STRIPED 모드에서는 유저별 대기 수를 세지 않으므로 maxQueueDepth 또는 lockTimeout을 켠 경우에만 표시됩니다.)
+ */
+@RestController
+public class PointStatsController {
+
+    static final String STATS_PATH = "/point/_stats";
+    private static final int DEEPEST_QUEUES = 10;
+
+    private final PointMetrics pointMetrics;
+    private final UserLockManager userLockManager;
+
+    public PointStatsController(PointMetrics pointMetrics, UserLockManager userLockManager) {
+        this.pointMetrics = pointMetrics;
+        this.userLockManager = userLockManager;
+    }
+
+    @GetMapping(STATS_PATH)
+    public PointStatsResponse stats() {
+        Map<Long, Integer> queueDepths = userLockManager.queueDepths();
+        List<PointStatsResponse.QueueDepth> deepestQueues = queueDepths.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(DEEPEST_QUEUES)
+                .map(entry -> new PointStatsResponse.QueueDepth(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return PointStatsResponse.of(
+                PointMetrics.STATS_WINDOW.toMillis(),
+                pointMetrics.requestStats(),
+                pointMetrics.tableCallStats(),
+                new PointStatsResponse.Locks(queueDepths.size(), userLockManager.liveLockCount(), deepestQueues)
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final PointMetrics pointMetrics;
+
+    public WebMvcConfig(PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new PointRequestStatsInterceptor(pointMetrics))
+                .addPathPatterns("/point/**")
+                .excludePathPatterns(PointStatsController.STATS_PATH);
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.controller.dto;
+
+import io.hhplus.tdd.support.RollingHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 window 동안의 처리량, 지연 시간과 현재 유저 Lock 상태
+ * - operations : PointController 메서드별 요청 통계
+ * - tableCalls : 테이블 호출(table.operation)별 통계
+ * - locks : Lock을 잡고 있거나 기다리는 유저 수와 대기 요청이 가장 많은 유저들
+ * 지연 시간의 단위는 마이크로초입니다.
+ */
+public record PointStatsResponse(
+        long windowMillis,
+        Map<String, Latency> operations,
+        Map<String, Latency> tableCalls,
+        Locks locks
+) {
+
+    public static PointStatsResponse of(long windowMillis,
+                                        Map<String, RollingHistogram.Snapshot> operations,
+                                        Map<String, RollingHistogram.Snapshot> tableCalls,
+                                        Locks locks) {
+        return new PointStatsResponse(windowMillis, latencies(operations), latencies(tableCalls), locks);
+    }
+
+    private static Map<String, Latency> latencies(Map<String, RollingHistogram.Snapshot> snapshots) {
+        Map<String, Latency> latencies = new LinkedHashMap<>();
+        snapshots.forEach((name, snapshot) -> latencies.put(name, Latency.from(snapshot)));
+        return latencies;
+    }
+
+    public record Latency(
+            long count,
+            double throughputPerSecond,
+            long p50Micros,
+            long p95Micros,
+            long p99Micros,
+            long maxMicros
+    ) {
+
+        static Latency from(RollingHistogram.Snapshot snapshot) {
+            return new Latency(
+                    snapshot.count(),
+                    Math.round(snapshot.throughputPerSecond() * 10) / 10.0,
+                    snapshot.p50() / 1_000L,
+                    snapshot.p95() / 1_000L,
+                    snapshot.p99() / 1_000L,
+                    snapshot.max() / 1_000L
+            );
+        }
+    }
+
+    public record Locks(
+            int lockedUsers,
+            int liveLocks,
+            List<QueueDepth> deepestQueues
+    ) {
+    }
+
+    public record QueueDepth(
+            long userId,
+            int depth
+    ) {
+    }
+}
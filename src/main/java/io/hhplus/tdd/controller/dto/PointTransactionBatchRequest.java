@@ -0,0 +1,10 @@
+package io.hhplus.tdd.controller.dto;
+
+import io.hhplus.tdd.service.batch.PointTransactionCommand;
+
+import java.util.List;
+
+public record PointTransactionBatchRequest(
+        List<PointTransactionCommand> items
+) {
+}
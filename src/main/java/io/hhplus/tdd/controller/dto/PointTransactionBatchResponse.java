@@ -0,0 +1,56 @@
+package io.hhplus.tdd.controller.dto;
+
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.batch.PointTransactionResult;
+import io.hhplus.tdd.service.executor.OptimisticConflictException;
+import io.hhplus.tdd.service.lock.UserLockRejectedException;
+import io.hhplus.tdd.service.transaction.TransactionType;
+
+import java.util.List;
+
+/**
+ * 일괄 트랜잭션 처리 결과
+ * - 요청 순서대로 건별 결과를 담으며, 실패한 건은 userPoint 대신 error를 담습니다.
+ * - 요청 값이나 잔액 문제로 실패한 건은 "400", 동시 갱신 충돌은 "409", 유저 Lock 대기 한도 초과는 "429", 그 외 오류는 "500"으로 구분합니다.
+ */
+public record PointTransactionBatchResponse(
+        List<Item> results
+) {
+
+    public static PointTransactionBatchResponse from(List<PointTransactionResult> results) {
+        return new PointTransactionBatchResponse(results.stream().map(Item::from).toList());
+    }
+
+    public record Item(
+            long userId,
+            long amount,
+            TransactionType type,
+            UserPoint userPoint,
+            ErrorResponse error
+    ) {
+
+        static Item from(PointTransactionResult result) {
+            return new Item(
+                    result.command().userId(),
+                    result.command().amount(),
+                    result.command().type(),
+                    result.userPoint(),
+                    result.isSuccess() ? null : toErrorResponse(result.error())
+            );
+        }
+
+        private static ErrorResponse toErrorResponse(RuntimeException e) {
+            if (e instanceof IllegalArgumentException || e instanceof InsufficientPointException) {
+                return new ErrorResponse("400", e.getMessage());
+            }
+            if (e instanceof OptimisticConflictException) {
+                return new ErrorResponse("409", e.getMessage());
+            }
+            if (e instanceof UserLockRejectedException) {
+                return new ErrorResponse("429", e.getMessage());
+            }
+            return new ErrorResponse("500", "에러가 발생했습니다.");
+        }
+    }
+}
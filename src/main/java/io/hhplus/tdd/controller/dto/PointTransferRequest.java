@@ -0,0 +1,7 @@
+package io.hhplus.tdd.controller.dto;
+
+public record PointTransferRequest(
+        long toUserId,
+        long amount
+) {
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.domain;
+
+/**
+ * 사용하려는 포인트보다 잔액이 적을 때 발생합니다.
+ */
+public class InsufficientPointException extends RuntimeException {
+
+    public InsufficientPointException(String message) {
+        super(message);
+    }
+}
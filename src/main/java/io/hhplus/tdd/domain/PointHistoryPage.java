@@ -0,0 +1,13 @@
+package io.hhplus.tdd.domain;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 페이지
+ * - nextCursor : 다음 페이지 조회에 사용할 커서 (마지막 이력 ID), 더 조회할 이력이 없으면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> items,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.domain;
+
+/**
+ * 조건에 맞는 포인트 이력의 합계
+ * - transferredInAmount / transferredOutAmount : 받은 이체 금액과 보낸 이체 금액 (모두 양수)
+ */
+public record PointHistorySummary(
+        long userId,
+        long count,
+        long chargedAmount,
+        long usedAmount,
+        long transferredInAmount,
+        long transferredOutAmount
+) {
+}
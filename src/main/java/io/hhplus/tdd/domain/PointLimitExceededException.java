@@ -0,0 +1,11 @@
+package io.hhplus.tdd.domain;
+
+/**
+ * 충전 후 잔액이 한도를 넘을 때 발생합니다.
+ */
+public class PointLimitExceededException extends IllegalArgumentException {
+
+    public PointLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.domain;
+
+/**
+ * 포인트 이체 결과
+ * - from : 이체 후 보낸 유저의 포인트 정보
+ * - to : 이체 후 받은 유저의 포인트 정보
+ */
+public record PointTransfer(
+        UserPoint from,
+        UserPoint to
+) {
+}
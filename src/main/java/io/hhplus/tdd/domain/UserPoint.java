@@ -13,14 +13,14 @@ public record UserPoint(
     }
 
 
-    public synchronized long charge(long amount) {
+    public long charge(long amount) {
         if (!canCharge(amount)) {
             if (amount < 0) {
                 throw new IllegalArgumentException(
                         String.format("충전 포인트는 양수여야 합니다. 충전 시도량: %d", amount)
                 );
             } else {
-                throw new IllegalArgumentException(
+                throw new PointLimitExceededException(
                         String.format("충전 한도 초과. 현재 포인트: %d, 충전 시도량: %d, 한도: %d",
                                 this.point, amount, LIMIT_POINT)
                 );
@@ -31,7 +31,7 @@ public record UserPoint(
 
     public long use(long requiredPoint) {
         if (!isEnoughPoint(requiredPoint)) {
-            throw new RuntimeException("포인트가 부족합니다.");
+            throw new InsufficientPointException("포인트가 부족합니다.");
         }
         return this.point - requiredPoint;
     }
@@ -0,0 +1,379 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.PointLimitExceededException;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.service.executor.OptimisticConflictException;
+import io.hhplus.tdd.service.lock.AdaptiveUserLockManager;
+import io.hhplus.tdd.service.lock.UserLockManager;
+import io.hhplus.tdd.service.lock.UserLockRejectedException;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.support.IdempotencyStore;
+import io.hhplus.tdd.support.RollingHistogram;
+import io.hhplus.tdd.support.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 처리 경로의 지연 시간과 결과를 Micrometer로 기록합니다.
+ * - point.lock.wait / point.lock.hold : 유저 Lock 획득 대기 시간과 보유 시간
+ * - point.lock.live / point.lock.collision.rate : 메모리에 유지 중인 Lock 객체 수와 다른 유저와 같은 Lock을 두고 경합한 비율
+ * - point.table.call : UserPointTable, PointHistoryTable 호출 시간 (table, operation 태그)
+ * - point.transaction : 트랜잭션 처리 시간 (type, outcome 태그), 횟수가 결과별 건수가 됩니다.
+ * - point.optimistic.conflicts : 낙관적 갱신의 버전 충돌 횟수 (type 태그)
+ * - point.single_flight.* : 동시 조회 합치기의 호출 수, 실제 실행 수, fan-in 비율 (name 태그)
+ * - point.history.queue.depth / point.history.lag : 저장 대기 중인 이력 수와 가장 오래된 이력의 대기 시간(ms) (ASYNC)
+ * - point.history.write.failures : ASYNC 이력 저장 실패 횟수 (result 태그 : retried, dropped)
+ * - point.cache.dirty / point.cache.flush.lag : 테이블에 아직 쓰지 않은 잔액 수와 마지막 flush의 지연 시간(ms) (WRITE_BEHIND)
+ * - point.wal.sync / point.wal.sync.records : WAL 디스크 반영(force) 시간과 한 번에 반영한 레코드 수
+ * - point.wal.snapshot / point.wal.snapshot.users : 잔액 스냅샷 저장 시간과 스냅샷에 담긴 유저 수
+ * - point.recovery / point.recovery.records : 시작 시 복구 시간과 복구한 레코드 수 (kind 태그 : indexed, replayed)
+ *
+ * percentile histogram은 management.metrics.distribution.percentiles-histogram.point 설정으로 켭니다.
+ *
+ * 테이블 호출과 PointController 요청의 처리 시간은 최근 STATS_WINDOW 동안의 RollingHistogram에도 기록하여
+ * 외부 메트릭 저장소 없이 GET /point/_stats로 확인할 수 있게 합니다.
+ */
+@Component
+public class PointMetrics {
+
+    public static final Duration STATS_WINDOW = Duration.ofMinutes(1);
+    private static final int STATS_SLOTS = 12;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer lockWaitTimer;
+    private final Timer lockHoldTimer;
+    private final DistributionSummary lockQueueDepth;
+    private final Timer walSyncTimer;
+    private final DistributionSummary walSyncRecords;
+    private final Timer snapshotTimer;
+    private final DistributionSummary snapshotUsers;
+    private final Map<String, Timer> tableCallTimers = new ConcurrentHashMap<>();
+    private final Map<String, RollingHistogram> tableCallWindows = new ConcurrentHashMap<>();
+    private final Map<String, RollingHistogram> requestWindows = new ConcurrentHashMap<>();
+    private final Map<TransactionType, Map<Outcome, Timer>> transactionTimers = new EnumMap<>(TransactionType.class);
+    private final Map<TransactionType, Counter> optimisticConflictCounters = new EnumMap<>(TransactionType.class);
+    private final Map<UserLockRejectedException.Reason, Counter> lockRejectionCounters = new EnumMap<>(UserLockRejectedException.Reason.class);
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lockWaitTimer = Timer.builder("point.lock.wait")
+                .description("유저 Lock 획득 대기 시간")
+                .register(meterRegistry);
+        this.lockHoldTimer = Timer.builder("point.lock.hold")
+                .description("유저 Lock 보유 시간")
+                .register(meterRegistry);
+        this.lockQueueDepth = DistributionSummary.builder("point.lock.queue.depth")
+                .description("요청이 들어온 시점에 같은 유저의 Lock을 잡고 있거나 기다리는 요청 수 (자신 포함)")
+                .register(meterRegistry);
+        for (UserLockRejectedException.Reason reason : UserLockRejectedException.Reason.values()) {
+            lockRejectionCounters.put(reason, Counter.builder("point.lock.rejections")
+                    .description("Lock을 기다리지 않고 거절한 요청 수")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry));
+        }
+        this.walSyncTimer = Timer.builder("point.wal.sync")
+                .description("WAL 디스크 반영 시간")
+                .register(meterRegistry);
+        this.walSyncRecords = DistributionSummary.builder("point.wal.sync.records")
+                .description("WAL 디스크 반영 한 번에 포함된 레코드 수")
+                .register(meterRegistry);
+        this.snapshotTimer = Timer.builder("point.wal.snapshot")
+                .description("잔액 스냅샷 저장 시간")
+                .register(meterRegistry);
+        this.snapshotUsers = DistributionSummary.builder("point.wal.snapshot.users")
+                .description("잔액 스냅샷에 담긴 유저 수")
+                .register(meterRegistry);
+
+        for (TransactionType type : TransactionType.values()) {
+            Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timers.put(outcome, Timer.builder("point.transaction")
+                        .description("포인트 트랜잭션 처리 시간")
+                        .tag("type", type.name())
+                        .tag("outcome", outcome.name())
+                        .register(meterRegistry));
+            }
+            transactionTimers.put(type, timers);
+            optimisticConflictCounters.put(type, Counter.builder("point.optimistic.conflicts")
+                    .description("낙관적 갱신의 버전 충돌 횟수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 테이블 호출 시간을 기록합니다.
+     *
+     * @param table     테이블 이름 (user_point, point_history)
+     * @param operation 호출한 메서드 이름
+     * @param call      테이블 호출
+     * @return 테이블 호출 결과
+     */
+    public <T> T recordTableCall(String table, String operation, Supplier<T> call) {
+        long startNanos = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long nanos = System.nanoTime() - startNanos;
+            tableCallTimer(table, operation).record(nanos, TimeUnit.NANOSECONDS);
+            tableCallWindows.computeIfAbsent(table + "." + operation, key -> newStatsWindow()).record(nanos);
+        }
+    }
+
+    /**
+     * API 요청 처리 시간을 최근 STATS_WINDOW 동안의 통계에 기록합니다.
+     *
+     * @param operation 요청을 처리한 컨트롤러 메서드 이름
+     * @param nanos     처리 시간
+     */
+    public void recordRequest(String operation, long nanos) {
+        requestWindows.computeIfAbsent(operation, key -> newStatsWindow()).record(nanos);
+    }
+
+    /**
+     * 요청 종류별 최근 STATS_WINDOW 동안의 처리량과 지연 시간 (이름순)
+     */
+    public Map<String, RollingHistogram.Snapshot> requestStats() {
+        return snapshots(requestWindows);
+    }
+
+    /**
+     * 테이블 호출별(table.operation) 최근 STATS_WINDOW 동안의 처리량과 지연 시간 (이름순)
+     */
+    public Map<String, RollingHistogram.Snapshot> tableCallStats() {
+        return snapshots(tableCallWindows);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHoldTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockQueueDepth(int depth) {
+        lockQueueDepth.record(depth);
+    }
+
+    public void recordLockRejection(UserLockRejectedException.Reason reason) {
+        lockRejectionCounters.get(reason).increment();
+    }
+
+    public void recordTransaction(TransactionType type, Outcome outcome, long nanos) {
+        transactionTimers.get(type).get(outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOptimisticConflict(TransactionType type) {
+        optimisticConflictCounters.get(type).increment();
+    }
+
+    public void recordWalSync(long nanos, long records) {
+        walSyncTimer.record(nanos, TimeUnit.NANOSECONDS);
+        walSyncRecords.record(records);
+    }
+
+    public void recordSnapshot(long nanos, int users) {
+        snapshotTimer.record(nanos, TimeUnit.NANOSECONDS);
+        snapshotUsers.record(users);
+    }
+
+    /**
+     * 시작 시 복구 결과를 기록합니다. 애플리케이션이 뜰 때 한 번 호출됩니다.
+     *
+     * @param nanos            복구 시간
+     * @param indexedHistories 이력 인덱스에 다시 적재한 이력 수
+     * @param replayedRecords  스냅샷 이후로 잔액에 다시 반영한 레코드 수
+     */
+    public void recordRecovery(long nanos, long indexedHistories, long replayedRecords) {
+        Timer.builder("point.recovery")
+                .description("시작 시 복구 시간")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("point.recovery.records")
+                .description("시작 시 복구한 레코드 수")
+                .tag("kind", "indexed")
+                .register(meterRegistry)
+                .increment(indexedHistories);
+        Counter.builder("point.recovery.records")
+                .description("시작 시 복구한 레코드 수")
+                .tag("kind", "replayed")
+                .register(meterRegistry)
+                .increment(replayedRecords);
+    }
+
+    /**
+     * ASYNC 이력 저장 실패를 기록합니다.
+     *
+     * @param dropped 다시 시도하지 않고 버렸는지 여부 (종료 중)
+     */
+    public void recordHistoryWriteFailure(boolean dropped) {
+        Counter.builder("point.history.write.failures")
+                .description("ASYNC 이력 저장 실패 횟수")
+                .tag("result", dropped ? "dropped" : "retried")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 이력 writer의 저장 대기 중인 이력 수와 가장 오래된 이력의 대기 시간(ms)을 등록합니다.
+     *
+     * @param pointHistoryWriter 대상 이력 writer
+     */
+    public void registerHistoryWriter(PointHistoryWriter pointHistoryWriter) {
+        Gauge.builder("point.history.queue.depth", pointHistoryWriter, PointHistoryWriter::queueDepth)
+                .description("저장 대기 중인 이력 수")
+                .register(meterRegistry);
+        Gauge.builder("point.history.lag", pointHistoryWriter, PointHistoryWriter::lagMillis)
+                .description("저장 대기 중인 이력 중 가장 오래된 이력의 대기 시간(ms)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잔액 캐시에서 테이블에 아직 쓰지 않은 잔액 수와 마지막 flush의 지연 시간(ms)을 등록합니다.
+     *
+     * @param userPointCache 대상 잔액 캐시
+     */
+    public void registerUserPointCache(UserPointCache userPointCache) {
+        Gauge.builder("point.cache.dirty", userPointCache, UserPointCache::dirtyCount)
+                .description("테이블에 아직 쓰지 않은 잔액 수")
+                .register(meterRegistry);
+        Gauge.builder("point.cache.flush.lag", userPointCache, UserPointCache::flushLagMillis)
+                .description("마지막 flush에서 가장 오래 기다린 잔액의 지연 시간(ms)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유저 Lock 관리자가 유지 중인 Lock 객체 수와 경합 비율을 등록합니다.
+     *
+     * @param userLockManager 대상 Lock 관리자
+     */
+    public void registerLockManager(UserLockManager userLockManager) {
+        Gauge.builder("point.lock.live", userLockManager, UserLockManager::liveLockCount)
+                .description("메모리에 유지 중인 Lock 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("point.lock.collision.rate", userLockManager, UserLockManager::collisionRate)
+                .description("전체 Lock 획득 중 다른 유저와 같은 Lock을 두고 경합한 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ADAPTIVE Lock 관리자에서 공정 Lock을 거치는(hot) 유저 수를 등록합니다.
+     *
+     * @param adaptiveUserLockManager 대상 Lock 관리자
+     */
+    public void registerAdaptiveLock(AdaptiveUserLockManager adaptiveUserLockManager) {
+        Gauge.builder("point.lock.hot_users", adaptiveUserLockManager, AdaptiveUserLockManager::hotUserCount)
+                .description("공정 Lock으로 전환된 유저 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * SingleFlight의 호출 수, 실행 수, fan-in 비율을 등록합니다.
+     *
+     * @param name         합치는 대상 이름
+     * @param singleFlight 대상 SingleFlight
+     */
+    public void registerSingleFlight(String name, SingleFlight<?, ?> singleFlight) {
+        FunctionCounter.builder("point.single_flight.calls", singleFlight, SingleFlight::calls)
+                .description("전체 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("point.single_flight.executions", singleFlight, SingleFlight::executions)
+                .description("실제로 실행한 횟수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("point.single_flight.fan_in", singleFlight, SingleFlight::fanInRatio)
+                .description("실행 한 번이 응답한 평균 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * IdempotencyStore의 호출 수, 실행 수, 보관 중인 결과 수를 등록합니다.
+     * - 호출 수와 실행 수의 차이가 보관된 결과로 응답한 재요청 수입니다.
+     *
+     * @param name  대상 이름
+     * @param store 대상 IdempotencyStore
+     */
+    public void registerIdempotencyStore(String name, IdempotencyStore<?, ?> store) {
+        FunctionCounter.builder("point.idempotency.calls", store, IdempotencyStore::calls)
+                .description("전체 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("point.idempotency.executions", store, IdempotencyStore::executions)
+                .description("실제로 실행한 횟수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("point.idempotency.entries", store, IdempotencyStore::size)
+                .description("보관 중인 결과 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private static RollingHistogram newStatsWindow() {
+        return new RollingHistogram(STATS_WINDOW, STATS_SLOTS);
+    }
+
+    private static Map<String, RollingHistogram.Snapshot> snapshots(Map<String, RollingHistogram> windows) {
+        Map<String, RollingHistogram.Snapshot> snapshots = new TreeMap<>();
+        windows.forEach((name, window) -> snapshots.put(name, window.snapshot()));
+        return snapshots;
+    }
+
+    private Timer tableCallTimer(String table, String operation) {
+        return tableCallTimers.computeIfAbsent(table + "." + operation, key -> Timer.builder("point.table.call")
+                .description("테이블 호출 시간")
+                .tag("table", table)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 트랜잭션 처리 결과
+     */
+    public enum Outcome {
+        SUCCESS,
+        LIMIT_EXCEEDED,
+        INSUFFICIENT_BALANCE,
+        INVALID_REQUEST,
+        CONFLICT,
+        REJECTED,
+        ERROR;
+
+        public static Outcome of(RuntimeException e) {
+            if (e instanceof PointLimitExceededException) {
+                return LIMIT_EXCEEDED;
+            }
+            if (e instanceof InsufficientPointException) {
+                return INSUFFICIENT_BALANCE;
+            }
+            if (e instanceof OptimisticConflictException) {
+                return CONFLICT;
+            }
+            if (e instanceof UserLockRejectedException) {
+                return REJECTED;
+            }
+            if (e instanceof IllegalArgumentException) {
+                return INVALID_REQUEST;
+            }
+            return ERROR;
+        }
+    }
+}
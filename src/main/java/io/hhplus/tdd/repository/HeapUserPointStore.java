@@ -0,0 +1,40 @@
+package io.hhplus.tdd.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 잔액을 ConcurrentHashMap에 객체로 보관합니다.
+ * - 유저마다 Long 키, 맵 엔트리, VersionedUserPoint, UserPoint 객체를 두므로 유저당 100 bytes 안팎을 사용합니다.
+ */
+public class HeapUserPointStore implements UserPointStore {
+
+    private final Map<Long, VersionedUserPoint> points = new ConcurrentHashMap<>();
+
+    @Override
+    public VersionedUserPoint get(long id) {
+        return points.get(id);
+    }
+
+    @Override
+    public void put(VersionedUserPoint value) {
+        points.put(value.userPoint().id(), value);
+    }
+
+    @Override
+    public VersionedUserPoint putIfAbsent(VersionedUserPoint value) {
+        return points.putIfAbsent(value.userPoint().id(), value);
+    }
+
+    @Override
+    public boolean compareAndSet(long expectedVersion, VersionedUserPoint value) {
+        long id = value.userPoint().id();
+        VersionedUserPoint current = points.get(id);
+        return current != null && current.version() == expectedVersion && points.replace(id, current, value);
+    }
+
+    @Override
+    public int size() {
+        return points.size();
+    }
+}
@@ -0,0 +1,280 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저 잔액을 힙 밖의 메모리(direct ByteBuffer)에 primitive long으로 보관합니다.
+ * - 유저 하나는 32 bytes 슬롯 하나입니다. (userId, point, updateMillis, version)
+ *   유저마다 객체를 만들지 않으므로 힙과 GC가 보는 객체는 세그먼트 수만큼의 버퍼뿐입니다.
+ * - 키를 섞은 해시의 상위 비트로 세그먼트를 고르고, 세그먼트 안에서는 선형 탐사(open addressing)로 슬롯을 찾습니다.
+ *   세그먼트의 사용률이 MAX_LOAD를 넘으면 두 배 크기의 버퍼로 옮깁니다. 이전 버퍼는 GC가 회수할 때 해제됩니다.
+ * - 조회는 StampedLock의 optimistic read로 Lock 없이 읽고, 읽는 도중 쓰기가 있었을 때만 read lock으로 다시 읽습니다.
+ *   쓰기는 세그먼트 단위 write lock으로 직렬화합니다.
+ * - 조회할 때마다 VersionedUserPoint를 새로 만듭니다. (짧게 살다 사라지는 객체이므로 young GC에서 회수됩니다.)
+ * - 빈 슬롯은 version 0으로 구분하므로 버전은 1 이상이어야 합니다. (UserPointCache의 버전은 1부터 시작합니다.)
+ * - 힙 밖 메모리는 -XX:MaxDirectMemorySize(기본값은 최대 힙 크기)의 제한을 받습니다.
+ */
+public class OffHeapUserPointStore implements UserPointStore {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_SLOTS = 16;
+    private static final int MAX_SEGMENT_SLOTS = 1 << 25;
+    private static final double MAX_LOAD = 0.75;
+
+    private static final int SLOT_SIZE = 32;
+    private static final int KEY = 0;
+    private static final int POINT = 8;
+    private static final int UPDATE_MILLIS = 16;
+    private static final int VERSION = 24;
+    private static final long EMPTY = 0L;
+    private static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * @param initialCapacity 미리 자리를 잡아 둘 유저 수
+     */
+    public OffHeapUserPointStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity는 0 이상이어야 합니다. 설정값: " + initialCapacity);
+        }
+        long perSegment = (long) Math.ceil(initialCapacity / MAX_LOAD / SEGMENTS);
+        int segmentSlots = MIN_SEGMENT_SLOTS;
+        while (segmentSlots < perSegment && segmentSlots < MAX_SEGMENT_SLOTS) {
+            segmentSlots <<= 1;
+        }
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSlots);
+        }
+    }
+
+    @Override
+    public VersionedUserPoint get(long id) {
+        long hash = mix(id);
+        return segmentOf(hash).get(id, hash);
+    }
+
+    @Override
+    public void put(VersionedUserPoint value) {
+        long id = value.userPoint().id();
+        long hash = mix(id);
+        segmentOf(hash).put(id, hash, value, false);
+    }
+
+    @Override
+    public VersionedUserPoint putIfAbsent(VersionedUserPoint value) {
+        long id = value.userPoint().id();
+        long hash = mix(id);
+        return segmentOf(hash).put(id, hash, value, true);
+    }
+
+    @Override
+    public boolean compareAndSet(long expectedVersion, VersionedUserPoint value) {
+        long id = value.userPoint().id();
+        long hash = mix(id);
+        return segmentOf(hash).compareAndSet(id, hash, expectedVersion, value);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 슬롯으로 잡아 둔 힙 밖 메모리 크기(bytes)
+     */
+    public long reservedBytes() {
+        long bytes = 0L;
+        for (Segment segment : segments) {
+            bytes += segment.reservedBytes();
+        }
+        return bytes;
+    }
+
+    private Segment segmentOf(long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    /**
+     * 연속된 유저 ID가 이웃한 슬롯에 몰리지 않도록 비트를 섞습니다. (MurmurHash3 fmix64)
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static VersionedUserPoint versioned(long id, long point, long updateMillis, long version) {
+        return new VersionedUserPoint(new UserPoint(id, point, updateMillis), version);
+    }
+
+    /**
+     * 슬롯 버퍼와 그 크기를 함께 교체하기 위한 묶음
+     */
+    private record Table(ByteBuffer buffer, int mask) {
+
+        static Table allocate(int slots) {
+            return new Table(ByteBuffer.allocateDirect(slots * SLOT_SIZE).order(ByteOrder.nativeOrder()), slots - 1);
+        }
+
+        /**
+         * key가 있는 슬롯의 위치를 반환합니다.
+         * key가 없으면 key가 들어갈 빈 슬롯의 위치를 -(offset + 1)로, 빈 슬롯도 찾지 못하면 NOT_FOUND를 반환합니다.
+         */
+        int probe(long id, long hash) {
+            int index = (int) hash & mask;
+            for (int i = 0; i <= mask; i++) {
+                int offset = index * SLOT_SIZE;
+                if (buffer.getLong(offset + VERSION) == EMPTY) {
+                    return -(offset + 1);
+                }
+                if (buffer.getLong(offset + KEY) == id) {
+                    return offset;
+                }
+                index = (index + 1) & mask;
+            }
+            return NOT_FOUND;
+        }
+
+        void write(int offset, long id, VersionedUserPoint value) {
+            long version = value.version();
+            if (version <= EMPTY) {
+                throw new IllegalArgumentException("버전은 1 이상이어야 합니다. 버전: " + version);
+            }
+            buffer.putLong(offset + KEY, id);
+            buffer.putLong(offset + POINT, value.userPoint().point());
+            buffer.putLong(offset + UPDATE_MILLIS, value.userPoint().updateMillis());
+            buffer.putLong(offset + VERSION, version);
+        }
+
+        VersionedUserPoint read(int offset, long id) {
+            return versioned(id, buffer.getLong(offset + POINT), buffer.getLong(offset + UPDATE_MILLIS), buffer.getLong(offset + VERSION));
+        }
+    }
+
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private Table table;
+        private int size;
+
+        Segment(int slots) {
+            this.table = Table.allocate(slots);
+        }
+
+        VersionedUserPoint get(long id, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                Table current = table;
+                int offset = current.probe(id, hash);
+                long point = 0L;
+                long updateMillis = 0L;
+                long version = 0L;
+                if (offset >= 0) {
+                    point = current.buffer().getLong(offset + POINT);
+                    updateMillis = current.buffer().getLong(offset + UPDATE_MILLIS);
+                    version = current.buffer().getLong(offset + VERSION);
+                }
+                if (lock.validate(stamp)) {
+                    return offset >= 0 ? versioned(id, point, updateMillis, version) : null;
+                }
+            }
+
+            stamp = lock.readLock();
+            try {
+                int offset = table.probe(id, hash);
+                return offset >= 0 ? table.read(offset, id) : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        VersionedUserPoint put(long id, long hash, VersionedUserPoint value, boolean onlyIfAbsent) {
+            long stamp = lock.writeLock();
+            try {
+                int offset = table.probe(id, hash);
+                if (offset >= 0) {
+                    if (onlyIfAbsent) {
+                        return table.read(offset, id);
+                    }
+                    table.write(offset, id, value);
+                    return null;
+                }
+                if (size + 1 > (table.mask() + 1) * MAX_LOAD) {
+                    resize();
+                    offset = table.probe(id, hash);
+                }
+                table.write(-(offset + 1), id, value);
+                size++;
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean compareAndSet(long id, long hash, long expectedVersion, VersionedUserPoint value) {
+            long stamp = lock.writeLock();
+            try {
+                int offset = table.probe(id, hash);
+                if (offset < 0 || table.buffer().getLong(offset + VERSION) != expectedVersion) {
+                    return false;
+                }
+                table.write(offset, id, value);
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long reservedBytes() {
+            long stamp = lock.readLock();
+            try {
+                return (long) table.buffer().capacity();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void resize() {
+            int slots = table.mask() + 1;
+            if (slots >= MAX_SEGMENT_SLOTS) {
+                throw new IllegalStateException("세그먼트가 최대 크기에 도달했습니다. 슬롯 수: " + slots);
+            }
+            Table resized = Table.allocate(slots << 1);
+            ByteBuffer buffer = table.buffer();
+            for (int offset = 0; offset < buffer.capacity(); offset += SLOT_SIZE) {
+                if (buffer.getLong(offset + VERSION) == EMPTY) {
+                    continue;
+                }
+                long id = buffer.getLong(offset + KEY);
+                int target = -(resized.probe(id, mix(id)) + 1);
+                resized.buffer().putLong(target + KEY, id);
+                resized.buffer().putLong(target + POINT, buffer.getLong(offset + POINT));
+                resized.buffer().putLong(target + UPDATE_MILLIS, buffer.getLong(offset + UPDATE_MILLIS));
+                resized.buffer().putLong(target + VERSION, buffer.getLong(offset + VERSION));
+            }
+            table = resized;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.service.transaction.TransactionType;
+
+/**
+ * 포인트 이력 조회 조건
+ * - 이력 객체를 만들지 않고 컬럼 값으로 바로 비교할 수 있도록 조건을 값으로 표현합니다.
+ *
+ * @param type       트랜잭션 타입 (null이면 전체)
+ * @param fromMillis 이 시각 이후의 이력만 (포함, null이면 제한 없음)
+ * @param toMillis   이 시각 이전의 이력만 (미포함, null이면 제한 없음)
+ */
+public record PointHistoryCondition(
+        TransactionType type,
+        Long fromMillis,
+        Long toMillis
+) {
+
+    public static final PointHistoryCondition ALL = new PointHistoryCondition(null, null, null);
+
+    public boolean matches(TransactionType type, long updateMillis) {
+        return (this.type == null || this.type == type)
+                && (fromMillis == null || updateMillis >= fromMillis)
+                && (toMillis == null || updateMillis < toMillis);
+    }
+}
@@ -0,0 +1,186 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 ID 기준 포인트 이력 보조 인덱스입니다.
+ * - PointHistoryTable.selectAllByUserId는 전체 이력을 순회하므로, 유저별 이력 목록을 따로 유지합니다.
+ * - PointHistoryWriter가 이력을 저장할 때마다 함께 갱신되며, 조회 비용은 해당 유저의 이력 수에만 비례합니다.
+ * - 유저별 목록은 ID 오름차순으로 유지합니다.
+ *   대부분 채번 순서대로 추가되어 끝에 붙고, Lock 없이 동시에 추가된 경우에만 제자리를 찾아 끼워 넣습니다.
+ * - 커서 조회는 유저 단위로 채번과 추가가 같은 순서여야 안정적입니다.
+ *   유저 Lock 안에서 저장하는 방식과 ASYNC writer(채번과 추가를 같은 Lock 안에서 수행)가 이를 만족하며,
+ *   둘 다 아닌 OPTIMISTIC 실행 방식 + SYNC 이력 저장 조합은 시작 시 거절합니다. (PointTransactionExecutorConfig)
+ * - 이력은 객체로 보관하지 않고 유저별 컬럼(id, amount, updateMillis는 long[], type은 byte[])에 나누어 보관합니다.
+ *   이력 하나에 25 bytes만 쓰고, 한 컬럼을 연속된 메모리로 순회하므로 합계를 구할 때 객체를 만들지 않습니다.
+ *   PointHistory 객체는 조회 결과로 내보낼 때만 만듭니다.
+ */
+@Component
+public class PointHistoryIndex {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Map<Long, Columns> histories = new ConcurrentHashMap<>();
+
+    public void add(PointHistory pointHistory) {
+        histories.computeIfAbsent(pointHistory.userId(), id -> new Columns()).add(pointHistory);
+    }
+
+    public List<PointHistory> selectAllByUserId(long userId) {
+        Columns columns = histories.get(userId);
+        if (columns == null) {
+            return List.of();
+        }
+        synchronized (columns) {
+            PointHistory[] all = new PointHistory[columns.size];
+            for (int index = 0; index < columns.size; index++) {
+                all[index] = columns.toPointHistory(userId, index);
+            }
+            return List.of(all);
+        }
+    }
+
+    /**
+     * 커서 이후의 이력을 ID 오름차순으로 최대 size건 조회합니다.
+     * - 커서 위치는 이분 탐색으로 찾고, 조건에 맞는 이력을 size건 모을 때까지만 순회합니다.
+     * - 조건은 컬럼 값으로 비교하며, 조건에 맞는 이력만 PointHistory로 만듭니다.
+     *
+     * @param userId    유저 ID
+     * @param cursor    이 ID보다 큰 이력부터 조회
+     * @param size      최대 조회 건수
+     * @param condition 조회 조건
+     * @return 조건에 맞는 이력 목록
+     */
+    public List<PointHistory> selectPage(long userId, long cursor, int size, PointHistoryCondition condition) {
+        Columns columns = histories.get(userId);
+        if (columns == null) {
+            return List.of();
+        }
+        List<PointHistory> page = new ArrayList<>(size);
+        synchronized (columns) {
+            for (int index = columns.firstIndexAfter(cursor); index < columns.size && page.size() < size; index++) {
+                if (condition.matches(TYPES[columns.types[index]], columns.updateMillis[index])) {
+                    page.add(columns.toPointHistory(userId, index));
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 조건에 맞는 이력의 건수와 타입별 금액 합계를 구합니다.
+     * - 컬럼을 순회하며 바로 더하므로 이력 수와 관계없이 결과 객체 하나만 만듭니다.
+     *
+     * @param userId    유저 ID
+     * @param condition 합계 조건
+     * @return 이력 합계
+     */
+    public PointHistorySummary summarize(long userId, PointHistoryCondition condition) {
+        Columns columns = histories.get(userId);
+        if (columns == null) {
+            return new PointHistorySummary(userId, 0L, 0L, 0L, 0L, 0L);
+        }
+        long count = 0L;
+        long charged = 0L;
+        long used = 0L;
+        long transferredIn = 0L;
+        long transferredOut = 0L;
+        synchronized (columns) {
+            long[] amounts = columns.amounts;
+            long[] updateMillis = columns.updateMillis;
+            byte[] types = columns.types;
+            for (int index = 0; index < columns.size; index++) {
+                TransactionType type = TYPES[types[index]];
+                if (!condition.matches(type, updateMillis[index])) {
+                    continue;
+                }
+                long amount = amounts[index];
+                count++;
+                switch (type) {
+                    case CHARGE -> charged += amount;
+                    case USE -> used += amount;
+                    case TRANSFER -> {
+                        if (amount >= 0) {
+                            transferredIn += amount;
+                        } else {
+                            transferredOut -= amount;
+                        }
+                    }
+                }
+            }
+        }
+        return new PointHistorySummary(userId, count, charged, used, transferredIn, transferredOut);
+    }
+
+    /**
+     * 한 유저의 이력 컬럼
+     * - 배열이 가득 차면 1.5배로 늘립니다.
+     */
+    private static final class Columns {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] amounts = new long[INITIAL_CAPACITY];
+        private long[] updateMillis = new long[INITIAL_CAPACITY];
+        private byte[] types = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        synchronized void add(PointHistory pointHistory) {
+            if (size == ids.length) {
+                grow();
+            }
+            int index = size;
+            while (index > 0 && ids[index - 1] > pointHistory.id()) {
+                index--;
+            }
+            if (index < size) {
+                int moved = size - index;
+                System.arraycopy(ids, index, ids, index + 1, moved);
+                System.arraycopy(amounts, index, amounts, index + 1, moved);
+                System.arraycopy(updateMillis, index, updateMillis, index + 1, moved);
+                System.arraycopy(types, index, types, index + 1, moved);
+            }
+            ids[index] = pointHistory.id();
+            amounts[index] = pointHistory.amount();
+            updateMillis[index] = pointHistory.updateMillis();
+            types[index] = (byte) pointHistory.type().ordinal();
+            size++;
+        }
+
+        PointHistory toPointHistory(long userId, int index) {
+            return new PointHistory(ids[index], userId, amounts[index], TYPES[types[index]], updateMillis[index]);
+        }
+
+        int firstIndexAfter(long cursor) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            updateMillis = Arrays.copyOf(updateMillis, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.wal.PointWriteAheadLog;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PointHistoryTable 앞단에서 포인트 이력 저장을 담당합니다.
+ * - SYNC 모드에서는 요청 스레드에서 바로 PointHistoryTable에 저장합니다.
+ * - ASYNC 모드에서는 이력을 bounded 큐에 적재하고, 전용 writer 스레드가 배치 단위로 꺼내 저장합니다.
+ *   writer 스레드 하나가 적재 순서대로 저장하므로 유저별 순서가 유지됩니다.
+ * - ASYNC 모드에서 저장에 실패한 이력은 버리지 않고, 간격을 늘려 가며 저장될 때까지 다시 시도합니다.
+ *   뒤의 이력은 앞의 이력이 저장될 때까지 기다리며, 그 동안 큐가 차면 적재 요청이 대기합니다.
+ *
+ * ASYNC 모드의 이력 ID는 적재 시점에 채번합니다.
+ * 채번과 적재를 같은 Lock 안에서 수행하고 writer 스레드가 테이블의 유일한 쓰기 주체이므로,
+ * 테이블이 부여하는 ID와 동일한 값이 됩니다.
+ *
+ * 저장한 이력은 PointHistoryIndex에도 함께 반영합니다.
+ * ASYNC 모드에서는 적재 시점에 인덱스에 반영하므로, 테이블 저장 전이라도 자신이 적재한 이력을 바로 조회할 수 있습니다.
+ *
+ * WAL이 켜져 있으면 이력을 PointWriteAheadLog에도 기록합니다. (ASYNC 모드에서는 채번 순서대로 기록됩니다.)
+ * 디스크 반영은 기다리지 않으며, 응답 전 대기는 PointService가 Lock 밖에서 수행합니다.
+ *
+ * PointHistoryTable은 재시작하면 1부터 다시 채번하므로, WAL에서 이력을 복구한 경우 resumeAfter로 복구한 마지막 ID를 넘겨받아
+ * 테이블이 부여한 ID에 더합니다. 재시작 전후의 이력 ID가 겹치지 않고 계속 증가합니다.
+ */
+@Component
+public class PointHistoryWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointHistoryWriter.class);
+    private static final long RETRY_BACKOFF_MILLIS = 10L;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 1_000L;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointHistoryWriterProperties properties;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+
+    private final BlockingQueue<Pending> queue;
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private long idSequence;
+    private volatile long idOffset;
+
+    private volatile boolean running = true;
+    private final Thread writerThread;
+
+    public PointHistoryWriter(
+            PointHistoryTable pointHistoryTable,
+            PointHistoryIndex pointHistoryIndex,
+            PointHistoryWriterProperties properties,
+            PointMetrics pointMetrics,
+            PointWriteAheadLog pointWriteAheadLog
+    ) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.properties = properties;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.queue = properties.isAsync() ? new ArrayBlockingQueue<>(properties.queueCapacity()) : null;
+        this.writerThread = properties.isAsync() ? startWriter() : null;
+        pointMetrics.registerHistoryWriter(this);
+    }
+
+    /**
+     * 포인트 이력을 저장합니다.
+     * - ASYNC 모드에서는 큐에 적재한 즉시 반환하며, 큐가 가득 차 있으면 자리가 날 때까지 대기합니다.
+     *
+     * @return 저장(예정)된 포인트 이력
+     */
+    public PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!properties.isAsync()) {
+            PointHistory inserted = pointMetrics.recordTableCall("point_history", "insert",
+                    () -> pointHistoryTable.insert(userId, amount, type, updateMillis));
+            PointHistory saved = idOffset == 0 ? inserted
+                    : new PointHistory(inserted.id() + idOffset, userId, amount, type, updateMillis);
+            pointHistoryIndex.add(saved);
+            pointWriteAheadLog.append(saved);
+            return saved;
+        }
+
+        enqueueLock.lock();
+        try {
+            PointHistory pointHistory = new PointHistory(++idSequence, userId, amount, type, updateMillis);
+            pointWriteAheadLog.append(pointHistory);
+            queue.put(new Pending(pointHistory, System.currentTimeMillis()));
+            pointHistoryIndex.add(pointHistory);
+            return pointHistory;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 이력 적재가 중단되었습니다.", e);
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    /**
+     * WAL에서 복구한 마지막 이력 ID 이후로 이력 ID를 이어서 부여합니다.
+     * - 이력을 저장하기 전, 시작 시 한 번만 호출합니다.
+     *
+     * @param lastHistoryId 복구한 이력 중 가장 큰 ID
+     */
+    public void resumeAfter(long lastHistoryId) {
+        enqueueLock.lock();
+        try {
+            idOffset = lastHistoryId;
+            idSequence = lastHistoryId;
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이력 수
+     */
+    public int queueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * 저장 대기 중인 이력 중 가장 오래된 이력의 대기 시간(ms)
+     */
+    public long lagMillis() {
+        Pending oldest = queue == null ? null : queue.peek();
+        return oldest == null ? 0 : System.currentTimeMillis() - oldest.enqueuedMillis();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Thread startWriter() {
+        Thread thread = new Thread(this::drainLoop, "point-history-writer");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) throws InterruptedException {
+        for (Pending pending : batch) {
+            insertWithRetry(pending.pointHistory());
+        }
+    }
+
+    /**
+     * 이력 하나를 저장될 때까지 다시 시도합니다.
+     * - 실패할 때마다 실패 횟수를 기록하고, RETRY_BACKOFF_MILLIS부터 두 배씩(최대 MAX_RETRY_BACKOFF_MILLIS) 기다린 뒤 같은 이력을 다시 저장합니다.
+     *   테이블이 부여하는 ID가 채번 순서와 같아야 하므로 다음 이력으로 넘어가지 않습니다.
+     * - 종료 중(close 이후)에는 더 기다리지 않고 버린 이력으로 기록합니다. WAL이 켜져 있으면 로그에는 남아 있습니다.
+     */
+    private void insertWithRetry(PointHistory expected) throws InterruptedException {
+        long backoffMillis = RETRY_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                PointHistory saved = pointMetrics.recordTableCall("point_history", "insert", () -> pointHistoryTable.insert(
+                        expected.userId(), expected.amount(), expected.type(), expected.updateMillis()));
+                if (saved.id() + idOffset != expected.id()) {
+                    logger.warn("[{}] 이력 ID 불일치. 채번: {}, 저장: {}", getClass().getSimpleName(), expected.id(), saved.id());
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    pointMetrics.recordHistoryWriteFailure(true);
+                    logger.error("[{}] 종료 중 이력 저장 실패, 재시도하지 않음: {}", getClass().getSimpleName(), expected, e);
+                    return;
+                }
+                pointMetrics.recordHistoryWriteFailure(false);
+                logger.warn("[{}] 이력 저장 실패, {}ms 후 재시도: {}", getClass().getSimpleName(), backoffMillis, expected, e);
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private record Pending(PointHistory pointHistory, long enqueuedMillis) {
+    }
+}
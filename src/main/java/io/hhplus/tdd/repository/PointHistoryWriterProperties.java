@@ -0,0 +1,26 @@
+package io.hhplus.tdd.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 이력 저장 설정
+ * - mode : 이력 저장 방식 (SYNC : 요청 스레드에서 저장, ASYNC : 큐에 적재 후 writer 스레드에서 저장)
+ * - queueCapacity : ASYNC 모드의 대기 큐 크기, 가득 차면 적재 요청이 대기합니다.
+ * - batchSize : writer 스레드가 한 번에 꺼내 저장하는 최대 이력 수
+ */
+@ConfigurationProperties(prefix = "point.history-writer")
+public record PointHistoryWriterProperties(
+        @DefaultValue("SYNC") Mode mode,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("100") int batchSize
+) {
+
+    public enum Mode {
+        SYNC, ASYNC
+    }
+
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+}
@@ -0,0 +1,274 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.support.SingleFlight;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointTable 앞단에서 유저 잔액을 메모리에 보관하는 캐시입니다.
+ * - 조회는 메모리에서 응답하고, 캐시에 없을 때만 UserPointTable을 조회합니다.
+ *   같은 유저에 대한 동시 조회는 하나의 테이블 조회를 함께 기다립니다. (single flight)
+ * - WRITE_THROUGH 모드에서는 테이블에 먼저 반영한 뒤 캐시를 갱신합니다.
+ * - WRITE_BEHIND 모드에서는 캐시만 갱신하고 dirty로 표시한 뒤, flush 스레드가 주기적으로 테이블에 반영합니다.
+ *   같은 유저에 대한 연속된 쓰기는 마지막 잔액 한 번의 insertOrUpdate로 합쳐집니다.
+ * - 캐시의 잔액은 쓰기마다 증가하는 버전을 가지며, compareAndSet으로 조회 이후 다른 쓰기가 없었을 때만 갱신할 수 있습니다.
+ * - WAL이 켜져 있으면 시작 시 복구한 잔액이 restore로 적재됩니다.
+ * - 잔액을 보관하는 방식은 UserPointStore 설정을 따릅니다. (HEAP, OFF_HEAP)
+ */
+@Component
+public class UserPointCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPointCache.class);
+
+    private final UserPointTable userPointTable;
+    private final UserPointCacheProperties properties;
+    private final PointMetrics pointMetrics;
+
+    private final UserPointStore points;
+    private final Map<Long, Dirty> dirtyPoints = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final SingleFlight<Long, VersionedUserPoint> loads = new SingleFlight<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private volatile long lastFlushedMillis = System.currentTimeMillis();
+    private volatile long flushLagMillis;
+
+    private final ScheduledExecutorService flusher;
+
+    public UserPointCache(UserPointTable userPointTable, UserPointCacheProperties properties, PointMetrics pointMetrics, UserPointStore points) {
+        this.userPointTable = userPointTable;
+        this.properties = properties;
+        this.pointMetrics = pointMetrics;
+        this.points = points;
+        pointMetrics.registerSingleFlight("user_point", loads);
+        pointMetrics.registerUserPointCache(this);
+        this.flusher = properties.isWriteBehind() ? startFlusher(properties.flushInterval().toMillis()) : null;
+    }
+
+    /**
+     * 유저 잔액을 조회합니다.
+     * - 캐시에 없으면 테이블에서 읽어 캐시에 적재합니다.
+     *   이미 같은 유저를 적재 중인 호출이 있으면 새로 조회하지 않고 그 결과를 함께 받습니다.
+     * - 적재 도중 쓰기가 먼저 반영되었다면 쓰기 결과를 우선합니다.
+     *   쓰기는 항상 캐시에 반영되므로, 쓰기가 끝난 뒤 시작한 조회는 적재 결과를 공유하지 않고 캐시에서 최신 값을 읽습니다.
+     *
+     * @param id 유저 ID
+     * @return 유저 포인트 정보
+     */
+    public UserPoint selectById(long id) {
+        return selectVersionedById(id).userPoint();
+    }
+
+    /**
+     * 유저 잔액을 버전과 함께 조회합니다.
+     * - 조회 방식은 selectById와 같으며, 반환한 버전은 compareAndSet의 기준 값으로 사용합니다.
+     *
+     * @param id 유저 ID
+     * @return 버전을 포함한 유저 포인트 정보
+     */
+    public VersionedUserPoint selectVersionedById(long id) {
+        VersionedUserPoint cached = points.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(id, () -> load(id));
+    }
+
+    /**
+     * 유저 잔액을 갱신합니다.
+     *
+     * @param id    유저 ID
+     * @param point 갱신할 잔액
+     * @return 갱신된 유저 포인트 정보
+     */
+    public UserPoint insertOrUpdate(long id, long point) {
+        if (!properties.isWriteBehind()) {
+            UserPoint saved = pointMetrics.recordTableCall("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(id, point));
+            points.put(versioned(saved));
+            return saved;
+        }
+
+        awaitFlushLag();
+        VersionedUserPoint updated = versioned(new UserPoint(id, point, System.currentTimeMillis()));
+        points.put(updated);
+        markDirty(id, updated);
+        return updated.userPoint();
+    }
+
+    /**
+     * 조회한 버전 이후로 다른 쓰기가 없었을 때만 유저 잔액을 갱신합니다. (compare-and-set)
+     * - 버전이 달라졌다면 갱신하지 않고 null을 반환합니다. 호출자는 다시 조회하여 재시도합니다.
+     * - 캐시를 먼저 갱신하여 성공 여부를 정한 뒤 테이블에 반영합니다.
+     *   WRITE_THROUGH 모드에서는 동시에 성공한 쓰기끼리 테이블 반영 순서가 뒤바뀔 수 있으므로,
+     *   테이블에 쓴 사이 더 새로운 버전이 생겼다면 최신 잔액을 다시 써서 테이블이 캐시의 최신 잔액으로 끝나도록 합니다.
+     *
+     * @param id              유저 ID
+     * @param expectedVersion selectVersionedById로 조회한 버전
+     * @param point           갱신할 잔액
+     * @return 갱신된 유저 포인트 정보, 버전 충돌 시 null
+     */
+    public UserPoint compareAndSet(long id, long expectedVersion, long point) {
+        if (properties.isWriteBehind()) {
+            awaitFlushLag();
+        }
+        VersionedUserPoint updated = versioned(new UserPoint(id, point, System.currentTimeMillis()));
+        if (!points.compareAndSet(expectedVersion, updated)) {
+            return null;
+        }
+
+        if (properties.isWriteBehind()) {
+            markDirty(id, updated);
+        } else {
+            writeThroughLatest(id, updated);
+        }
+        return updated.userPoint();
+    }
+
+    /**
+     * 시작 시 WAL에서 복구한 잔액을 캐시에 적재합니다.
+     * - 테이블에는 쓰지 않습니다. 캐시는 항목을 내보내지 않으므로, 이후 조회와 쓰기는 복구한 잔액을 기준으로 처리됩니다.
+     * - 트랜잭션을 받기 전에 호출합니다.
+     *
+     * @param id    유저 ID
+     * @param point 복구한 잔액
+     */
+    public void restore(long id, long point) {
+        points.put(versioned(new UserPoint(id, point, System.currentTimeMillis())));
+    }
+
+    /**
+     * dirty 잔액을 테이블에 반영합니다.
+     * - 반영 도중 새 쓰기가 들어온 유저는 dirty 상태를 유지하여 다음 flush에서 다시 반영합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            long oldest = now;
+            for (Map.Entry<Long, Dirty> entry : dirtyPoints.entrySet()) {
+                Dirty dirty = entry.getValue();
+                oldest = Math.min(oldest, dirty.sinceMillis());
+
+                UserPoint latest = points.get(entry.getKey()).userPoint();
+                pointMetrics.recordTableCall("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(latest.id(), latest.point()));
+                dirtyPoints.remove(entry.getKey(), dirty);
+            }
+            flushLagMillis = now - oldest;
+            lastFlushedMillis = System.currentTimeMillis();
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 테이블에 아직 반영되지 않은 유저 수
+     */
+    public int dirtyCount() {
+        return dirtyPoints.size();
+    }
+
+    /**
+     * 마지막 flush 시점에 가장 오래 대기한 dirty 잔액의 지연 시간(ms)
+     */
+    public long flushLagMillis() {
+        return flushLagMillis;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flush();
+    }
+
+    private VersionedUserPoint load(long id) {
+        VersionedUserPoint cached = points.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        VersionedUserPoint loaded = versioned(
+                pointMetrics.recordTableCall("user_point", "selectById", () -> userPointTable.selectById(id)));
+        VersionedUserPoint existing = points.putIfAbsent(loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private VersionedUserPoint versioned(UserPoint userPoint) {
+        return new VersionedUserPoint(userPoint, versionSequence.incrementAndGet());
+    }
+
+    private void markDirty(long id, VersionedUserPoint updated) {
+        Dirty dirty = new Dirty(updated.version(), updated.userPoint().updateMillis());
+        dirtyPoints.merge(id, dirty, (before, after) -> new Dirty(after.version(), before.sinceMillis()));
+    }
+
+    private void writeThroughLatest(long id, VersionedUserPoint written) {
+        while (true) {
+            long point = written.userPoint().point();
+            pointMetrics.recordTableCall("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(id, point));
+            VersionedUserPoint latest = points.get(id);
+            if (latest.version() <= written.version()) {
+                return;
+            }
+            written = latest;
+        }
+    }
+
+    private ScheduledExecutorService startFlusher(long intervalMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-point-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("[{}] flush 실패", getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * flush가 maxFlushLag 이상 밀려 있으면 다음 flush가 끝날 때까지 쓰기를 대기시킵니다.
+     */
+    private void awaitFlushLag() {
+        long maxLagMillis = properties.maxFlushLag().toMillis();
+        if (dirtyPoints.isEmpty() || System.currentTimeMillis() - lastFlushedMillis <= maxLagMillis) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            while (!dirtyPoints.isEmpty() && System.currentTimeMillis() - lastFlushedMillis > maxLagMillis) {
+                logger.warn("[{}] flush 지연 {}ms 초과, 쓰기 대기", getClass().getSimpleName(), maxLagMillis);
+                flushed.await(maxLagMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private record Dirty(long version, long sinceMillis) {
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 유저 포인트 캐시 설정
+ * - writeMode : 테이블 반영 방식 (WRITE_THROUGH : 즉시 반영, WRITE_BEHIND : 비동기 반영)
+ * - flushInterval : WRITE_BEHIND 모드에서 dirty 잔액을 테이블에 반영하는 주기
+ * - maxFlushLag : 허용하는 최대 반영 지연, 초과하면 쓰기 요청이 flush 완료까지 대기합니다.
+ */
+@ConfigurationProperties(prefix = "point.user-point-cache")
+public record UserPointCacheProperties(
+        @DefaultValue("WRITE_THROUGH") WriteMode writeMode,
+        @DefaultValue("100ms") Duration flushInterval,
+        @DefaultValue("1s") Duration maxFlushLag
+) {
+
+    public enum WriteMode {
+        WRITE_THROUGH, WRITE_BEHIND
+    }
+
+    public boolean isWriteBehind() {
+        return writeMode == WriteMode.WRITE_BEHIND;
+    }
+}
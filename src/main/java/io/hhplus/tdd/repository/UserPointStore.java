@@ -0,0 +1,36 @@
+package io.hhplus.tdd.repository;
+
+/**
+ * UserPointCache가 유저 잔액을 보관하는 저장소
+ * - HeapUserPointStore : 유저마다 객체를 두는 ConcurrentHashMap (기본값)
+ * - OffHeapUserPointStore : 객체 없이 힙 밖의 메모리에 고정 크기 슬롯으로 보관
+ * - 항목은 지우지 않으며, 모든 메서드는 여러 스레드에서 동시에 호출할 수 있습니다.
+ */
+public interface UserPointStore {
+
+    /**
+     * @return 보관 중인 잔액, 없으면 null
+     */
+    VersionedUserPoint get(long id);
+
+    void put(VersionedUserPoint value);
+
+    /**
+     * 보관 중인 잔액이 없을 때만 저장합니다.
+     *
+     * @return 이미 보관 중이던 잔액, 새로 저장했다면 null
+     */
+    VersionedUserPoint putIfAbsent(VersionedUserPoint value);
+
+    /**
+     * 보관 중인 잔액의 버전이 expectedVersion일 때만 value로 바꿉니다.
+     *
+     * @return 바꿨으면 true
+     */
+    boolean compareAndSet(long expectedVersion, VersionedUserPoint value);
+
+    /**
+     * 보관 중인 유저 수
+     */
+    int size();
+}
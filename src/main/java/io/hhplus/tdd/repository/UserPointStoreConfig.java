@@ -0,0 +1,16 @@
+package io.hhplus.tdd.repository;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserPointStoreConfig {
+
+    @Bean
+    public UserPointStore userPointStore(UserPointStoreProperties properties) {
+        return switch (properties.type()) {
+            case HEAP -> new HeapUserPointStore();
+            case OFF_HEAP -> new OffHeapUserPointStore(properties.initialCapacity());
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 잔액 저장소 설정
+ * - type : HEAP은 유저마다 객체를 두는 ConcurrentHashMap, OFF_HEAP은 힙 밖 메모리의 32 bytes 슬롯에 보관합니다.
+ * - initialCapacity : OFF_HEAP 저장소가 미리 자리를 잡아 둘 유저 수
+ */
+@ConfigurationProperties(prefix = "point.user-point-store")
+public record UserPointStoreProperties(
+        @DefaultValue("HEAP") Type type,
+        @DefaultValue("1024") int initialCapacity
+) {
+
+    public enum Type {
+        HEAP, OFF_HEAP
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+
+/**
+ * 캐시에 보관 중인 유저 잔액과 그 버전
+ * - 버전은 캐시에 쓰기가 반영될 때마다 새로 발급되며 이전 버전보다 항상 큽니다.
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version
+) {
+}
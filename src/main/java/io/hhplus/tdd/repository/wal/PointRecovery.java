@@ -0,0 +1,325 @@
+package io.hhplus.tdd.repository.wal;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.PointHistoryIndex;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.repository.UserPointCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WAL의 유저 잔액 스냅샷을 주기적으로 남기고, 시작 시 스냅샷과 로그로 잔액과 이력 인덱스를 복구합니다.
+ * - 스냅샷은 이전 스냅샷의 잔액에 그 이후의 로그를 더해서 만들며, 잔액과 마지막 이력 ID만 담습니다.
+ *   캐시나 유저 Lock을 거치지 않고 디스크에 반영된 로그만 읽으므로 트랜잭션을 막지 않으며, 스냅샷은 항상 position까지의 로그와 일치합니다.
+ * - 이력은 append-only인 WAL 세그먼트에만 남습니다. 스냅샷이 이력을 다시 쓰거나 메모리에 따로 들고 있지 않습니다.
+ * - 시작 시에는 스냅샷의 잔액에 스냅샷 이후의 레코드만 더하고, 이력 인덱스는 세그먼트의 모든 레코드로 다시 적재합니다.
+ * - 복구는 두 단계를 병렬로 수행합니다.
+ *   세그먼트별로 레코드를 읽어 유저 파티션(userId mod parallelism)별로 나눈 뒤,
+ *   파티션별로 세그먼트 순서대로 이력을 인덱스에 적재하고 스냅샷 잔액에 변화량을 합산하여 캐시에 적재합니다.
+ * - 복구 결과(시간, 레코드 수)는 로그와 PointMetrics로 남깁니다.
+ */
+@Component
+public class PointRecovery {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointRecovery.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointRecoveryProperties properties;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointMetrics pointMetrics;
+    private final PointSnapshotStore snapshotStore;
+
+    private PointSnapshot lastSnapshot = PointSnapshot.empty();
+    private volatile PointRecoveryReport lastReport;
+    private ScheduledExecutorService snapshotter;
+
+    public PointRecovery(
+            PointWriteAheadLog pointWriteAheadLog,
+            PointWriteAheadLogProperties walProperties,
+            PointRecoveryProperties properties,
+            UserPointCache userPointCache,
+            PointHistoryIndex pointHistoryIndex,
+            PointHistoryWriter pointHistoryWriter,
+            PointMetrics pointMetrics
+    ) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.properties = properties;
+        this.userPointCache = userPointCache;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointMetrics = pointMetrics;
+        this.snapshotStore = walProperties.enabled() ? new PointSnapshotStore(walProperties.directory(), properties.retainedSnapshots()) : null;
+    }
+
+    /**
+     * WAL이 켜져 있으면 복구한 뒤 스냅샷 스레드를 시작합니다.
+     * - 빈 생성 시점에 실행되므로 웹 서버가 요청을 받기 전에 복구가 끝납니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!pointWriteAheadLog.isEnabled()) {
+            return;
+        }
+        recover();
+        snapshotter = startSnapshotter(properties.snapshotInterval().toMillis());
+    }
+
+    /**
+     * 최근 스냅샷과 그 이후의 로그로 유저 잔액과 이력 인덱스를 복구합니다.
+     * - 트랜잭션을 받기 전에 한 번만 호출합니다.
+     *
+     * @return 복구 결과
+     */
+    public PointRecoveryReport recover() {
+        long startNanos = System.nanoTime();
+        long logEnd = pointWriteAheadLog.writtenPosition();
+        PointSnapshot snapshot = snapshotStore.loadLatest(logEnd);
+        List<Long> segments = pointWriteAheadLog.segmentBaseOffsets();
+        if (!segments.isEmpty() && segments.get(0) > 0L) {
+            throw new IllegalStateException("로그의 앞부분이 남아 있지 않아 이력을 복구할 수 없습니다. 첫 세그먼트: " + segments.get(0));
+        }
+        int partitions = properties.parallelism();
+
+        List<SegmentReplay> replays;
+        List<Integer> recoveredUsers;
+        ExecutorService executor = newRecoveryExecutor(partitions);
+        try {
+            List<Future<SegmentReplay>> reads = new ArrayList<>(segments.size());
+            for (long baseOffset : segments) {
+                reads.add(executor.submit(() -> readSegment(baseOffset, logEnd, snapshot.position(), partitions)));
+            }
+            replays = join(reads);
+
+            List<Map<Long, Long>> snapshotPartitions = partition(snapshot.balances(), partitions);
+            List<Future<Integer>> applies = new ArrayList<>(partitions);
+            for (int partition = 0; partition < partitions; partition++) {
+                int target = partition;
+                applies.add(executor.submit(() -> applyPartition(target, snapshotPartitions.get(target), replays)));
+            }
+            recoveredUsers = join(applies);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long replayedRecords = replays.stream().mapToLong(SegmentReplay::replayed).sum();
+        long indexedHistories = replays.stream().mapToLong(SegmentReplay::indexed).sum();
+        long lastHistoryId = Math.max(snapshot.lastHistoryId(),
+                replays.stream().mapToLong(SegmentReplay::lastHistoryId).max().orElse(0L));
+        pointHistoryWriter.resumeAfter(lastHistoryId);
+        synchronized (this) {
+            lastSnapshot = snapshot;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        PointRecoveryReport report = new PointRecoveryReport(snapshot.position(), snapshot.balances().size(), segments.size(),
+                indexedHistories, replayedRecords, recoveredUsers.stream().mapToInt(Integer::intValue).sum(), lastHistoryId,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        pointMetrics.recordRecovery(elapsedNanos, indexedHistories, replayedRecords);
+        logger.info("[{}] 복구 완료 - {}", getClass().getSimpleName(), report);
+        lastReport = report;
+        return report;
+    }
+
+    /**
+     * 마지막 스냅샷 이후 디스크에 반영된 로그를 잔액에 더해 새 스냅샷을 저장합니다.
+     * - 새로 반영할 로그가 없으면 저장하지 않고 마지막 스냅샷을 반환합니다.
+     *
+     * @return 저장한 스냅샷
+     */
+    public synchronized PointSnapshot snapshot() {
+        long startNanos = System.nanoTime();
+        long position = pointWriteAheadLog.writtenPosition();
+        pointWriteAheadLog.awaitDurable();
+        if (position == lastSnapshot.position()) {
+            return lastSnapshot;
+        }
+
+        Map<Long, Long> balances = new HashMap<>(lastSnapshot.balances());
+        AtomicLong lastHistoryId = new AtomicLong(lastSnapshot.lastHistoryId());
+        pointWriteAheadLog.replay(lastSnapshot.position(), position, (pointHistory, recordPosition) -> {
+            balances.merge(pointHistory.userId(), PointSnapshot.delta(pointHistory), Long::sum);
+            lastHistoryId.accumulateAndGet(pointHistory.id(), Math::max);
+        });
+        PointSnapshot snapshot = new PointSnapshot(position, balances, lastHistoryId.get());
+        snapshotStore.save(snapshot);
+        lastSnapshot = snapshot;
+        pointMetrics.recordSnapshot(System.nanoTime() - startNanos, balances.size());
+        return snapshot;
+    }
+
+    /**
+     * 마지막 복구 결과, 복구하지 않았다면 null
+     */
+    public PointRecoveryReport lastReport() {
+        return lastReport;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (snapshotter == null) {
+            return;
+        }
+        snapshotter.shutdown();
+        try {
+            snapshotter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotQuietly();
+    }
+
+    private SegmentReplay readSegment(long baseOffset, long logEnd, long snapshotPosition, int partitions) {
+        SegmentReplay replay = new SegmentReplay(partitions);
+        pointWriteAheadLog.replaySegment(baseOffset, 0L, logEnd,
+                (pointHistory, position) -> replay.add(pointHistory, position >= snapshotPosition));
+        return replay;
+    }
+
+    /**
+     * 파티션에 속한 유저의 이력을 세그먼트 순서대로 인덱스에 적재하고,
+     * 스냅샷 잔액에 스냅샷 이후의 변화량을 더해 캐시에 적재합니다.
+     * - 한 유저의 이력은 한 파티션에서 로그 순서대로 적재되므로 인덱스의 끝에 이어 붙습니다.
+     *
+     * @return 잔액을 복구한 유저 수
+     */
+    private int applyPartition(int partition, Map<Long, Long> snapshotBalances, List<SegmentReplay> replays) {
+        Map<Long, Long> balances = new HashMap<>(snapshotBalances);
+        for (SegmentReplay replay : replays) {
+            replay.histories().get(partition).forEach(pointHistoryIndex::add);
+            replay.deltas().get(partition).forEach((userId, delta) -> balances.merge(userId, delta, Long::sum));
+        }
+        balances.forEach(userPointCache::restore);
+        return balances.size();
+    }
+
+    private static List<Map<Long, Long>> partition(Map<Long, Long> balances, int partitions) {
+        List<Map<Long, Long>> partitioned = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            partitioned.add(new HashMap<>());
+        }
+        balances.forEach((userId, point) -> partitioned.get(partitionOf(userId, partitions)).put(userId, point));
+        return partitioned;
+    }
+
+    private static int partitionOf(long userId, int partitions) {
+        return Math.floorMod(userId, partitions);
+    }
+
+    private static <T> List<T> join(List<Future<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("복구가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("복구에 실패했습니다.", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static ExecutorService newRecoveryExecutor(int parallelism) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "point-recovery-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private ScheduledExecutorService startSnapshotter(long intervalMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-wal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            logger.error("[{}] 스냅샷 저장 실패", getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 세그먼트 하나를 읽은 결과
+     * - histories : 파티션별 이력 (로그 순서)
+     * - deltas : 파티션별, 유저별 스냅샷 이후의 잔액 변화량
+     */
+    private static final class SegmentReplay {
+
+        private final List<List<PointHistory>> histories;
+        private final List<Map<Long, Long>> deltas;
+        private long indexed;
+        private long replayed;
+        private long lastHistoryId;
+
+        SegmentReplay(int partitions) {
+            this.histories = new ArrayList<>(partitions);
+            this.deltas = new ArrayList<>(partitions);
+            for (int partition = 0; partition < partitions; partition++) {
+                histories.add(new ArrayList<>());
+                deltas.add(new HashMap<>());
+            }
+        }
+
+        void add(PointHistory pointHistory, boolean afterSnapshot) {
+            int partition = partitionOf(pointHistory.userId(), histories.size());
+            histories.get(partition).add(pointHistory);
+            indexed++;
+            if (afterSnapshot) {
+                deltas.get(partition).merge(pointHistory.userId(), PointSnapshot.delta(pointHistory), Long::sum);
+                replayed++;
+            }
+            lastHistoryId = Math.max(lastHistoryId, pointHistory.id());
+        }
+
+        List<List<PointHistory>> histories() {
+            return histories;
+        }
+
+        List<Map<Long, Long>> deltas() {
+            return deltas;
+        }
+
+        long indexed() {
+            return indexed;
+        }
+
+        long replayed() {
+            return replayed;
+        }
+
+        long lastHistoryId() {
+            return lastHistoryId;
+        }
+    }
+}
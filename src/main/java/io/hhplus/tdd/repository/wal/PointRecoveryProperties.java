@@ -0,0 +1,29 @@
+package io.hhplus.tdd.repository.wal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * WAL 스냅샷 및 시작 시 복구 설정 (point.wal.enabled가 true일 때만 동작합니다.)
+ * - snapshotInterval : 유저 잔액 스냅샷을 남기는 주기, 시작 시에는 마지막 스냅샷 이후의 로그만 잔액에 다시 반영합니다.
+ * - retainedSnapshots : 보관할 스냅샷 파일 수, 가장 최근 파일이 손상되었을 때 이전 파일로 복구합니다.
+ * - parallelism : 복구 시 세그먼트를 읽고 유저 파티션별로 반영하는 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.recovery")
+public record PointRecoveryProperties(
+        @DefaultValue("1m") Duration snapshotInterval,
+        @DefaultValue("2") int retainedSnapshots,
+        @DefaultValue("4") int parallelism
+) {
+
+    public PointRecoveryProperties {
+        if (retainedSnapshots < 1) {
+            throw new IllegalArgumentException("retainedSnapshots는 1 이상이어야 합니다. 설정값: " + retainedSnapshots);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism은 1 이상이어야 합니다. 설정값: " + parallelism);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.repository.wal;
+
+/**
+ * 시작 시 복구 결과
+ *
+ * @param snapshotPosition 불러온 스냅샷의 WAL 위치 (스냅샷이 없으면 0)
+ * @param snapshotUsers    스냅샷에서 불러온 유저 수
+ * @param segments         읽은 세그먼트 수
+ * @param indexedHistories 이력 인덱스에 다시 적재한 이력 수
+ * @param replayedRecords  스냅샷 이후로 잔액에 다시 반영한 레코드 수
+ * @param recoveredUsers   잔액을 복구한 유저 수
+ * @param lastHistoryId    복구한 이력 중 가장 큰 ID
+ * @param elapsedMillis    복구에 걸린 시간(ms)
+ */
+public record PointRecoveryReport(
+        long snapshotPosition,
+        int snapshotUsers,
+        int segments,
+        long indexedHistories,
+        long replayedRecords,
+        int recoveredUsers,
+        long lastHistoryId,
+        long elapsedMillis
+) {
+}
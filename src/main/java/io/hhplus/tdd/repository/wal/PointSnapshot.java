@@ -0,0 +1,32 @@
+package io.hhplus.tdd.repository.wal;
+
+import io.hhplus.tdd.domain.PointHistory;
+
+import java.util.Map;
+
+/**
+ * WAL의 특정 위치까지 반영한 전체 유저 잔액
+ * - position 이전의 레코드는 모두 balances에 반영되어 있으므로, 복구 시 position 이후의 레코드만 잔액에 다시 더합니다.
+ * - 이력은 담지 않습니다. 이력은 append-only인 WAL 세그먼트에만 남고, 스냅샷이 다시 쓰지 않습니다.
+ *
+ * @param position      반영을 마친 WAL 위치 (다음에 읽을 레코드의 시작 위치)
+ * @param balances      유저 ID별 잔액
+ * @param lastHistoryId position 이전의 이력 중 가장 큰 ID, 이력이 없으면 0
+ */
+public record PointSnapshot(long position, Map<Long, Long> balances, long lastHistoryId) {
+
+    public static PointSnapshot empty() {
+        return new PointSnapshot(0L, Map.of(), 0L);
+    }
+
+    /**
+     * 이력 하나가 잔액에 더하는 값
+     * - CHARGE는 충전 금액만큼, USE는 사용 금액만큼 뺀 값이며, TRANSFER는 보낸 쪽이 음수로 기록되어 있으므로 금액 그대로입니다.
+     */
+    public static long delta(PointHistory pointHistory) {
+        return switch (pointHistory.type()) {
+            case CHARGE, TRANSFER -> pointHistory.amount();
+            case USE -> -pointHistory.amount();
+        };
+    }
+}
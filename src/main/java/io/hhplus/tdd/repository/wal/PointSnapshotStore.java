@@ -0,0 +1,182 @@
+package io.hhplus.tdd.repository.wal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 유저 잔액 스냅샷 파일을 저장하고 불러옵니다.
+ * <pre>
+ *  int   MAGIC
+ *  int   VERSION
+ *  long  position
+ *  long  lastHistoryId
+ *  int   유저 수 (n)
+ *  n × (long userId, long point)
+ *  int   CRC32C (앞의 모든 byte)
+ * </pre>
+ * - 임시 파일에 쓰고 디스크에 반영한 뒤 이름을 바꾸므로, 중간에 중단되어도 완성된 스냅샷만 남습니다.
+ * - 파일 이름은 스냅샷의 WAL 위치이며, 최근 retained개만 남기고 지웁니다.
+ * - 이전 VERSION의 파일은 유효하지 않은 스냅샷으로 보고 건너뜁니다. 잔액은 로그 처음부터 다시 합산됩니다.
+ */
+class PointSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointSnapshotStore.class);
+    private static final String SNAPSHOT_PREFIX = "point-snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int MAGIC = 0x50534E50;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+    private static final int ENTRY_SIZE = 8 + 8;
+
+    private final Path directory;
+    private final int retained;
+
+    PointSnapshotStore(Path directory, int retained) {
+        this.directory = directory;
+        this.retained = retained;
+    }
+
+    void save(PointSnapshot snapshot) {
+        Path path = snapshotPath(snapshot.position());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CRC32C crc = new CRC32C();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.position());
+            out.writeLong(snapshot.lastHistoryId());
+            out.writeInt(snapshot.balances().size());
+            for (Map.Entry<Long, Long> entry : snapshot.balances().entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+            out.flush();
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 저장할 수 없습니다: " + path, e);
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 저장할 수 없습니다: " + path, e);
+        }
+        deleteOlderThanRetained();
+    }
+
+    /**
+     * maxPosition 이하의 스냅샷 중 가장 최근의 유효한 스냅샷을 불러옵니다.
+     * - 손상되었거나 로그보다 앞선 스냅샷은 건너뛰고 이전 스냅샷을 찾습니다.
+     *
+     * @param maxPosition 로그가 끝나는 위치
+     * @return 불러온 스냅샷, 없으면 PointSnapshot.empty()
+     */
+    PointSnapshot loadLatest(long maxPosition) {
+        List<Path> paths = snapshotPaths();
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            Path path = paths.get(i);
+            if (positionOf(path) > maxPosition) {
+                logger.warn("[{}] 로그보다 앞선 스냅샷 무시: {}, 로그 끝: {}", getClass().getSimpleName(), path, maxPosition);
+                continue;
+            }
+            PointSnapshot snapshot = read(path);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            logger.warn("[{}] 손상된 스냅샷 무시: {}", getClass().getSimpleName(), path);
+        }
+        return PointSnapshot.empty();
+    }
+
+    private PointSnapshot read(Path path) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 읽을 수 없습니다: " + path, e);
+        }
+        if (bytes.length < HEADER_SIZE + 4) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt(bytes.length - 4) != (int) crc.getValue()
+                || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+        }
+        try {
+            long position = buffer.getLong();
+            long lastHistoryId = buffer.getLong();
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * ENTRY_SIZE != bytes.length - HEADER_SIZE - 4) {
+                return null;
+            }
+            Map<Long, Long> balances = new HashMap<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                balances.put(buffer.getLong(), buffer.getLong());
+            }
+            return new PointSnapshot(position, balances, lastHistoryId);
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    private void deleteOlderThanRetained() {
+        List<Path> paths = snapshotPaths();
+        for (Path path : paths.subList(0, Math.max(0, paths.size() - retained))) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn("[{}] 오래된 스냅샷 삭제 실패: {}", getClass().getSimpleName(), path, e);
+            }
+        }
+    }
+
+    private List<Path> snapshotPaths() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(PointSnapshotStore::positionOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 목록을 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private Path snapshotPath(long position) {
+        return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, position, SNAPSHOT_SUFFIX));
+    }
+
+    private static long positionOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.repository.wal;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.service.transaction.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * WAL 레코드의 바이너리 형식 (고정 길이 38 bytes, big-endian)
+ * <pre>
+ *  0  byte  MARKER (레코드 존재 표시)
+ *  1  byte  TransactionType ordinal
+ *  2  long  historyId
+ * 10  long  userId
+ * 18  long  amount
+ * 26  long  updateMillis
+ * 34  int   CRC32C (0 ~ 33 byte)
+ * </pre>
+ * - MARKER가 없거나 CRC가 맞지 않는 레코드는 기록 도중 중단된(torn) 레코드로 보고 로그의 끝으로 취급합니다.
+ * - 인스턴스는 스크래치 버퍼를 재사용하므로 여러 스레드에서 동시에 사용할 수 없습니다.
+ */
+class PointWalCodec {
+
+    static final int RECORD_SIZE = 38;
+
+    private static final byte MARKER = (byte) 0xA5;
+    private static final int CHECKED_SIZE = 34;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * 이력 하나를 buffer의 offset 위치에 기록합니다.
+     */
+    void write(ByteBuffer buffer, int offset, PointHistory pointHistory) {
+        scratchBuffer.clear();
+        scratchBuffer.put(MARKER)
+                .put((byte) pointHistory.type().ordinal())
+                .putLong(pointHistory.id())
+                .putLong(pointHistory.userId())
+                .putLong(pointHistory.amount())
+                .putLong(pointHistory.updateMillis());
+        crc.reset();
+        crc.update(scratch, 0, CHECKED_SIZE);
+        scratchBuffer.putInt((int) crc.getValue());
+        buffer.put(offset, scratch);
+    }
+
+    /**
+     * buffer의 offset 위치에서 이력 하나를 읽습니다.
+     *
+     * @return 읽은 이력, 유효한 레코드가 없으면 null
+     */
+    PointHistory read(ByteBuffer buffer, int offset) {
+        if (offset + RECORD_SIZE > buffer.capacity()) {
+            return null;
+        }
+        buffer.get(offset, scratch);
+        if (scratch[0] != MARKER) {
+            return null;
+        }
+        crc.reset();
+        crc.update(scratch, 0, CHECKED_SIZE);
+        scratchBuffer.clear();
+        if (scratchBuffer.getInt(CHECKED_SIZE) != (int) crc.getValue()) {
+            return null;
+        }
+        int type = scratch[1];
+        if (type < 0 || type >= TYPES.length) {
+            return null;
+        }
+        return new PointHistory(
+                scratchBuffer.getLong(2),
+                scratchBuffer.getLong(10),
+                scratchBuffer.getLong(18),
+                TYPES[type],
+                scratchBuffer.getLong(26)
+        );
+    }
+}
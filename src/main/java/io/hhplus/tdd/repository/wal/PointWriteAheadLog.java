@@ -0,0 +1,409 @@
+package io.hhplus.tdd.repository.wal;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 이력을 append-only 파일에 남기는 write-ahead log
+ * - 고정 크기 세그먼트 파일을 메모리에 매핑해 두고, 이력 하나를 38 bytes 레코드로 이어 씁니다. (형식은 PointWalCodec 참고)
+ *   쓰기는 메모리 복사뿐이므로 유저 Lock 안에서 호출해도 지연이 거의 없습니다.
+ * - 디스크 반영(force)은 sync 스레드가 fsyncInterval마다, 또는 fsyncBatchSize만큼 쌓이면 한 번에 수행합니다. (group commit)
+ *   요청 스레드는 Lock을 놓은 뒤 awaitDurable로 자신의 기록이 반영될 때까지 기다렸다가 응답합니다.
+ * - 세그먼트가 가득 차면 이전 세그먼트를 반영한 뒤 다음 세그먼트로 넘어갑니다. 파일 이름은 세그먼트의 시작 위치입니다.
+ * - 세그먼트는 지우지 않습니다. 스냅샷은 잔액만 담으므로, 시작 시 이력 인덱스는 세그먼트에서 다시 적재합니다.
+ * - 시작 시 마지막 세그먼트에서 유효한 레코드의 끝을 찾아 이어 씁니다.
+ *   기록 도중 중단된 레코드와 그 뒤의 내용은 지워서, 이후 다시 읽을 때 오래된 레코드가 섞이지 않도록 합니다.
+ */
+@Component
+public class PointWriteAheadLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointWriteAheadLog.class);
+    private static final String SEGMENT_PREFIX = "point-wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final PointWriteAheadLogProperties properties;
+    private final PointMetrics pointMetrics;
+    private final int segmentSize;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final PointWalCodec codec = new PointWalCodec();
+    private Segment segment;
+    private volatile long writtenPosition;
+    private volatile long appendedRecords;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private volatile long durablePosition;
+    private volatile long syncedRecords;
+
+    private volatile boolean running = true;
+    private final Thread syncer;
+
+    public PointWriteAheadLog(PointWriteAheadLogProperties properties, PointMetrics pointMetrics) {
+        this.properties = properties;
+        this.pointMetrics = pointMetrics;
+        long configuredSegmentSize = properties.segmentSize().toBytes();
+        if (configuredSegmentSize < PointWalCodec.RECORD_SIZE || configuredSegmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize는 " + PointWalCodec.RECORD_SIZE + " bytes 이상 2GB 미만이어야 합니다. 설정값: " + configuredSegmentSize);
+        }
+        this.segmentSize = (int) configuredSegmentSize;
+
+        if (!properties.enabled()) {
+            this.syncer = null;
+            return;
+        }
+        this.segment = openLastSegment();
+        this.durablePosition = writtenPosition;
+        this.syncer = properties.fsync() == PointWriteAheadLogProperties.FsyncMode.BATCH ? startSyncer() : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 이력 하나를 로그에 기록합니다.
+     * - 메모리 매핑에 쓰고 바로 반환하며, 디스크 반영은 기다리지 않습니다.
+     */
+    public void append(PointHistory pointHistory) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long pending;
+        appendLock.lock();
+        try {
+            int offset = (int) (writtenPosition - segment.baseOffset());
+            if (offset + PointWalCodec.RECORD_SIZE > segment.size()) {
+                roll();
+                offset = 0;
+            }
+            codec.write(segment.buffer(), offset, pointHistory);
+            writtenPosition = segment.baseOffset() + offset + PointWalCodec.RECORD_SIZE;
+            pending = ++appendedRecords - syncedRecords;
+        } finally {
+            appendLock.unlock();
+        }
+        if (syncer != null && pending >= properties.fsyncBatchSize()) {
+            LockSupport.unpark(syncer);
+        }
+    }
+
+    /**
+     * 이 호출 전까지 기록된 레코드가 모두 디스크에 반영될 때까지 기다립니다.
+     * - WAL이 꺼져 있거나 fsync가 NONE이면 바로 반환합니다.
+     */
+    public void awaitDurable() {
+        if (syncer == null) {
+            return;
+        }
+        long target = writtenPosition;
+        if (durablePosition >= target) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (durablePosition < target) {
+                if (!running) {
+                    throw new IllegalStateException("WAL이 닫혀 디스크 반영을 기다릴 수 없습니다.");
+                }
+                synced.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WAL 디스크 반영 대기가 중단되었습니다.", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 로그에 남은 이력을 기록 순서대로 전달합니다.
+     * - 시작 시 복구 용도이며, append와 동시에 호출하지 않습니다.
+     *
+     * @param consumer 이력을 하나씩 전달받을 소비자
+     */
+    public void replay(Consumer<PointHistory> consumer) {
+        replay(0L, writtenPosition, (pointHistory, position) -> consumer.accept(pointHistory));
+    }
+
+    /**
+     * [fromPosition, toPosition) 범위의 이력을 기록 순서대로 위치와 함께 전달합니다.
+     * - toPosition이 writtenPosition 이하라면 append와 동시에 호출해도 됩니다. (이미 기록을 마친 범위만 읽습니다.)
+     *
+     * @param fromPosition 이 위치부터 읽음 (포함)
+     * @param toPosition   이 위치까지 읽음 (미포함)
+     * @param consumer     이력과 그 레코드의 시작 위치를 전달받을 소비자
+     */
+    public void replay(long fromPosition, long toPosition, ObjLongConsumer<PointHistory> consumer) {
+        if (!properties.enabled()) {
+            return;
+        }
+        for (long baseOffset : segmentBaseOffsetsFrom(fromPosition)) {
+            if (baseOffset >= toPosition) {
+                break;
+            }
+            replaySegment(baseOffset, fromPosition, toPosition, consumer);
+        }
+    }
+
+    /**
+     * 세그먼트 하나에서 [fromPosition, toPosition) 범위의 이력을 기록 순서대로 위치와 함께 전달합니다.
+     * - 세그먼트마다 따로 매핑하여 읽으므로, 서로 다른 세그먼트를 여러 스레드에서 동시에 읽을 수 있습니다.
+     *
+     * @param baseOffset   세그먼트 시작 위치 (segmentBaseOffsets 참고)
+     * @param fromPosition 이 위치부터 읽음 (포함)
+     * @param toPosition   이 위치까지 읽음 (미포함)
+     * @param consumer     이력과 그 레코드의 시작 위치를 전달받을 소비자
+     * @return 전달한 이력 수
+     */
+    public int replaySegment(long baseOffset, long fromPosition, long toPosition, ObjLongConsumer<PointHistory> consumer) {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        Segment replaying = Segment.open(segmentPath(baseOffset), baseOffset, segmentSize);
+        long start = Math.max(fromPosition, baseOffset) - baseOffset;
+        int offset = (int) Math.min(start, replaying.size());
+        int end = (int) Math.min(Math.max(toPosition - baseOffset, 0L), replaying.size());
+        PointWalCodec reader = new PointWalCodec();
+        int count = 0;
+        for (; offset + PointWalCodec.RECORD_SIZE <= end; offset += PointWalCodec.RECORD_SIZE) {
+            PointHistory pointHistory = reader.read(replaying.buffer(), offset);
+            if (pointHistory == null) {
+                break;
+            }
+            consumer.accept(pointHistory, baseOffset + offset);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 로그를 이루는 세그먼트의 시작 위치 목록 (오름차순)
+     */
+    public List<Long> segmentBaseOffsets() {
+        if (!properties.enabled()) {
+            return List.of();
+        }
+        return segmentPaths().stream().map(PointWriteAheadLog::baseOffsetOf).toList();
+    }
+
+    /**
+     * position 이후의 레코드가 들어 있을 수 있는 세그먼트의 시작 위치 목록 (오름차순)
+     * - position 이전에서 끝나는 세그먼트는 제외하므로, 스냅샷 이후의 로그만 읽을 때 앞의 세그먼트를 열지 않습니다.
+     */
+    public List<Long> segmentBaseOffsetsFrom(long position) {
+        List<Long> baseOffsets = segmentBaseOffsets();
+        int first = 0;
+        while (first + 1 < baseOffsets.size() && baseOffsets.get(first + 1) <= position) {
+            first++;
+        }
+        return baseOffsets.subList(first, baseOffsets.size());
+    }
+
+    /**
+     * 기록된 위치 (세그먼트 시작 위치 + 세그먼트 안의 위치)
+     */
+    public long writtenPosition() {
+        return writtenPosition;
+    }
+
+    /**
+     * 디스크 반영이 끝난 위치
+     */
+    public long durablePosition() {
+        return durablePosition;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!properties.enabled() || !running) {
+            return;
+        }
+        running = false;
+        if (syncer != null) {
+            LockSupport.unpark(syncer);
+            try {
+                syncer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sync();
+        syncLock.lock();
+        try {
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void roll() {
+        Segment previous = segment;
+        previous.buffer().force();
+        long nextBaseOffset = previous.baseOffset() + previous.size();
+        segment = Segment.open(segmentPath(nextBaseOffset), nextBaseOffset, segmentSize);
+        writtenPosition = nextBaseOffset;
+        logger.info("[{}] 세그먼트 전환: {}", getClass().getSimpleName(), segmentPath(nextBaseOffset));
+    }
+
+    private Thread startSyncer() {
+        Thread thread = new Thread(this::syncLoop, "point-wal-syncer");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void syncLoop() {
+        long intervalNanos = properties.fsyncInterval().toNanos();
+        while (running) {
+            if (appendedRecords - syncedRecords < properties.fsyncBatchSize()) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+            try {
+                sync();
+            } catch (RuntimeException e) {
+                logger.error("[{}] 디스크 반영 실패", getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 마지막 반영 이후 기록된 범위를 한 번의 force로 디스크에 반영하고, 기다리는 요청 스레드를 깨웁니다.
+     */
+    private void sync() {
+        Segment target;
+        long targetPosition;
+        long targetRecords;
+        appendLock.lock();
+        try {
+            target = segment;
+            targetPosition = writtenPosition;
+            targetRecords = appendedRecords;
+        } finally {
+            appendLock.unlock();
+        }
+
+        long durable = durablePosition;
+        if (targetPosition <= durable) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        int from = (int) (Math.max(durable, target.baseOffset()) - target.baseOffset());
+        int length = (int) (targetPosition - target.baseOffset()) - from;
+        if (length > 0) {
+            target.buffer().force(from, length);
+        }
+        pointMetrics.recordWalSync(System.nanoTime() - startNanos, targetRecords - syncedRecords);
+        syncedRecords = targetRecords;
+
+        syncLock.lock();
+        try {
+            durablePosition = targetPosition;
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private Segment openLastSegment() {
+        try {
+            Files.createDirectories(properties.directory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 디렉터리를 만들 수 없습니다: " + properties.directory(), e);
+        }
+        List<Path> paths = segmentPaths();
+        if (paths.isEmpty()) {
+            writtenPosition = 0L;
+            return Segment.open(segmentPath(0L), 0L, segmentSize);
+        }
+
+        Path lastPath = paths.get(paths.size() - 1);
+        long baseOffset = baseOffsetOf(lastPath);
+        Segment last = Segment.open(lastPath, baseOffset, segmentSize);
+        int end = 0;
+        while (codec.read(last.buffer(), end) != null) {
+            end += PointWalCodec.RECORD_SIZE;
+        }
+        int cleared = clearFrom(last, end);
+        if (cleared > 0) {
+            logger.warn("[{}] 유효하지 않은 꼬리 {} bytes 정리: {}", getClass().getSimpleName(), cleared, lastPath);
+        }
+        writtenPosition = baseOffset + end;
+        logger.info("[{}] 세그먼트 {}개, 이어 쓸 위치: {}", getClass().getSimpleName(), paths.size(), writtenPosition);
+        return last;
+    }
+
+    private static int clearFrom(Segment segment, int from) {
+        MappedByteBuffer buffer = segment.buffer();
+        int cleared = 0;
+        for (int i = from; i < segment.size(); i++) {
+            if (buffer.get(i) != 0) {
+                buffer.put(i, (byte) 0);
+                cleared++;
+            }
+        }
+        if (cleared > 0) {
+            buffer.force();
+        }
+        return cleared;
+    }
+
+    private List<Path> segmentPaths() {
+        try (Stream<Path> files = Files.list(properties.directory())) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(PointWriteAheadLog::baseOffsetOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트 목록을 읽을 수 없습니다: " + properties.directory(), e);
+        }
+    }
+
+    private Path segmentPath(long baseOffset) {
+        return properties.directory().resolve(String.format("%s%020d%s", SEGMENT_PREFIX, baseOffset, SEGMENT_SUFFIX));
+    }
+
+    private static long baseOffsetOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 메모리에 매핑한 세그먼트 파일
+     * - 이미 있는 파일은 기존 크기로 매핑하여, 설정이 바뀌어도 앞서 기록한 내용을 그대로 읽습니다.
+     */
+    private record Segment(long baseOffset, int size, MappedByteBuffer buffer) {
+
+        static Segment open(Path path, long baseOffset, int segmentSize) {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                int size = channel.size() > 0 ? (int) Math.min(channel.size(), Integer.MAX_VALUE) : segmentSize;
+                return new Segment(baseOffset, size, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL 세그먼트를 열 수 없습니다: " + path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.repository.wal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 트랜잭션 write-ahead log 설정
+ * - enabled : WAL 기록 여부 (기본값 false, 끄면 기존과 같이 메모리에만 보관합니다.)
+ * - directory : 세그먼트 파일을 둘 디렉터리
+ * - segmentSize : 세그먼트 파일 하나의 크기, 가득 차면 다음 세그먼트로 넘어갑니다.
+ * - fsync : BATCH는 디스크 반영(force)까지 기다린 뒤 응답하고, NONE은 메모리 매핑에 쓴 즉시 응답합니다. (반영은 OS에 맡김)
+ * - fsyncInterval : BATCH 모드에서 여러 커밋을 한 번의 force로 모으기 위해 기다리는 최대 시간
+ * - fsyncBatchSize : BATCH 모드에서 이만큼 기록이 쌓이면 fsyncInterval을 기다리지 않고 바로 force합니다.
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record PointWriteAheadLogProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/wal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("BATCH") FsyncMode fsync,
+        @DefaultValue("2ms") Duration fsyncInterval,
+        @DefaultValue("64") int fsyncBatchSize
+) {
+
+    public enum FsyncMode {
+        BATCH, NONE
+    }
+
+    public static PointWriteAheadLogProperties disabled() {
+        return new PointWriteAheadLogProperties(false, Path.of("data/wal"), DataSize.ofMegabytes(64),
+                FsyncMode.BATCH, Duration.ofMillis(2), 64);
+    }
+}
@@ -1,32 +1,39 @@
 package io.hhplus.tdd.service;
 
 import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistoryPage;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.domain.PointTransfer;
 import io.hhplus.tdd.service.transaction.PointTransaction;
 import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
 import io.hhplus.tdd.domain.UserPoint;
-import io.hhplus.tdd.repository.PointHistoryTable;
-import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.repository.PointHistoryCondition;
+import io.hhplus.tdd.repository.PointHistoryIndex;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.repository.wal.PointWriteAheadLog;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.service.executor.PointTransactionExecutor;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointCache userPointCache;
+    private final PointHistoryIndex pointHistoryIndex;
     private final PointTransactionFinder pointTransactionFinder;
+    private final TransferTransaction transferTransaction;
+    private final PointTransactionExecutor pointTransactionExecutor;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
 
-    private final Map<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
-
-    private static final Logger logger = LoggerFactory.getLogger(PointService.class);
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int HISTORY_STREAM_CHUNK_SIZE = 500;
 
     /**
      * 유저 ID를 통해 유저 포인트 정보를 조회합니다.
@@ -38,11 +45,12 @@ public class PointService {
     public UserPoint getUserPointWithDefault(
             final long id
     ) {
-        return userPointTable.selectById(id);
+        return userPointCache.selectById(id);
     }
 
     /**
      * 특정 유저의 포인트 사용/충전 이력을 조회합니다.
+     * - 전체 이력을 순회하지 않고 유저별 인덱스에서 조회합니다.
      *
      * @param id 유저 ID
      * @return 해당 유저의 포인트 이력 리스트
@@ -50,13 +58,89 @@ public class PointService {
     public List<PointHistory> history(
             final long id
     ) {
-        return pointHistoryTable.selectAllByUserId(id);
+        return pointHistoryIndex.selectAllByUserId(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 이력 전체를 ID 오름차순으로 순회합니다.
+     * - 인덱스에서 HISTORY_STREAM_CHUNK_SIZE건씩 나누어 읽으므로, 이력 수와 관계없이 한 번에 보유하는 이력은 한 묶음뿐입니다.
+     * - 순회 도중 추가된 이력도 커서 이후라면 함께 전달됩니다.
+     *
+     * @param id       유저 ID
+     * @param consumer 이력을 하나씩 전달받을 소비자
+     */
+    public void streamHistory(
+            final long id,
+            final Consumer<PointHistory> consumer
+    ) {
+        long cursor = 0L;
+        List<PointHistory> chunk;
+        do {
+            chunk = pointHistoryIndex.selectPage(id, cursor, HISTORY_STREAM_CHUNK_SIZE, PointHistoryCondition.ALL);
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                cursor = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == HISTORY_STREAM_CHUNK_SIZE);
+    }
+
+    /**
+     * 특정 유저의 포인트 이력을 커서 기반으로 나누어 조회합니다.
+     * - 이력 ID 오름차순으로 cursor 이후의 이력을 최대 size건 반환합니다. (size는 MAX_HISTORY_PAGE_SIZE까지 허용)
+     * - 전체 이력을 복사하지 않고 인덱스에서 필요한 만큼만 읽습니다.
+     *
+     * @param id         유저 ID
+     * @param cursor     이 ID보다 큰 이력부터 조회 (첫 페이지는 0)
+     * @param size       페이지 크기
+     * @param type       트랜잭션 타입 조건 (null이면 전체)
+     * @param fromMillis 이 시각 이후의 이력만 조회 (포함, null이면 제한 없음)
+     * @param toMillis   이 시각 이전의 이력만 조회 (미포함, null이면 제한 없음)
+     * @return 포인트 이력 페이지
+     */
+    public PointHistoryPage historyPage(
+            final long id,
+            final long cursor,
+            final int size,
+            final TransactionType type,
+            final Long fromMillis,
+            final Long toMillis
+    ) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(String.format("페이지 크기는 양수여야 합니다. 요청: %d", size));
+        }
+        int pageSize = Math.min(size, MAX_HISTORY_PAGE_SIZE);
+
+        List<PointHistory> items = pointHistoryIndex.selectPage(id, cursor, pageSize, new PointHistoryCondition(type, fromMillis, toMillis));
+
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).id() : null;
+        return new PointHistoryPage(items, nextCursor);
+    }
+
+    /**
+     * 특정 유저의 포인트 이력 건수와 타입별 금액 합계를 조회합니다.
+     * - 이력 객체를 만들지 않고 인덱스의 컬럼을 순회하며 합산합니다.
+     *
+     * @param id         유저 ID
+     * @param type       트랜잭션 타입 조건 (null이면 전체)
+     * @param fromMillis 이 시각 이후의 이력만 합산 (포함, null이면 제한 없음)
+     * @param toMillis   이 시각 이전의 이력만 합산 (미포함, null이면 제한 없음)
+     * @return 포인트 이력 합계
+     */
+    public PointHistorySummary historySummary(
+            final long id,
+            final TransactionType type,
+            final Long fromMillis,
+            final Long toMillis
+    ) {
+        return pointHistoryIndex.summarize(id, new PointHistoryCondition(type, fromMillis, toMillis));
     }
 
     /**
      * 사용 및 충전과 같은 포인트 트랜잭션을 실행합니다.
      * - TransactionType에 따라 적절한 전략을 찾아 실행합니다.
-     * - 사용자별로 Lock을 사용하여 동시처리 문제를 방지합니다.
+     * - 사용자별로 Lock을 사용하여 동시처리 문제를 방지합니다. (실행 방식은 PointTransactionExecutor 설정을 따릅니다.)
+     * - WAL이 켜져 있으면 트랜잭션의 이력이 디스크에 반영된 뒤 응답합니다. (Lock을 놓은 뒤 기다리므로 다른 요청을 막지 않습니다.)
+     * - 처리 시간을 TransactionType과 결과(성공, 한도 초과, 잔액 부족 등)별로 기록합니다.
      *
      * @param userId        유저 ID
      * @param amount        트랜잭션 금액
@@ -73,15 +157,46 @@ public class PointService {
         /**트랜잭션 타입을 변수로 받아 타입에 맞는 컴포넌트 호출**/
         PointTransaction transaction = pointTransactionFinder.findTransactionService(transactionType);
 
-        ReentrantLock lock = userLocks.computeIfAbsent(userId,
-                id -> new ReentrantLock(true));
-        lock.lock();
+        long startNanos = System.nanoTime();
+        try {
+            UserPoint userPoint = pointTransactionExecutor.execute(transaction, userId, amount, timestamp);
+            pointWriteAheadLog.awaitDurable();
+            pointMetrics.recordTransaction(transactionType, PointMetrics.Outcome.SUCCESS, System.nanoTime() - startNanos);
+            return userPoint;
+        } catch (RuntimeException e) {
+            pointMetrics.recordTransaction(transactionType, PointMetrics.Outcome.of(e), System.nanoTime() - startNanos);
+            throw e;
+        }
+    }
+
+    /**
+     * 한 유저의 포인트를 다른 유저에게 이체합니다.
+     * - 두 유저의 잔액은 함께 반영되거나 함께 반영되지 않습니다. (실행 방식은 PointTransactionExecutor 설정을 따릅니다.)
+     * - 보내는 유저의 잔액 부족, 받는 유저의 충전 한도 초과 시 실패합니다.
+     * - WAL이 켜져 있으면 두 이력이 디스크에 반영된 뒤 응답합니다.
+     * - 처리 시간은 TRANSFER 타입으로 기록합니다.
+     *
+     * @param fromUserId 보내는 유저 ID
+     * @param toUserId   받는 유저 ID
+     * @param amount     이체 금액
+     * @param timestamp  트랜잭션 타임스탬프
+     * @return 이체 후 두 유저의 포인트 정보
+     */
+    public PointTransfer transfer(
+            final long fromUserId,
+            final long toUserId,
+            final long amount,
+            final long timestamp
+    ) {
+        long startNanos = System.nanoTime();
         try {
-            logger.info("Lock 획득: User ID: {}, Transaction Type: {}", userId, transactionType);
-            return transaction.execute(userId, amount, timestamp);
-        } finally {
-            lock.unlock();
-            logger.info("Lock 해제: User ID: {}, Transaction Type: {}", userId, transactionType);
+            PointTransfer pointTransfer = pointTransactionExecutor.transfer(transferTransaction, fromUserId, toUserId, amount, timestamp);
+            pointWriteAheadLog.awaitDurable();
+            pointMetrics.recordTransaction(TransactionType.TRANSFER, PointMetrics.Outcome.SUCCESS, System.nanoTime() - startNanos);
+            return pointTransfer;
+        } catch (RuntimeException e) {
+            pointMetrics.recordTransaction(TransactionType.TRANSFER, PointMetrics.Outcome.of(e), System.nanoTime() - startNanos);
+            throw e;
         }
     }
 
@@ -89,6 +204,7 @@ public class PointService {
     /**
      * 해당 메서드는 유저의 포인트를 충전하는 로직을 구현합니다.
      * - 현재는 @Deprecated로 대체 작업이 진행 중이며, executePointTransaction 메서드를 사용하는 것을 권장합니다.
+     * - 캐시와 사용자별 Lock을 거치도록 executePointTransaction에 위임합니다.
      *
      * @deprecated 이 메서드는 실행 타입별 공통 로직을 가진 executePointTransaction 메서드로 대체되었습니다.
      * @param id 유저 ID
@@ -101,32 +217,14 @@ public class PointService {
             final long amount,
             final long currentTimeMillis
     ) {
-        UserPoint userPoint = userPointTable.selectById(id);
-
-        long toBeUpdatedUserPoint = userPoint.charge(amount);
-        logger.info("[{}.charge] : 충전 후 포인트: {}", getClass().getSimpleName(), toBeUpdatedUserPoint);
-
-        UserPoint savedUserPoint = userPointTable.insertOrUpdate(id, toBeUpdatedUserPoint);
-
-        PointHistory insertHistory = pointHistoryTable.insert(
-                id,
-                amount,
-                TransactionType.CHARGE,
-                currentTimeMillis
-        );
-
-        logger.info("[{}.charge] : 충전 완료. User ID: {}, 충전 금액: {}, 업데이트된 포인트: {}",
-                getClass().getSimpleName(), id, amount, savedUserPoint);
-        logger.info("[{}.charge] : 포인트 이력 저장. User ID: {}, Amount: {}, TransactionType: {}, History: {}",
-                getClass().getSimpleName(), id, amount, TransactionType.CHARGE, insertHistory);
-
-        return savedUserPoint;
+        return executePointTransaction(id, amount, TransactionType.CHARGE, currentTimeMillis);
     }
 
     @Deprecated
     /**
      * 해당 메서드는 유저의 포인트를 사용하는 로직을 구현합니다.
      * - 현재는 @Deprecated로 대체 작업이 진행 중이며, executePointTransaction 메서드를 사용하는 것을 권장합니다.
+     * - 캐시와 사용자별 Lock을 거치도록 executePointTransaction에 위임합니다.
      *
      * @deprecated 이 메서드는 실행 타입별 공통 로직을 가진 executePointTransaction 메서드로 대체되었습니다.
      * @param userId 유저 ID
@@ -139,15 +237,6 @@ public class PointService {
             final long amount,
             final long currTimeMillis
     ) {
-        UserPoint userPoint = userPointTable.selectById(userId);
-
-        long usePoint = userPoint.use(amount);
-        logger.info("[{}.use] : 사용된 포인트: {}", getClass().getSimpleName(), amount);
-
-        UserPoint rtn = userPointTable.insertOrUpdate(userId, usePoint);
-
-        pointHistoryTable.insert(userId, amount, TransactionType.USE, currTimeMillis);
-
-        return rtn;
+        return executePointTransaction(userId, amount, TransactionType.USE, currTimeMillis);
     }
 }
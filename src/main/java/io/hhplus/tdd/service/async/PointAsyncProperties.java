@@ -0,0 +1,16 @@
+package io.hhplus.tdd.service.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 API 설정
+ * - threads : 테이블 호출처럼 블로킹되는 작업을 대신 실행하는 전용 스레드 수
+ * - maxPending : 실행 중이거나 기다리는 작업의 최대 수, 넘으면 요청을 바로 거절합니다.
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record PointAsyncProperties(
+        @DefaultValue("200") int threads,
+        @DefaultValue("10000") int maxPending
+) {
+}
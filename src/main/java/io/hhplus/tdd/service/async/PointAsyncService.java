@@ -0,0 +1,155 @@
+package io.hhplus.tdd.service.async;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PointService의 조회와 트랜잭션을 전용 스레드 풀에서 실행하고 결과를 CompletableFuture로 돌려줍니다.
+ * - 테이블 호출처럼 블로킹되는 작업은 전용 스레드가 맡으므로, 호출한 요청 스레드는 바로 반환됩니다.
+ * - 실행 중이거나 기다리는 작업은 maxPending개까지만 받고, 넘으면 RejectedExecutionException으로 바로 실패한 결과를 돌려줍니다.
+ * - 같은 유저의 트랜잭션은 도착 순서대로 앞선 트랜잭션이 끝난 뒤에 실행합니다. (유저별 FIFO)
+ *   앞선 트랜잭션의 성공 여부와 관계없이 다음 트랜잭션이 이어서 실행되며,
+ *   한 유저의 트랜잭션이 몰려도 그 유저를 위해 스레드는 한 번에 하나만 사용됩니다.
+ * - 조회는 순서를 기다리지 않고 바로 전용 스레드에서 실행합니다.
+ */
+@Service
+public class PointAsyncService {
+
+    private final PointService pointService;
+    private final ExecutorService executor;
+    private final Semaphore pending;
+    private final int maxPending;
+
+    private final Map<Long, CompletableFuture<?>> userTails = new ConcurrentHashMap<>();
+
+    public PointAsyncService(PointService pointService, PointAsyncProperties properties) {
+        if (properties.threads() < 1 || properties.maxPending() < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "threads와 maxPending은 1 이상이어야 합니다. threads: %d, maxPending: %d", properties.threads(), properties.maxPending()));
+        }
+        this.pointService = pointService;
+        this.maxPending = properties.maxPending();
+        this.pending = new Semaphore(properties.maxPending());
+        this.executor = newExecutor(properties.threads());
+    }
+
+    public CompletableFuture<UserPoint> point(long id) {
+        return submit(() -> pointService.getUserPointWithDefault(id));
+    }
+
+    public CompletableFuture<List<PointHistory>> history(long id) {
+        return submit(() -> pointService.history(id));
+    }
+
+    /**
+     * 포인트 트랜잭션을 같은 유저의 앞선 트랜잭션 뒤에 이어서 실행합니다.
+     *
+     * @param userId          유저 ID
+     * @param amount          트랜잭션 금액
+     * @param transactionType 트랜잭션 타입
+     * @param timestamp       트랜잭션 타임스탬프
+     * @return 업데이트된 유저의 포인트 정보
+     */
+    public CompletableFuture<UserPoint> executePointTransaction(
+            final long userId,
+            final long amount,
+            final TransactionType transactionType,
+            final long timestamp
+    ) {
+        if (!pending.tryAcquire()) {
+            return rejected();
+        }
+
+        CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        CompletableFuture<?> previous = userTails.put(userId, result);
+        Runnable run = () -> execute(result,
+                () -> pointService.executePointTransaction(userId, amount, transactionType, timestamp),
+                () -> userTails.remove(userId, result));
+
+        if (previous == null) {
+            run.run();
+        } else {
+            previous.whenComplete((value, e) -> run.run());
+        }
+        return result;
+    }
+
+    /**
+     * 실행 중이거나 기다리는 작업 수 (테스트 및 모니터링용)
+     */
+    public int pendingCount() {
+        return maxPending - pending.availablePermits();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (!pending.tryAcquire()) {
+            return rejected();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(result, task, () -> {
+        });
+        return result;
+    }
+
+    /**
+     * 작업을 전용 스레드에서 실행하여 result를 완료하고, 끝나면 대기 수를 반환합니다.
+     * - 종료 중이라 스레드 풀이 작업을 받지 않으면 result를 그 예외로 실패시킵니다.
+     */
+    private <T> void execute(CompletableFuture<T> result, Supplier<T> task, Runnable onDone) {
+        Runnable done = () -> {
+            pending.release();
+            onDone.run();
+        };
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    done.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            done.run();
+        }
+    }
+
+    private <T> CompletableFuture<T> rejected() {
+        return CompletableFuture.failedFuture(new RejectedExecutionException(
+                String.format("처리 대기 중인 요청이 많아 처리할 수 없습니다. 최대 대기 수: %d", maxPending)));
+    }
+
+    /**
+     * 대기열은 제한하지 않습니다. 대기 작업 수는 pending이 maxPending으로 제한하므로 작업 제출이 거절되지 않습니다.
+     */
+    private static ExecutorService newExecutor(int threads) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "point-async-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
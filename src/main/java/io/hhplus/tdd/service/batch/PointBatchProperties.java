@@ -0,0 +1,16 @@
+package io.hhplus.tdd.service.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일괄 트랜잭션 처리 설정
+ * - parallelism : 서로 다른 유저의 트랜잭션을 동시에 처리할 스레드 수
+ * - max-items : 한 번의 요청에 담을 수 있는 최대 트랜잭션 수
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+        @DefaultValue("16") int parallelism,
+        @DefaultValue("10000") int maxItems
+) {
+}
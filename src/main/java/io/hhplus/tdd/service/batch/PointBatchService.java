@@ -0,0 +1,96 @@
+package io.hhplus.tdd.service.batch;
+
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.PointService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 건의 포인트 트랜잭션을 한 번에 처리합니다.
+ * - 같은 유저의 트랜잭션은 요청 순서대로 하나씩 처리합니다.
+ * - 서로 다른 유저의 트랜잭션은 전용 스레드 풀에서 동시에 처리합니다.
+ * - 한 건이 실패해도 나머지는 계속 처리하며, 결과는 요청 순서대로 건별 성공/실패를 담아 반환합니다.
+ */
+@Service
+public class PointBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointBatchService.class);
+
+    private final PointService pointService;
+    private final PointBatchProperties properties;
+    private final ExecutorService executor;
+
+    public PointBatchService(PointService pointService, PointBatchProperties properties) {
+        this.pointService = pointService;
+        this.properties = properties;
+        this.executor = newExecutor(properties.parallelism());
+    }
+
+    /**
+     * 포인트 트랜잭션을 일괄 실행합니다.
+     *
+     * @param commands 실행할 트랜잭션 목록
+     * @return 요청 순서와 같은 순서의 건별 결과
+     */
+    public List<PointTransactionResult> execute(List<PointTransactionCommand> commands) {
+        if (commands.size() > properties.maxItems()) {
+            throw new IllegalArgumentException(
+                    String.format("일괄 처리 건수 초과. 요청: %d, 최대: %d", commands.size(), properties.maxItems())
+            );
+        }
+
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int index = 0; index < commands.size(); index++) {
+            indexesByUser.computeIfAbsent(commands.get(index).userId(), userId -> new ArrayList<>()).add(index);
+        }
+
+        PointTransactionResult[] results = new PointTransactionResult[commands.size()];
+        CompletableFuture<?>[] userTasks = indexesByUser.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(
+                        () -> indexes.forEach(index -> results[index] = executeOne(commands.get(index))),
+                        executor
+                ))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(userTasks).join();
+
+        logger.info("[{}] 일괄 처리 - 요청: {}, 유저: {}, 실패: {}", getClass().getSimpleName(),
+                commands.size(), indexesByUser.size(), Arrays.stream(results).filter(result -> !result.isSuccess()).count());
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private PointTransactionResult executeOne(PointTransactionCommand command) {
+        try {
+            UserPoint userPoint = pointService.executePointTransaction(
+                    command.userId(), command.amount(), command.type(), System.currentTimeMillis());
+            return PointTransactionResult.success(command, userPoint);
+        } catch (RuntimeException e) {
+            return PointTransactionResult.failure(command, e);
+        }
+    }
+
+    private static ExecutorService newExecutor(int parallelism) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.service.batch;
+
+import io.hhplus.tdd.service.transaction.TransactionType;
+
+/**
+ * 일괄 처리할 포인트 트랜잭션 한 건
+ */
+public record PointTransactionCommand(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+}
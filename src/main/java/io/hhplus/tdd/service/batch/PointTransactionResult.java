@@ -0,0 +1,26 @@
+package io.hhplus.tdd.service.batch;
+
+import io.hhplus.tdd.domain.UserPoint;
+
+/**
+ * 일괄 처리한 포인트 트랜잭션 한 건의 결과
+ * - 성공하면 userPoint, 실패하면 error를 담습니다.
+ */
+public record PointTransactionResult(
+        PointTransactionCommand command,
+        UserPoint userPoint,
+        RuntimeException error
+) {
+
+    public static PointTransactionResult success(PointTransactionCommand command, UserPoint userPoint) {
+        return new PointTransactionResult(command, userPoint, null);
+    }
+
+    public static PointTransactionResult failure(PointTransactionCommand command, RuntimeException error) {
+        return new PointTransactionResult(command, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
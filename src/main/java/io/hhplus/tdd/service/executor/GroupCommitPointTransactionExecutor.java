@@ -0,0 +1,181 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.domain.PointTransfer;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.service.lock.UserLockManager;
+import io.hhplus.tdd.service.transaction.PointTransaction;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 같은 유저의 트랜잭션을 모아서 한 번에 반영합니다. (group commit)
+ * - 요청은 먼저 유저별 대기열에 들어간 뒤 유저 Lock을 기다립니다.
+ * - Lock을 잡은 스레드는 대기열의 요청을 모두 꺼내 도착 순서대로 한 번 읽은 잔액에 적용하고,
+ *   최종 잔액만 한 번 저장합니다. 한도 초과나 잔액 부족으로 실패한 요청은 개별적으로 거절합니다.
+ * - 잔액을 먼저 저장한 뒤 내역을 기록합니다. 잔액 저장에 실패하면 내역은 하나도 남지 않습니다.
+ *   내역 기록에 실패하면 그 요청과 뒤의 요청을 거절하고, 잔액을 기록에 성공한 요청까지의 값으로 다시 저장합니다.
+ * - 각 요청은 자신이 적용된 시점의 잔액을 결과로 받습니다.
+ * - Lock을 잡았을 때 자신의 요청이 이미 다른 스레드에 의해 처리되었다면 결과만 받아 반환합니다.
+ * - Lock 관리자가 요청을 거절하면 그 요청을 대기열에서 빼고 거절을 전달합니다. 다른 스레드가 이미 가져갔다면 그 결과를 받습니다.
+ * - 이체는 모으지 않고 두 유저의 Lock을 모두 잡은 뒤 바로 실행합니다. 대기열의 반영도 같은 Lock 안에서 일어나므로 서로 겹치지 않습니다.
+ */
+public class GroupCommitPointTransactionExecutor implements PointTransactionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitPointTransactionExecutor.class);
+
+    private final UserLockManager userLockManager;
+    private final UserPointCache userPointCache;
+
+    private final Map<Long, Queue<Request>> pendingRequests = new ConcurrentHashMap<>();
+
+    public GroupCommitPointTransactionExecutor(UserLockManager userLockManager, UserPointCache userPointCache) {
+        this.userLockManager = userLockManager;
+        this.userPointCache = userPointCache;
+    }
+
+    @Override
+    public UserPoint execute(PointTransaction transaction, long userId, long amount, long timestamp) {
+        Request request = new Request(transaction, amount, timestamp, new CompletableFuture<>());
+        Queue<Request> queue = pendingRequests.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        queue.add(request);
+
+        try {
+            userLockManager.executeWithLock(userId, () -> {
+                if (!request.result().isDone()) {
+                    commit(userId, queue);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            withdraw(userId, queue, request, e);
+        }
+
+        try {
+            return request.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public PointTransfer transfer(TransferTransaction transaction, long fromUserId, long toUserId, long amount, long timestamp) {
+        return userLockManager.executeWithLocks(fromUserId, toUserId,
+                () -> transaction.execute(fromUserId, toUserId, amount, timestamp));
+    }
+
+    /**
+     * Lock을 잡지 못한 요청(거절, 인터럽트)을 대기열에서 회수합니다.
+     * - 아직 대기열에 있으면 꺼내고 예외를 그대로 던집니다. 클라이언트가 재시도해도 두 번 반영되지 않습니다.
+     * - 이미 없다면 Lock을 잡은 다른 스레드가 가져가 반영 중이므로, 예외 대신 그 결과를 기다립니다.
+     */
+    private void withdraw(long userId, Queue<Request> queue, Request request, RuntimeException e) {
+        if (!queue.remove(request)) {
+            return;
+        }
+        if (queue.isEmpty()) {
+            pendingRequests.remove(userId, queue);
+        }
+        throw e;
+    }
+
+    /**
+     * 대기 중인 요청 수 (테스트 및 모니터링용)
+     */
+    int pendingCount(long userId) {
+        Queue<Request> queue = pendingRequests.get(userId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private void commit(long userId, Queue<Request> queue) {
+        List<Request> batch = new ArrayList<>();
+        for (Request request = queue.poll(); request != null; request = queue.poll()) {
+            batch.add(request);
+        }
+        if (queue.isEmpty()) {
+            pendingRequests.remove(userId, queue);
+        }
+
+        List<Applied> applied = new ArrayList<>(batch.size());
+        try {
+            UserPoint current = userPointCache.selectById(userId);
+            long point = current.point();
+            for (Request request : batch) {
+                try {
+                    point = request.transaction().calculatePoint(new UserPoint(userId, point, current.updateMillis()), request.amount());
+                    applied.add(new Applied(request, point));
+                } catch (RuntimeException e) {
+                    request.result().completeExceptionally(e);
+                }
+            }
+            if (applied.isEmpty()) {
+                return;
+            }
+
+            UserPoint saved = userPointCache.insertOrUpdate(userId, applied.get(applied.size() - 1).point());
+            List<Applied> recorded = recordHistories(userId, applied);
+            if (recorded.size() < applied.size()) {
+                saved = compensate(userId, recorded.isEmpty() ? current.point() : recorded.get(recorded.size() - 1).point(), saved);
+            }
+            logger.info("group commit - 사용자: {}, 요청: {}, 반영: {}, 최종 포인트: {}",
+                    userId, batch.size(), recorded.size(), saved.point());
+
+            for (Applied each : recorded) {
+                each.request().result().complete(new UserPoint(userId, each.point(), saved.updateMillis()));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 저장한 잔액 기준으로 적용 순서대로 내역을 기록합니다.
+     * - 내역 기록에 실패하면 그 요청과 뒤의 요청(실패한 요청의 잔액 위에서 계산됨)을 그 예외로 거절하고,
+     *   기록에 성공한 요청까지만 반환합니다.
+     */
+    private List<Applied> recordHistories(long userId, List<Applied> applied) {
+        for (int i = 0; i < applied.size(); i++) {
+            Request request = applied.get(i).request();
+            try {
+                request.transaction().createHistory(userId, request.amount(), request.timestamp());
+            } catch (RuntimeException e) {
+                logger.warn("group commit 내역 기록 실패 - 사용자: {}, 거절: {}건", userId, applied.size() - i, e);
+                applied.subList(i, applied.size()).forEach(each -> each.request().result().completeExceptionally(e));
+                return applied.subList(0, i);
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 내역 기록에 실패한 요청을 뺀 잔액으로 다시 저장합니다.
+     * - 다시 저장하는 것도 실패하면 거절된 요청의 금액이 잔액에 남으므로 error로 남기고, 처음 저장한 잔액을 반환합니다.
+     */
+    private UserPoint compensate(long userId, long point, UserPoint saved) {
+        try {
+            return userPointCache.insertOrUpdate(userId, point);
+        } catch (RuntimeException e) {
+            logger.error("group commit 잔액 보정 실패 - 사용자: {}, 저장된 포인트: {}, 보정할 포인트: {}", userId, saved.point(), point, e);
+            return saved;
+        }
+    }
+
+    private record Request(PointTransaction transaction, long amount, long timestamp, CompletableFuture<UserPoint> result) {
+    }
+
+    private record Applied(Request request, long point) {
+    }
+}
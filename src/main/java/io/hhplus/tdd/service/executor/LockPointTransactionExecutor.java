@@ -0,0 +1,48 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.domain.PointTransfer;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.lock.UserLockManager;
+import io.hhplus.tdd.service.transaction.PointTransaction;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 유저 Lock을 잡고 트랜잭션을 하나씩 실행합니다.
+ * - 이체는 두 유저의 Lock을 정해진 순서로 모두 잡은 뒤 실행합니다.
+ */
+public class LockPointTransactionExecutor implements PointTransactionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LockPointTransactionExecutor.class);
+
+    private final UserLockManager userLockManager;
+
+    public LockPointTransactionExecutor(UserLockManager userLockManager) {
+        this.userLockManager = userLockManager;
+    }
+
+    @Override
+    public UserPoint execute(PointTransaction transaction, long userId, long amount, long timestamp) {
+        try {
+            return userLockManager.executeWithLock(userId, () -> {
+                logger.info("Lock 획득: User ID: {}, Transaction Type: {}", userId, transaction.getTransactionType());
+                return transaction.execute(userId, amount, timestamp);
+            });
+        } finally {
+            logger.info("Lock 해제: User ID: {}, Transaction Type: {}", userId, transaction.getTransactionType());
+        }
+    }
+
+    @Override
+    public PointTransfer transfer(TransferTransaction transaction, long fromUserId, long toUserId, long amount, long timestamp) {
+        try {
+            return userLockManager.executeWithLocks(fromUserId, toUserId, () -> {
+                logger.info("Lock 획득: User ID: {}, {}, Transaction Type: {}", fromUserId, toUserId, transaction.getTransactionType());
+                return transaction.execute(fromUserId, toUserId, amount, timestamp);
+            });
+        } finally {
+            logger.info("Lock 해제: User ID: {}, {}, Transaction Type: {}", fromUserId, toUserId, transaction.getTransactionType());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.service.executor;
+
+/**
+ * 낙관적 갱신이 허용된 횟수 안에 다른 쓰기와의 충돌을 벗어나지 못했을 때 발생합니다.
+ */
+public class OptimisticConflictException extends RuntimeException {
+
+    public OptimisticConflictException(String message) {
+        super(message);
+    }
+}
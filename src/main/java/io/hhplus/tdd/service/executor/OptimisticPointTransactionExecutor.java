@@ -0,0 +1,117 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.domain.PointTransfer;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.repository.VersionedUserPoint;
+import io.hhplus.tdd.service.transaction.PointTransaction;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToLongFunction;
+
+/**
+ * 유저 Lock 없이 낙관적으로 트랜잭션을 실행합니다.
+ * - 버전과 함께 잔액을 조회하고, 그 스냅샷으로 새 잔액을 계산한 뒤 compare-and-set으로 반영합니다.
+ * - 그 사이 다른 쓰기가 먼저 반영되어 충돌하면 잠시 대기(지수 백오프 + 지터) 후 다시 조회하여 재시도합니다.
+ * - maxAttempts번 모두 충돌하면 OptimisticConflictException을 던집니다.
+ * - 한도 초과, 잔액 부족은 재시도하지 않고 그대로 실패합니다.
+ * - 이력은 잔액 반영에 성공한 뒤 기록하므로, 같은 유저의 동시 트랜잭션끼리는 이력 ID 순서와 잔액 반영 순서가 다를 수 있습니다.
+ *   SYNC 이력 저장에서는 이력이 ID 순서와 다르게 인덱스에 추가되어 이력 커서 조회가 이미 지난 커서 앞의 이력을 놓칠 수 있으므로,
+ *   ASYNC 이력 저장(채번과 인덱스 추가를 writer 스레드 한 곳에서 수행)과 함께 사용해야 합니다. (PointTransactionExecutorConfig에서 검증)
+ *
+ * 이체는 두 잔액을 한 번에 compare-and-set 할 수 없으므로 보내는 유저에서 먼저 차감한 뒤 받는 유저에게 더합니다.
+ * 받는 유저 반영이 실패(한도 초과, 충돌)하면 차감한 금액을 보내는 유저에게 되돌린 뒤(보상) 실패를 그대로 던집니다.
+ * 차감과 반영 사이의 짧은 구간에는 이체 금액이 어느 쪽 잔액에도 보이지 않을 수 있습니다.
+ */
+public class OptimisticPointTransactionExecutor implements PointTransactionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticPointTransactionExecutor.class);
+    private static final long MAX_BACKOFF_MICROS = 1_000L;
+
+    private final UserPointCache userPointCache;
+    private final PointMetrics pointMetrics;
+    private final int maxAttempts;
+
+    public OptimisticPointTransactionExecutor(UserPointCache userPointCache, PointMetrics pointMetrics, int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts는 양수여야 합니다. 설정값: " + maxAttempts);
+        }
+        this.userPointCache = userPointCache;
+        this.pointMetrics = pointMetrics;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public UserPoint execute(PointTransaction transaction, long userId, long amount, long timestamp) {
+        UserPoint saved = update(userId, transaction.getTransactionType(), userPoint -> transaction.calculatePoint(userPoint, amount));
+        transaction.createHistory(userId, amount, timestamp);
+        return saved;
+    }
+
+    @Override
+    public PointTransfer transfer(TransferTransaction transaction, long fromUserId, long toUserId, long amount, long timestamp) {
+        transaction.validate(fromUserId, toUserId, amount);
+        TransactionType type = transaction.getTransactionType();
+
+        UserPoint from = update(fromUserId, type, userPoint -> transaction.calculateFromPoint(userPoint, amount));
+        UserPoint to;
+        try {
+            to = update(toUserId, type, userPoint -> transaction.calculateToPoint(userPoint, amount));
+        } catch (RuntimeException e) {
+            refund(fromUserId, amount, type);
+            throw e;
+        }
+
+        transaction.createHistories(fromUserId, toUserId, amount, timestamp);
+        return new PointTransfer(from, to);
+    }
+
+    /**
+     * 충돌하지 않을 때까지 최대 maxAttempts번 compare-and-set을 시도합니다.
+     */
+    private UserPoint update(long userId, TransactionType type, ToLongFunction<UserPoint> calculate) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            VersionedUserPoint snapshot = userPointCache.selectVersionedById(userId);
+            long point = calculate.applyAsLong(snapshot.userPoint());
+
+            UserPoint saved = userPointCache.compareAndSet(userId, snapshot.version(), point);
+            if (saved != null) {
+                return saved;
+            }
+
+            pointMetrics.recordOptimisticConflict(type);
+            backoff(attempt);
+        }
+        throw new OptimisticConflictException(
+                String.format("동시 갱신 충돌로 처리하지 못했습니다. 사용자: %d, 시도: %d", userId, maxAttempts)
+        );
+    }
+
+    /**
+     * 이체 도중 차감한 금액을 되돌립니다.
+     * - 원래 잔액으로 돌려놓는 것이므로 충전 한도를 검사하지 않으며, 충돌하더라도 반영될 때까지 재시도합니다.
+     */
+    private void refund(long userId, long amount, TransactionType type) {
+        for (int attempt = 1; ; attempt++) {
+            VersionedUserPoint snapshot = userPointCache.selectVersionedById(userId);
+            if (userPointCache.compareAndSet(userId, snapshot.version(), snapshot.userPoint().point() + amount) != null) {
+                logger.warn("이체 보상 완료 - 사용자: {}, 금액: {}, 시도: {}", userId, amount, attempt);
+                return;
+            }
+            pointMetrics.recordOptimisticConflict(type);
+            backoff(attempt);
+        }
+    }
+
+    private static void backoff(int attempt) {
+        long ceilingMicros = Math.min(MAX_BACKOFF_MICROS, 1L << Math.min(attempt, 10));
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ThreadLocalRandom.current().nextLong(ceilingMicros + 1)));
+    }
+}
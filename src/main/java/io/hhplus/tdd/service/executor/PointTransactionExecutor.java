@@ -0,0 +1,36 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.domain.PointTransfer;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.transaction.PointTransaction;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
+
+/**
+ * 포인트 트랜잭션 실행 방식
+ * - 같은 유저에 대한 트랜잭션이 동시에 들어와도 잔액이 어긋나지 않도록 실행을 조율합니다.
+ */
+public interface PointTransactionExecutor {
+
+    /**
+     * 트랜잭션을 실행합니다.
+     *
+     * @param transaction 실행할 트랜잭션
+     * @param userId      유저 ID
+     * @param amount      트랜잭션 금액
+     * @param timestamp   트랜잭션 타임스탬프
+     * @return 트랜잭션 반영 후 유저 포인트 정보
+     */
+    UserPoint execute(PointTransaction transaction, long userId, long amount, long timestamp);
+
+    /**
+     * 두 유저 사이의 이체를 실행합니다.
+     *
+     * @param transaction 이체 트랜잭션
+     * @param fromUserId  보내는 유저 ID
+     * @param toUserId    받는 유저 ID
+     * @param amount      이체 금액
+     * @param timestamp   트랜잭션 타임스탬프
+     * @return 이체 후 두 유저의 포인트 정보
+     */
+    PointTransfer transfer(TransferTransaction transaction, long fromUserId, long toUserId, long amount, long timestamp);
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.PointHistoryWriterProperties;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.service.lock.UserLockManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PointTransactionExecutorConfig {
+
+    @Bean
+    public PointTransactionExecutor pointTransactionExecutor(
+            PointTransactionExecutorProperties properties,
+            PointHistoryWriterProperties historyWriterProperties,
+            UserLockManager userLockManager,
+            UserPointCache userPointCache,
+            PointMetrics pointMetrics
+    ) {
+        validate(properties, historyWriterProperties);
+        return switch (properties.mode()) {
+            case LOCK -> new LockPointTransactionExecutor(userLockManager);
+            case GROUP_COMMIT -> new GroupCommitPointTransactionExecutor(userLockManager, userPointCache);
+            case OPTIMISTIC -> new OptimisticPointTransactionExecutor(userPointCache, pointMetrics, properties.maxAttempts());
+        };
+    }
+
+    /**
+     * OPTIMISTIC 방식은 유저 Lock 없이 이력을 저장하므로, SYNC 이력 저장과 함께 쓰면 같은 유저의 이력이 ID 순서와 다르게 인덱스에 추가됩니다.
+     * 그러면 이력 커서 조회가 이미 지난 커서 앞에 끼워진 이력을 놓치므로, 채번과 인덱스 추가를 한 곳에서 하는 ASYNC 이력 저장만 허용합니다.
+     */
+    static void validate(PointTransactionExecutorProperties properties, PointHistoryWriterProperties historyWriterProperties) {
+        if (properties.mode() == PointTransactionExecutorProperties.Mode.OPTIMISTIC && !historyWriterProperties.isAsync()) {
+            throw new IllegalStateException(String.format(
+                    "OPTIMISTIC 실행 방식은 ASYNC 이력 저장과 함께 사용해야 합니다. point.history-writer.mode: %s", historyWriterProperties.mode()));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.service.executor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 트랜잭션 실행 설정
+ * - mode : 실행 방식
+ *   - LOCK : 유저 Lock을 잡고 트랜잭션을 하나씩 실행
+ *   - GROUP_COMMIT : Lock을 잡은 스레드가 대기 중인 같은 유저의 트랜잭션을 모아 한 번에 반영
+ *   - OPTIMISTIC : Lock 없이 버전 기반 compare-and-set으로 반영하고, 충돌 시 재시도 (point.history-writer.mode=ASYNC 필요)
+ * - max-attempts : OPTIMISTIC 모드에서 충돌 시 최대 시도 횟수
+ */
+@ConfigurationProperties(prefix = "point.transaction")
+public record PointTransactionExecutorProperties(
+        @DefaultValue("LOCK") Mode mode,
+        @DefaultValue("10") int maxAttempts
+) {
+
+    public enum Mode {
+        LOCK, GROUP_COMMIT, OPTIMISTIC
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.service.idempotency;
+
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.support.IdempotencyStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 있는 충전/사용 요청을 한 번만 실행합니다.
+ * - 키는 유저 ID, 트랜잭션 타입과 함께 구분합니다. 같은 키라도 유저나 타입이 다르면 다른 요청입니다.
+ * - 재요청은 보관된 UserPoint를 그대로 돌려주며, 유저 Lock을 잡거나 테이블을 조회하지 않습니다.
+ *   첫 요청이 아직 실행 중이면 다시 실행하지 않고 그 결과를 기다립니다.
+ * - 같은 키로 금액이 다른 요청이 들어오면 IdempotencyKeyReusedException을 던집니다. (API 응답은 422)
+ * - 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도할 수 있습니다. (실패한 트랜잭션은 잔액과 이력을 바꾸지 않습니다.)
+ */
+@Component
+public class PointIdempotency {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final Logger logger = LoggerFactory.getLogger(PointIdempotency.class);
+
+    private final IdempotencyStore<Key, UserPoint> store;
+
+    public PointIdempotency(PointIdempotencyProperties properties, PointMetrics pointMetrics) {
+        this.store = new IdempotencyStore<>(properties.maxEntries(), properties.ttl());
+        pointMetrics.registerIdempotencyStore("point", store);
+    }
+
+    /**
+     * 멱등 키가 없으면 transaction을 그대로 실행하고, 있으면 키당 한 번만 실행합니다.
+     *
+     * @param idempotencyKey  Idempotency-Key 헤더 값 (null 또는 빈 값이면 멱등 처리하지 않음)
+     * @param userId          유저 ID
+     * @param transactionType 트랜잭션 타입
+     * @param amount          트랜잭션 금액
+     * @param transaction     실행할 트랜잭션
+     * @return 트랜잭션 결과 또는 보관된 결과
+     */
+    public UserPoint execute(
+            final String idempotencyKey,
+            final long userId,
+            final TransactionType transactionType,
+            final long amount,
+            final Supplier<UserPoint> transaction
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return transaction.get();
+        }
+        return store.execute(new Key(userId, transactionType, idempotencyKey), amount, () -> {
+            logger.info("[{}] 멱등 키 첫 실행 - 사용자: {}, 타입: {}, 키: {}", getClass().getSimpleName(), userId, transactionType, idempotencyKey);
+            return transaction.get();
+        });
+    }
+
+    private record Key(long userId, TransactionType transactionType, String idempotencyKey) {
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.service.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 설정
+ * - maxEntries : 보관하는 최대 결과 수, 넘으면 오래된 결과부터 버립니다.
+ * - ttl : 결과를 보관하는 시간, 이 시간이 지난 뒤의 재요청은 새 요청으로 처리합니다.
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd.service.lock;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 경합 정도를 측정하여 Lock 방식을 스스로 바꾸는 Lock 관리자
+ * - 모든 유저는 비공정(non-fair) Lock 하나로 상호 배제합니다. 경합이 없으면 tryLock 한 번(CAS)으로 바로 잡습니다.
+ * - 바로 잡지 못한 요청은 대기 시간을 재어 유저별 지수 이동 평균(EWMA)에 반영합니다.
+ *   평균이 hotWaitThreshold를 넘은 유저(hot)의 요청은 공정(fair) Lock을 먼저 거쳐 도착 순서대로 한 명씩 비공정 Lock을 기다립니다.
+ *   평균이 임계값의 절반 아래로 내려가면 다시 빠른 경로만 사용합니다.
+ * - 상호 배제는 항상 같은 비공정 Lock이 보장하므로, 방식이 바뀌는 도중에도 두 요청이 동시에 실행되지 않습니다.
+ *   방식이 바뀌는 순간에만 공정 Lock을 거치지 않은 요청이 앞설 수 있습니다.
+ * - Lock 객체는 ReferenceCountedUserLockManager처럼 사용 중인 요청이 없으면 회수합니다.
+ *   참조 수는 CAS로 증감하므로 빠른 경로에서 맵의 bin Lock을 잡지 않습니다.
+ */
+public class AdaptiveUserLockManager implements UserLockManager {
+
+    private static final int EWMA_SHIFT = 3;
+
+    private final Map<Long, AdaptiveLock> locks = new ConcurrentHashMap<>();
+    private final AtomicInteger hotUsers = new AtomicInteger();
+    private final long hotWaitThresholdNanos;
+    private final long lockTimeoutNanos;
+
+    public AdaptiveUserLockManager(Duration hotWaitThreshold, Duration lockTimeout) {
+        if (hotWaitThreshold.isNegative() || hotWaitThreshold.isZero()) {
+            throw new IllegalArgumentException("hot 판정 대기 시간은 양수여야 합니다. hotWaitThreshold: " + hotWaitThreshold);
+        }
+        this.hotWaitThresholdNanos = hotWaitThreshold.toNanos();
+        this.lockTimeoutNanos = lockTimeout.toNanos();
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        AdaptiveLock adaptiveLock = retain(userId);
+        try {
+            acquire(adaptiveLock, userId);
+            try {
+                return action.get();
+            } finally {
+                adaptiveLock.lock.unlock();
+            }
+        } finally {
+            release(userId, adaptiveLock);
+        }
+    }
+
+    @Override
+    public int liveLockCount() {
+        return locks.size();
+    }
+
+    /**
+     * 참조 수가 곧 Lock을 잡고 있거나 기다리는 요청 수입니다. (회수된 Lock은 제외)
+     */
+    @Override
+    public Map<Long, Integer> queueDepths() {
+        Map<Long, Integer> depths = new HashMap<>();
+        locks.forEach((userId, adaptiveLock) -> {
+            int references = adaptiveLock.references.get();
+            if (references > 0) {
+                depths.put(userId, references);
+            }
+        });
+        return depths;
+    }
+
+    /**
+     * 현재 공정 Lock을 거치는(hot) 유저 수
+     */
+    public int hotUserCount() {
+        return hotUsers.get();
+    }
+
+    /**
+     * 해당 유저가 현재 hot으로 판정되어 있는지 (테스트용)
+     */
+    boolean isHot(long userId) {
+        AdaptiveLock adaptiveLock = locks.get(userId);
+        return adaptiveLock != null && adaptiveLock.hot;
+    }
+
+    private void acquire(AdaptiveLock adaptiveLock, long userId) {
+        if (!adaptiveLock.hot && adaptiveLock.lock.tryLock()) {
+            adaptiveLock.recordWait(0L, this);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        if (adaptiveLock.hot) {
+            LockTimeouts.acquire(adaptiveLock.turnstile, lockTimeoutNanos, userId);
+            try {
+                LockTimeouts.acquire(adaptiveLock.lock, remaining(startNanos), userId);
+            } finally {
+                adaptiveLock.turnstile.unlock();
+            }
+        } else {
+            LockTimeouts.acquire(adaptiveLock.lock, lockTimeoutNanos, userId);
+        }
+        adaptiveLock.recordWait(System.nanoTime() - startNanos, this);
+    }
+
+    private long remaining(long startNanos) {
+        if (lockTimeoutNanos <= 0) {
+            return 0L;
+        }
+        return Math.max(1L, lockTimeoutNanos - (System.nanoTime() - startNanos));
+    }
+
+    private AdaptiveLock retain(long userId) {
+        while (true) {
+            AdaptiveLock adaptiveLock = locks.get(userId);
+            if (adaptiveLock == null) {
+                AdaptiveLock created = new AdaptiveLock();
+                adaptiveLock = locks.putIfAbsent(userId, created);
+                if (adaptiveLock == null) {
+                    adaptiveLock = created;
+                }
+            }
+            if (adaptiveLock.retain()) {
+                return adaptiveLock;
+            }
+            locks.remove(userId, adaptiveLock);
+        }
+    }
+
+    private void release(long userId, AdaptiveLock adaptiveLock) {
+        if (adaptiveLock.references.decrementAndGet() == 0 && adaptiveLock.references.compareAndSet(0, -1)) {
+            locks.remove(userId, adaptiveLock);
+            if (adaptiveLock.hot) {
+                hotUsers.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class AdaptiveLock {
+        private final ReentrantLock lock = new ReentrantLock(false);
+        private final ReentrantLock turnstile = new ReentrantLock(true);
+        /** 사용 중인 요청 수, -1이면 회수되어 더 이상 쓸 수 없습니다. */
+        private final AtomicInteger references = new AtomicInteger();
+        private volatile boolean hot;
+        /** 대기 시간의 지수 이동 평균, lock을 잡은 스레드만 갱신합니다. */
+        private long averageWaitNanos;
+
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current < 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void recordWait(long waitNanos, AdaptiveUserLockManager manager) {
+            averageWaitNanos += (waitNanos - averageWaitNanos) >> EWMA_SHIFT;
+            if (!hot && averageWaitNanos > manager.hotWaitThresholdNanos) {
+                hot = true;
+                manager.hotUsers.incrementAndGet();
+            } else if (hot && averageWaitNanos < manager.hotWaitThresholdNanos / 2) {
+                hot = false;
+                manager.hotUsers.decrementAndGet();
+            }
+        }
+    }
+}
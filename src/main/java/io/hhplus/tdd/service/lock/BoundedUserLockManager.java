@@ -0,0 +1,119 @@
+package io.hhplus.tdd.service.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 유저별로 Lock을 잡고 있거나 기다리는 요청 수를 maxQueueDepth로 제한합니다.
+ * - 한도에 이른 유저의 요청은 Lock을 기다리지 않고 바로 UserLockRejectedException(QUEUE_FULL)으로 거절합니다.
+ *   한 유저의 요청이 몰려도 그 유저를 기다리며 묶이는 요청 스레드 수는 maxQueueDepth를 넘지 않습니다.
+ * - maxQueueDepth가 0 이하이면 대기 수를 제한하지 않습니다.
+ * - 위임 대상이 Lock 대기 시간 초과(TIMEOUT)로 거절한 요청도 함께 기록합니다.
+ * - 요청이 들어온 시점의 대기 수(자신 포함)와 거절 횟수를 기록합니다.
+ */
+public class BoundedUserLockManager implements UserLockManager {
+
+    private final UserLockManager delegate;
+    private final int maxQueueDepth;
+    private final PointMetrics pointMetrics;
+
+    private final Map<Long, Integer> queueDepths = new ConcurrentHashMap<>();
+
+    public BoundedUserLockManager(UserLockManager delegate, int maxQueueDepth, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.maxQueueDepth = maxQueueDepth;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        enter(userId);
+        try {
+            return recordRejection(() -> delegate.executeWithLock(userId, action));
+        } finally {
+            leave(userId);
+        }
+    }
+
+    /**
+     * 두 유저 모두 한도 안일 때만 위임 대상의 순서 규칙대로 두 Lock을 잡습니다.
+     */
+    @Override
+    public <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> action) {
+        if (firstUserId == secondUserId) {
+            return executeWithLock(firstUserId, action);
+        }
+        enter(firstUserId);
+        try {
+            enter(secondUserId);
+            try {
+                return recordRejection(() -> delegate.executeWithLocks(firstUserId, secondUserId, action));
+            } finally {
+                leave(secondUserId);
+            }
+        } finally {
+            leave(firstUserId);
+        }
+    }
+
+    @Override
+    public int liveLockCount() {
+        return delegate.liveLockCount();
+    }
+
+    @Override
+    public double collisionRate() {
+        return delegate.collisionRate();
+    }
+
+    /**
+     * 직접 세고 있는 유저별 대기 수를 반환하므로, 위임 대상이 유저 단위로 세지 않는 방식(STRIPED)이어도 값을 알 수 있습니다.
+     */
+    @Override
+    public Map<Long, Integer> queueDepths() {
+        return new HashMap<>(queueDepths);
+    }
+
+    /**
+     * 현재 Lock을 잡고 있거나 기다리는 해당 유저의 요청 수 (테스트 및 모니터링용)
+     */
+    int queueDepth(long userId) {
+        return queueDepths.getOrDefault(userId, 0);
+    }
+
+    private void enter(long userId) {
+        int[] admitted = new int[1];
+        queueDepths.compute(userId, (id, current) -> {
+            int depth = current == null ? 0 : current;
+            if (maxQueueDepth > 0 && depth >= maxQueueDepth) {
+                return current;
+            }
+            admitted[0] = depth + 1;
+            return depth + 1;
+        });
+
+        if (admitted[0] == 0) {
+            pointMetrics.recordLockRejection(UserLockRejectedException.Reason.QUEUE_FULL);
+            throw new UserLockRejectedException(UserLockRejectedException.Reason.QUEUE_FULL,
+                    String.format("요청이 많아 처리할 수 없습니다. 사용자: %d, 최대 대기 수: %d", userId, maxQueueDepth));
+        }
+        pointMetrics.recordLockQueueDepth(admitted[0]);
+    }
+
+    private void leave(long userId) {
+        queueDepths.computeIfPresent(userId, (id, current) -> current == 1 ? null : current - 1);
+    }
+
+    private <T> T recordRejection(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (UserLockRejectedException e) {
+            pointMetrics.recordLockRejection(e.reason());
+            throw e;
+        }
+    }
+}
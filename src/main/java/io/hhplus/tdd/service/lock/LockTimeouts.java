@@ -0,0 +1,32 @@
+package io.hhplus.tdd.service.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Lock 관리자가 공통으로 쓰는 Lock 획득 규칙
+ * - timeoutNanos가 0 이하이면 Lock을 잡을 때까지 기다립니다.
+ * - 그 외에는 timeoutNanos 안에 잡지 못하면 UserLockRejectedException(TIMEOUT)을 던집니다.
+ */
+final class LockTimeouts {
+
+    private LockTimeouts() {
+    }
+
+    static void acquire(Lock lock, long timeoutNanos, long userId) {
+        if (timeoutNanos <= 0) {
+            lock.lock();
+            return;
+        }
+        try {
+            if (lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format("Lock 대기 중 인터럽트되었습니다. 사용자: %d", userId), e);
+        }
+        throw new UserLockRejectedException(UserLockRejectedException.Reason.TIMEOUT,
+                String.format("Lock 대기 시간을 초과했습니다. 사용자: %d, 대기 시간: %dms", userId, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+    }
+}
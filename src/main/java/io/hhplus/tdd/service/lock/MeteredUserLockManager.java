@@ -0,0 +1,62 @@
+package io.hhplus.tdd.service.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * UserLockManager의 Lock 획득 대기 시간과 보유 시간을 기록합니다.
+ * - 대기 시간 : executeWithLock 호출부터 작업이 시작될 때까지
+ * - 보유 시간 : 작업 시작부터 종료될 때까지
+ */
+public class MeteredUserLockManager implements UserLockManager {
+
+    private final UserLockManager delegate;
+    private final PointMetrics pointMetrics;
+
+    public MeteredUserLockManager(UserLockManager delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        long requestedNanos = System.nanoTime();
+        return delegate.executeWithLock(userId, () -> record(requestedNanos, action));
+    }
+
+    /**
+     * 두 유저의 Lock은 위임 대상의 순서 규칙대로 잡고, 둘 다 잡을 때까지를 한 번의 대기 시간으로 기록합니다.
+     */
+    @Override
+    public <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> action) {
+        long requestedNanos = System.nanoTime();
+        return delegate.executeWithLocks(firstUserId, secondUserId, () -> record(requestedNanos, action));
+    }
+
+    @Override
+    public int liveLockCount() {
+        return delegate.liveLockCount();
+    }
+
+    @Override
+    public double collisionRate() {
+        return delegate.collisionRate();
+    }
+
+    @Override
+    public Map<Long, Integer> queueDepths() {
+        return delegate.queueDepths();
+    }
+
+    private <T> T record(long requestedNanos, Supplier<T> action) {
+        long acquiredNanos = System.nanoTime();
+        pointMetrics.recordLockWait(acquiredNanos - requestedNanos);
+        try {
+            return action.get();
+        } finally {
+            pointMetrics.recordLockHold(System.nanoTime() - acquiredNanos);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.service.lock;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저마다 Lock을 두되, 사용 중인 스레드 수를 세어 아무도 쓰지 않는 Lock은 회수하는 Lock 관리자
+ * - 참조 수 증감은 ConcurrentHashMap.compute 안에서 원자적으로 수행합니다.
+ * - Lock 객체 수는 현재 Lock을 잡고 있거나 기다리는 유저 수만큼만 유지됩니다.
+ * - lockTimeout이 있으면 그 시간 안에 Lock을 잡지 못한 요청은 UserLockRejectedException(TIMEOUT)으로 거절합니다.
+ */
+public class ReferenceCountedUserLockManager implements UserLockManager {
+
+    private final Map<Long, CountedLock> locks = new ConcurrentHashMap<>();
+    private final long lockTimeoutNanos;
+
+    public ReferenceCountedUserLockManager() {
+        this(Duration.ZERO);
+    }
+
+    public ReferenceCountedUserLockManager(Duration lockTimeout) {
+        this.lockTimeoutNanos = lockTimeout.toNanos();
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        CountedLock counted = locks.compute(userId, (id, current) -> {
+            CountedLock lock = current == null ? new CountedLock() : current;
+            lock.references++;
+            return lock;
+        });
+
+        try {
+            LockTimeouts.acquire(counted.lock, lockTimeoutNanos, userId);
+            try {
+                return action.get();
+            } finally {
+                counted.lock.unlock();
+            }
+        } finally {
+            locks.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+        }
+    }
+
+    @Override
+    public int liveLockCount() {
+        return locks.size();
+    }
+
+    /**
+     * 참조 수가 곧 Lock을 잡고 있거나 기다리는 요청 수입니다.
+     */
+    @Override
+    public Map<Long, Integer> queueDepths() {
+        Map<Long, Integer> depths = new HashMap<>();
+        locks.forEach((userId, counted) -> {
+            int references = counted.references;
+            if (references > 0) {
+                depths.put(userId, references);
+            }
+        });
+        return depths;
+    }
+
+    private static final class CountedLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        /** compute 안에서만 증감하며, queueDepths가 밖에서 읽으므로 volatile로 둡니다. */
+        private volatile int references;
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.service.lock;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 고정된 개수의 Lock을 유저 ID 해시로 나누어 쓰는 Lock 관리자
+ * - 유저 수와 관계없이 Lock 객체 수가 stripes로 고정되어 메모리가 늘어나지 않습니다.
+ * - 서로 다른 유저가 같은 stripe에 배정되면 불필요하게 대기할 수 있으며, 그 비율을 collisionRate로 확인합니다.
+ * - lockTimeout이 있으면 그 시간 안에 Lock을 잡지 못한 요청은 UserLockRejectedException(TIMEOUT)으로 거절합니다.
+ */
+public class StripedUserLockManager implements UserLockManager {
+
+    private final ReentrantLock[] locks;
+    private final AtomicLongArray holders;
+    private final long lockTimeoutNanos;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    public StripedUserLockManager(int stripes) {
+        this(stripes, Duration.ZERO);
+    }
+
+    public StripedUserLockManager(int stripes, Duration lockTimeout) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripe 수는 양수여야 합니다. stripes: " + stripes);
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock(true);
+        }
+        this.holders = new AtomicLongArray(stripes);
+        this.lockTimeoutNanos = lockTimeout.toNanos();
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        int stripe = stripeOf(userId);
+        ReentrantLock lock = locks[stripe];
+
+        acquisitions.increment();
+        if (lock.isLocked() && !lock.isHeldByCurrentThread() && holders.get(stripe) != userId) {
+            collisions.increment();
+        }
+
+        LockTimeouts.acquire(lock, lockTimeoutNanos, userId);
+        long previousHolder = holders.getAndSet(stripe, userId);
+        try {
+            return action.get();
+        } finally {
+            holders.set(stripe, previousHolder);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lock 순서를 유저 ID가 아닌 stripe 번호로 정합니다.
+     * - 유저 ID 순서와 stripe 순서는 다를 수 있으므로, 유저 ID 순으로 잡으면 서로 다른 유저 쌍끼리 같은 stripe 두 개를 반대 순서로 잡을 수 있습니다.
+     * - 두 유저가 같은 stripe에 배정되면 Lock을 한 번만 잡습니다.
+     */
+    @Override
+    public <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> action) {
+        int firstStripe = stripeOf(firstUserId);
+        int secondStripe = stripeOf(secondUserId);
+        if (firstStripe == secondStripe) {
+            return executeWithLock(firstUserId, action);
+        }
+        long lowerStripeUserId = firstStripe < secondStripe ? firstUserId : secondUserId;
+        long higherStripeUserId = firstStripe < secondStripe ? secondUserId : firstUserId;
+        return executeWithLock(lowerStripeUserId, () -> executeWithLock(higherStripeUserId, action));
+    }
+
+    @Override
+    public int liveLockCount() {
+        return locks.length;
+    }
+
+    @Override
+    public double collisionRate() {
+        long total = acquisitions.sum();
+        return total == 0 ? 0.0 : (double) collisions.sum() / total;
+    }
+
+    int stripeOf(long userId) {
+        return Math.floorMod(Long.hashCode(userId) * 0x9E3779B9, locks.length);
+    }
+}
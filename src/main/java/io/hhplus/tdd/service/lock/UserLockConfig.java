@@ -0,0 +1,27 @@
+package io.hhplus.tdd.service.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserLockConfig {
+
+    @Bean
+    public UserLockManager userLockManager(UserLockProperties properties, PointMetrics pointMetrics) {
+        UserLockManager userLockManager = switch (properties.mode()) {
+            case STRIPED -> new StripedUserLockManager(properties.stripes(), properties.lockTimeout());
+            case REFERENCE_COUNTED -> new ReferenceCountedUserLockManager(properties.lockTimeout());
+            case ADAPTIVE -> new AdaptiveUserLockManager(properties.hotWaitThreshold(), properties.lockTimeout());
+        };
+        if (userLockManager instanceof AdaptiveUserLockManager adaptiveUserLockManager) {
+            pointMetrics.registerAdaptiveLock(adaptiveUserLockManager);
+        }
+        pointMetrics.registerLockManager(userLockManager);
+        MeteredUserLockManager metered = new MeteredUserLockManager(userLockManager, pointMetrics);
+        if (!properties.isBounded()) {
+            return metered;
+        }
+        return new BoundedUserLockManager(metered, properties.maxQueueDepth(), pointMetrics);
+    }
+}
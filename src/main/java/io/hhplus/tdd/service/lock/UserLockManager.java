@@ -0,0 +1,60 @@
+package io.hhplus.tdd.service.lock;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 유저 단위 Lock 관리자
+ * - 같은 유저에 대한 작업은 순차적으로 실행하고, 다른 유저의 작업은 동시에 실행할 수 있도록 합니다.
+ */
+public interface UserLockManager {
+
+    /**
+     * 유저 Lock을 획득한 상태에서 작업을 실행합니다.
+     *
+     * @param userId 유저 ID
+     * @param action Lock 안에서 실행할 작업
+     * @return 작업 결과
+     */
+    <T> T executeWithLock(long userId, Supplier<T> action);
+
+    /**
+     * 두 유저의 Lock을 모두 획득한 상태에서 작업을 실행합니다.
+     * - 어느 쪽 유저가 먼저 인자로 오더라도 항상 유저 ID가 작은 쪽부터 Lock을 잡으므로,
+     *   A→B, B→A 요청이 동시에 들어와도 서로의 Lock을 기다리며 멈추지 않습니다. (deadlock 방지)
+     * - 두 유저가 같으면 Lock을 한 번만 잡습니다.
+     *
+     * @param firstUserId  유저 ID
+     * @param secondUserId 유저 ID
+     * @param action       Lock 안에서 실행할 작업
+     * @return 작업 결과
+     */
+    default <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> action) {
+        if (firstUserId == secondUserId) {
+            return executeWithLock(firstUserId, action);
+        }
+        long lowerUserId = Math.min(firstUserId, secondUserId);
+        long higherUserId = Math.max(firstUserId, secondUserId);
+        return executeWithLock(lowerUserId, () -> executeWithLock(higherUserId, action));
+    }
+
+    /**
+     * 현재 메모리에 유지 중인 Lock 객체 수
+     */
+    int liveLockCount();
+
+    /**
+     * 전체 Lock 획득 중 다른 유저와 같은 Lock을 두고 경합한 비율
+     */
+    default double collisionRate() {
+        return 0.0;
+    }
+
+    /**
+     * 현재 Lock을 잡고 있거나 기다리는 요청 수를 유저별로 반환합니다. (자신 포함, 1 이상인 유저만)
+     * - 호출 시점의 근사치이며, 유저 단위로 요청 수를 알 수 없는 방식은 빈 맵을 반환합니다.
+     */
+    default Map<Long, Integer> queueDepths() {
+        return Map.of();
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.service.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 유저 Lock 설정
+ * - mode : Lock 관리 방식 (STRIPED : 고정 개수 Lock을 해시로 분배, REFERENCE_COUNTED : 유저별 Lock을 사용 후 회수,
+ *          ADAPTIVE : 경합 없는 유저는 비공정 Lock, 대기 시간이 긴 유저만 공정 Lock)
+ * - stripes : STRIPED 모드의 Lock 개수
+ * - hotWaitThreshold : ADAPTIVE 모드에서 유저의 평균 Lock 대기 시간이 이 값을 넘으면 공정 Lock으로 전환합니다.
+ * - maxQueueDepth : 유저별로 Lock을 잡고 있거나 기다릴 수 있는 최대 요청 수, 넘으면 바로 거절합니다. (0이면 제한 없음)
+ * - lockTimeout : Lock 획득을 기다리는 최대 시간, 넘으면 거절합니다. (0이면 잡을 때까지 대기)
+ * - retryAfter : 거절한 요청에 Retry-After로 알려줄 재시도 대기 시간
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+        @DefaultValue("REFERENCE_COUNTED") Mode mode,
+        @DefaultValue("1024") int stripes,
+        @DefaultValue("1ms") Duration hotWaitThreshold,
+        @DefaultValue("0") int maxQueueDepth,
+        @DefaultValue("0ms") Duration lockTimeout,
+        @DefaultValue("1s") Duration retryAfter
+) {
+
+    public enum Mode {
+        STRIPED, REFERENCE_COUNTED, ADAPTIVE
+    }
+
+    public boolean isBounded() {
+        return maxQueueDepth > 0 || !lockTimeout.isZero();
+    }
+}
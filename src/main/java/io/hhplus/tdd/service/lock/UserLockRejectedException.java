@@ -0,0 +1,25 @@
+package io.hhplus.tdd.service.lock;
+
+/**
+ * 유저 Lock을 기다리지 않고 요청을 거절했을 때 발생합니다.
+ * - QUEUE_FULL : 같은 유저의 요청이 이미 최대 대기 수만큼 Lock을 기다리고 있습니다.
+ * - TIMEOUT : 정해진 시간 안에 Lock을 잡지 못했습니다.
+ * 어느 경우든 잔액과 이력은 바뀌지 않았으므로 잠시 뒤 다시 요청할 수 있습니다.
+ */
+public class UserLockRejectedException extends RuntimeException {
+
+    private final Reason reason;
+
+    public UserLockRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+
+    public enum Reason {
+        QUEUE_FULL, TIMEOUT
+    }
+}
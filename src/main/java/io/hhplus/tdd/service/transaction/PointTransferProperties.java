@@ -0,0 +1,15 @@
+package io.hhplus.tdd.service.transaction;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이체 설정
+ * - history-threads : 받는 유저의 이력을 보내는 유저의 이력과 동시에 기록하는 전용 스레드 수
+ *   모두 사용 중이면 호출 스레드가 직접 기록하므로, 이체는 거절되지 않고 두 이력을 차례로 기록합니다.
+ */
+@ConfigurationProperties(prefix = "point.transfer")
+public record PointTransferProperties(
+        @DefaultValue("16") int historyThreads
+) {
+}
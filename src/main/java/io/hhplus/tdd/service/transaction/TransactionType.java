@@ -5,7 +5,8 @@ package io.hhplus.tdd.service.transaction;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER : 이체 (보내는 유저의 이력은 음수, 받는 유저의 이력은 양수 금액으로 기록)
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE, USE, TRANSFER
+}
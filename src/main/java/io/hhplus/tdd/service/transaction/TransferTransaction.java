@@ -0,0 +1,141 @@
+package io.hhplus.tdd.service.transaction;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointTransfer;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.support.TransactionTraceLogger;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 유저의 포인트를 다른 유저에게 옮기는 이체 트랜잭션
+ * - 보내는 유저는 UserPoint.use, 받는 유저는 UserPoint.charge로 검증하므로 잔액 부족과 충전 한도(10,000)가 그대로 적용됩니다.
+ * - 두 유저 모두 검증을 통과한 뒤에만 잔액을 반영하므로, 한쪽만 반영되는 경우가 없습니다.
+ * - 이력은 보내는 유저(음수 금액)와 받는 유저(양수 금액) 두 건을 동시에 기록하여, 이체 지연 시간이 이력 한 건 저장 시간과 비슷하도록 합니다.
+ *   받는 유저의 이력은 크기가 정해진 전용 스레드 풀에서 기록하며, 풀이 모두 사용 중이면 호출 스레드가 차례로 기록합니다. (PointTransferProperties)
+ *
+ * 두 유저가 필요하므로 한 유저 단위의 PointTransaction과 별도로 두며, 실행 방식은 PointTransactionExecutor.transfer를 따릅니다.
+ */
+@Component
+public class TransferTransaction {
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final TransactionTraceLogger traceLogger;
+    private final ExecutorService historyExecutor;
+
+    public TransferTransaction(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, TransactionTraceLogger traceLogger,
+                               PointTransferProperties properties) {
+        if (properties.historyThreads() < 1) {
+            throw new IllegalArgumentException(String.format("historyThreads는 1 이상이어야 합니다. historyThreads: %d", properties.historyThreads()));
+        }
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.traceLogger = traceLogger;
+        this.historyExecutor = newHistoryExecutor(properties.historyThreads());
+    }
+
+    /**
+     * 이체를 실행합니다.
+     * - 호출자는 두 유저의 Lock을 모두 잡은 상태여야 합니다.
+     *
+     * @param fromUserId 보내는 유저 ID
+     * @param toUserId   받는 유저 ID
+     * @param amount     이체 금액
+     * @param timestamp  트랜잭션 타임스탬프
+     * @return 이체 후 두 유저의 포인트 정보
+     */
+    public PointTransfer execute(long fromUserId, long toUserId, long amount, long timestamp) {
+        traceLogger.trace("TRANSFER 트랜잭션 시작 - 보내는 사용자: {}, 받는 사용자: {}, 금액: {}", fromUserId, toUserId, amount);
+        validate(fromUserId, toUserId, amount);
+
+        long fromPoint = calculateFromPoint(userPointCache.selectById(fromUserId), amount);
+        long toPoint = calculateToPoint(userPointCache.selectById(toUserId), amount);
+        traceLogger.trace("포인트 계산 완료 - 보내는 사용자 잔액: {}, 받는 사용자 잔액: {}", fromPoint, toPoint);
+
+        UserPoint from = userPointCache.insertOrUpdate(fromUserId, fromPoint);
+        UserPoint to = userPointCache.insertOrUpdate(toUserId, toPoint);
+
+        createHistories(fromUserId, toUserId, amount, timestamp);
+
+        traceLogger.trace("TRANSFER 트랜잭션 완료 - 보내는 사용자: {}, 받는 사용자: {}", fromUserId, toUserId);
+        return new PointTransfer(from, to);
+    }
+
+    /**
+     * 잔액과 무관한 요청 값을 검증합니다.
+     * - 자기 자신에게는 이체할 수 없고, 금액은 양수여야 합니다.
+     */
+    public void validate(long fromUserId, long toUserId, long amount) {
+        if (fromUserId == toUserId) {
+            throw new IllegalArgumentException(String.format("자기 자신에게는 이체할 수 없습니다. 사용자: %d", fromUserId));
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException(String.format("이체 포인트는 양수여야 합니다. 이체 시도량: %d", amount));
+        }
+    }
+
+    public long calculateFromPoint(UserPoint from, long amount) {
+        return from.use(amount);
+    }
+
+    public long calculateToPoint(UserPoint to, long amount) {
+        return to.charge(amount);
+    }
+
+    /**
+     * 보내는 유저와 받는 유저의 이력을 동시에 기록합니다.
+     * - 받는 유저의 이력은 전용 스레드에서, 보내는 유저의 이력은 호출 스레드에서 기록한 뒤 둘 다 끝날 때까지 기다립니다.
+     * - 전용 스레드가 모두 사용 중이면 받는 유저의 이력도 호출 스레드에서 먼저 기록합니다.
+     *
+     * @return [보내는 유저 이력, 받는 유저 이력]
+     */
+    public List<PointHistory> createHistories(long fromUserId, long toUserId, long amount, long timestamp) {
+        CompletableFuture<PointHistory> received = CompletableFuture.supplyAsync(
+                () -> pointHistoryWriter.append(toUserId, amount, TransactionType.TRANSFER, timestamp), historyExecutor);
+        PointHistory sent = pointHistoryWriter.append(fromUserId, -amount, TransactionType.TRANSFER, timestamp);
+        try {
+            return List.of(sent, received.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public TransactionType getTransactionType() {
+        return TransactionType.TRANSFER;
+    }
+
+    @PreDestroy
+    public void close() {
+        historyExecutor.shutdown();
+    }
+
+    /**
+     * 스레드 수가 고정된 풀을 만듭니다.
+     * - 대기열 없이(SynchronousQueue) 빈 스레드가 없으면 호출 스레드가 직접 실행하므로,
+     *   스레드와 대기 작업이 부하에 따라 늘어나지 않습니다.
+     * - 종료된 뒤에도 작업을 버리지 않고 호출 스레드가 실행하여, 종료 중인 이체가 결과를 기다리며 멈추지 않습니다.
+     */
+    private static ExecutorService newHistoryExecutor(int threads) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "point-transfer-history-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, executor) -> runnable.run());
+    }
+}
@@ -2,52 +2,53 @@ package io.hhplus.tdd.service.transaction;
 
 import io.hhplus.tdd.domain.PointHistory;
 import io.hhplus.tdd.domain.UserPoint;
-import io.hhplus.tdd.repository.PointHistoryTable;
-import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.support.TransactionTraceLogger;
 import org.springframework.stereotype.Component;
 
-import static io.hhplus.tdd.controller.dto.ThreadLogger.log;
-
 @Component
 public class UseTransaction implements PointTransaction {
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
-
-    public UseTransaction(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final TransactionTraceLogger traceLogger;
+
+    public UseTransaction(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, TransactionTraceLogger traceLogger) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.traceLogger = traceLogger;
     }
 
     @Override
     public UserPoint execute(long userId, long amount, long timestamp) {
-        log("USE 트랜잭션 시작 - 사용자: " + userId + ", 금액: " + amount);
+        traceLogger.trace("USE 트랜잭션 시작 - 사용자: {}, 금액: {}", userId, amount);
 
-        UserPoint userPoint = userPointTable.selectById(userId);
-        log("사용자 포인트 조회 완료 - 사용자: " + userId + ", 현재 포인트: " + userPoint.point());
+        UserPoint userPoint = userPointCache.selectById(userId);
+        traceLogger.trace("사용자 포인트 조회 완료 - 사용자: {}, 현재 포인트: {}", userId, userPoint.point());
 
         long updatedPoint = calculatePoint(userPoint, amount);
-        log("포인트 계산 완료 - 사용자: " + userId + ", 남은 포인트: " + updatedPoint);
+        traceLogger.trace("포인트 계산 완료 - 사용자: {}, 남은 포인트: {}", userId, updatedPoint);
 
-        UserPoint savedUserPoint = userPointTable.insertOrUpdate(userId, updatedPoint);
-        log("포인트 업데이트 완료 - 사용자: " + userId + ", 업데이트된 포인트: " + savedUserPoint.point());
+        UserPoint savedUserPoint = userPointCache.insertOrUpdate(userId, updatedPoint);
+        traceLogger.trace("포인트 업데이트 완료 - 사용자: {}, 업데이트된 포인트: {}", userId, savedUserPoint.point());
 
         PointHistory insertHistory = createHistory(userId, amount, timestamp);
-        log("이력 저장 완료 - 사용자: " + userId + ", history ID: " + insertHistory.id());
+        traceLogger.trace("이력 저장 완료 - 사용자: {}, history ID: {}", userId, insertHistory.id());
 
-        log("USE 트랜잭션 완료 - 사용자: " + userId);
+        traceLogger.trace("USE 트랜잭션 완료 - 사용자: {}", userId);
         return savedUserPoint;
     }
 
     @Override
     public long calculatePoint(UserPoint userPoint, long amount) {
-        log("포인트 사용 계산 - 현재: " + userPoint.point() + ", 사용액: " + amount);
+        traceLogger.trace("포인트 사용 계산 - 현재: {}, 사용액: {}", userPoint.point(), amount);
         return userPoint.use(amount);
     }
 
     @Override
     public PointHistory createHistory(long userId, long amount, long timestamp) {
-        log("사용 이력 생성 - 사용자: " + userId + ", 금액: " + amount);
-        return pointHistoryTable.insert(userId, amount, TransactionType.USE, timestamp);
+        traceLogger.trace("사용 이력 생성 - 사용자: {}, 금액: {}", userId, amount);
+        return pointHistoryWriter.append(userId, amount, TransactionType.USE, timestamp);
     }
 
     @Override
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.support;
+
+/**
+ * 이미 사용한 멱등 키로 다른 요청이 들어왔을 때 발생합니다.
+ * - 잘못된 요청이므로 IllegalArgumentException을 상속하며, API에서는 422로 응답합니다.
+ */
+public class IdempotencyKeyReusedException extends IllegalArgumentException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,147 @@
+package io.hhplus.tdd.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 요청을 한 번만 실행하고, 그 결과를 일정 시간 보관하여 재요청에 돌려줍니다. (idempotency)
+ * - 처음 도착한 호출만 action을 실행합니다. 실행 중에 도착한 같은 키의 호출은 그 결과를 기다려 함께 받고,
+ *   실행이 끝난 뒤 도착한 호출은 보관된 결과를 바로 받습니다.
+ * - 같은 키로 다른 요청(request)이 들어오면 실행하지 않고 IdempotencyKeyReusedException을 던집니다.
+ * - action이 실패하면 기다리던 호출 모두에게 같은 예외를 전달하고 결과를 보관하지 않습니다. 이후의 재요청은 다시 실행합니다.
+ * - 결과는 실행을 시작한 시점부터 ttl 동안 보관하며, 보관 건수가 maxEntries를 넘으면 오래된 결과부터 버립니다.
+ *   실행 중인 요청은 버리지 않으므로, 실행 중인 요청 수만큼 maxEntries를 잠시 넘을 수 있습니다.
+ */
+public class IdempotencyStore<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Expiry<K, V>> expiries = new ConcurrentLinkedQueue<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    IdempotencyStore(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException(String.format("maxEntries는 1 이상이어야 합니다. 요청: %d", maxEntries));
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 키에 해당하는 결과가 있으면 돌려주고, 없으면 action을 실행하여 결과를 보관합니다.
+     *
+     * @param key     멱등 키
+     * @param request 키와 함께 보관하여 재요청이 같은 요청인지 비교할 값
+     * @param action  처음 요청일 때 실행할 동작
+     * @return 실행 결과 또는 보관된 결과
+     */
+    public V execute(K key, Object request, Supplier<V> action) {
+        calls.increment();
+        long now = nanoClock.getAsLong();
+        evict(now);
+
+        Entry<V> entry = new Entry<>(request, now + ttlNanos, new CompletableFuture<>());
+        while (true) {
+            Entry<V> existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                break;
+            }
+            if (existing.result().isDone() && existing.expiresAtNanos() - now <= 0) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!Objects.equals(existing.request(), request)) {
+                throw new IdempotencyKeyReusedException(String.format("같은 키로 다른 요청이 들어왔습니다. 키: %s", key));
+            }
+            return join(existing.result());
+        }
+
+        expiries.add(new Expiry<>(key, entry));
+        executions.increment();
+        try {
+            V value = action.get();
+            entry.result().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 보관 중인 결과 수 (실행 중인 요청 포함)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 전체 호출 수
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * action을 실제로 실행한 횟수
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * 만료되었거나 maxEntries를 넘은 결과를 오래된 순서대로 버립니다.
+     * - 가장 오래된 항목이 아직 실행 중이면 멈춥니다. 항목은 시작 순서대로 쌓이므로 호출당 비용은 버리는 항목 수에 비례합니다.
+     */
+    private void evict(long now) {
+        for (Expiry<K, V> head = expiries.peek(); head != null; head = expiries.peek()) {
+            Entry<V> entry = head.entry();
+            if (entries.get(head.key()) == entry) {
+                if (!entry.result().isDone()) {
+                    return;
+                }
+                if (entry.expiresAtNanos() - now > 0 && entries.size() <= maxEntries) {
+                    return;
+                }
+                entries.remove(head.key(), entry);
+            }
+            expiries.remove(head);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(Object request, long expiresAtNanos, CompletableFuture<V> result) {
+    }
+
+    private record Expiry<K, V>(K key, Entry<V> entry) {
+    }
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd.support;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 window 동안 기록된 값(나노초)의 분포를 유지하는 Lock 없는 히스토그램입니다.
+ * - window를 slots개의 구간으로 나누어 구간마다 버킷 배열을 두고, 시간이 지나 가장 오래된 구간이 돌아오면 비우고 다시 씁니다.
+ * - 기록은 버킷 카운터 하나의 원자적 증가와 (최댓값이 바뀔 때만) 최댓값 CAS로 끝납니다. 객체를 만들지 않고 Lock을 잡지 않습니다.
+ * - 버킷은 2의 거듭제곱 구간마다 32개로 나누므로, 분위수는 실제 값보다 최대 약 3% 크게 계산됩니다. (최댓값은 정확합니다.)
+ * - 약 18분(2^40ns)을 넘는 값은 상한으로 기록합니다.
+ * - 구간을 비우는 순간 같은 구간에 동시에 기록된 값 몇 건은 누락될 수 있습니다. 모니터링용 근사치로 사용합니다.
+ */
+public class RollingHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final long MAX_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) << SUB_BUCKET_BITS;
+
+    private final Slot[] slots;
+    private final long slotNanos;
+    private final LongSupplier nanoClock;
+    private final long originNanos;
+
+    public RollingHistogram(Duration window, int slots) {
+        this(window, slots, System::nanoTime);
+    }
+
+    RollingHistogram(Duration window, int slots, LongSupplier nanoClock) {
+        if (slots < 2) {
+            throw new IllegalArgumentException("구간 수는 2 이상이어야 합니다. slots: " + slots);
+        }
+        if (window.toNanos() < slots) {
+            throw new IllegalArgumentException("window는 구간 수보다 커야 합니다. window: " + window);
+        }
+        this.slots = new Slot[slots];
+        for (int i = 0; i < slots; i++) {
+            this.slots[i] = new Slot();
+        }
+        this.slotNanos = window.toNanos() / slots;
+        this.nanoClock = nanoClock;
+        this.originNanos = nanoClock.getAsLong();
+    }
+
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        Slot slot = currentSlot(epochOf(nanoClock.getAsLong()));
+        slot.counts.incrementAndGet(indexOf(value));
+        if (value > slot.max.get()) {
+            slot.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * 최근 window 동안의 기록을 합쳐 건수, 분위수, 최댓값을 계산합니다.
+     * - 기록과 동시에 호출할 수 있으며, 그 사이 기록된 값은 포함되지 않을 수 있습니다.
+     */
+    public Snapshot snapshot() {
+        long elapsedNanos = nanoClock.getAsLong() - originNanos;
+        long epoch = elapsedNanos / slotNanos;
+
+        long[] merged = new long[BUCKET_COUNT];
+        long count = 0L;
+        long max = 0L;
+        for (Slot slot : slots) {
+            long slotEpoch = slot.epoch.get();
+            if (slotEpoch <= epoch - slots.length || slotEpoch > epoch) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucketCount = slot.counts.get(i);
+                merged[i] += bucketCount;
+                count += bucketCount;
+            }
+            max = Math.max(max, slot.max.get());
+        }
+
+        long windowNanos = Math.min(elapsedNanos, (slots.length - 1) * slotNanos + elapsedNanos % slotNanos);
+        return new Snapshot(count, Math.max(1L, windowNanos),
+                valueAt(merged, count, max, 50.0), valueAt(merged, count, max, 95.0), valueAt(merged, count, max, 99.0), max);
+    }
+
+    private long epochOf(long nowNanos) {
+        return (nowNanos - originNanos) / slotNanos;
+    }
+
+    /**
+     * 현재 구간을 반환합니다. 구간이 이전 주기의 것이면 한 스레드만 CAS로 주기를 넘기고 비웁니다.
+     */
+    private Slot currentSlot(long epoch) {
+        Slot slot = slots[(int) (epoch % slots.length)];
+        long seen = slot.epoch.get();
+        if (seen < epoch && slot.epoch.compareAndSet(seen, epoch)) {
+            slot.clear();
+        }
+        return slot;
+    }
+
+    static int indexOf(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * 버킷에 속하는 가장 큰 값
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) ((index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private static long valueAt(long[] buckets, long count, long max, double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 최근 window의 집계 결과 (값의 단위는 나노초)
+     *
+     * @param count       기록된 값의 수
+     * @param windowNanos 집계에 포함된 시간, 시작 직후에는 window보다 짧습니다.
+     */
+    public record Snapshot(
+            long count,
+            long windowNanos,
+            long p50,
+            long p95,
+            long p99,
+            long max
+    ) {
+
+        /**
+         * 초당 기록 수
+         */
+        public double throughputPerSecond() {
+            return count * 1_000_000_000.0 / windowNanos;
+        }
+    }
+
+    private static final class Slot {
+        private final AtomicLong epoch = new AtomicLong(-1L);
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong max = new AtomicLong();
+
+        private void clear() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts.set(i, 0L);
+            }
+            max.set(0L);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.support;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나의 실행으로 합칩니다. (single flight)
+ * - 먼저 도착한 호출만 loader를 실행하고, 실행 중에 도착한 같은 키의 호출은 그 결과를 함께 받습니다.
+ * - 실행이 끝나면 결과를 보관하지 않으므로, 이후의 호출은 다시 loader를 실행합니다.
+ * - loader가 실패하면 그 실행을 기다리던 호출 모두에게 같은 예외가 전달됩니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return join(running);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 전체 호출 수
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * loader를 실제로 실행한 횟수
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * loader 실행 한 번이 평균적으로 응답한 호출 수 (fan-in), 호출이 없으면 1
+     */
+    public double fanInRatio() {
+        long executed = executions();
+        return executed == 0 ? 1.0 : (double) calls() / executed;
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.hhplus.tdd.support;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 처리 과정을 남기는 추적 로거 (기존 ThreadLogger 대체)
+ * - 꺼져 있으면(기본값) 호출 즉시 반환하며, 메시지 패턴은 상수이고 인자는 long으로 받으므로 문자열 생성이나 boxing이 없습니다.
+ * - 켜져 있으면 호출 스레드는 미리 할당된 링 버퍼 칸에 패턴과 인자만 기록하고 반환합니다.
+ *   문자열 조립과 시간 포맷, 출력은 전용 drain 스레드가 수행하므로 유저 Lock을 잡은 구간에서 I/O를 기다리지 않습니다.
+ * - 버퍼가 가득 차면 호출 스레드를 막지 않고 기록을 버리며, 버린 건수는 droppedCount로 확인합니다.
+ *
+ * 패턴의 {} 자리에 인자가 순서대로 들어갑니다.
+ */
+@Component
+public class TransactionTraceLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionTraceLogger.class);
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Entry[] entries;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final LongAdder dropped = new LongAdder();
+
+    private final Consumer<String> sink;
+    private volatile boolean running = true;
+    private final Thread drainer;
+
+    public TransactionTraceLogger(TransactionTraceProperties properties) {
+        this(properties, logger::info);
+    }
+
+    TransactionTraceLogger(TransactionTraceProperties properties, Consumer<String> sink) {
+        if (properties.capacity() <= 0) {
+            throw new IllegalArgumentException("capacity는 양수여야 합니다. 설정값: " + properties.capacity());
+        }
+        this.enabled = properties.enabled();
+        this.sink = sink;
+
+        int capacity = enabled ? powerOfTwoAtLeast(properties.capacity()) : 0;
+        this.entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+        }
+        this.mask = capacity - 1;
+        this.drainer = enabled ? startDrainer() : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void trace(String pattern, long arg1) {
+        if (!enabled) {
+            return;
+        }
+        publish(pattern, 1, arg1, 0L, 0L);
+    }
+
+    public void trace(String pattern, long arg1, long arg2) {
+        if (!enabled) {
+            return;
+        }
+        publish(pattern, 2, arg1, arg2, 0L);
+    }
+
+    public void trace(String pattern, long arg1, long arg2, long arg3) {
+        if (!enabled) {
+            return;
+        }
+        publish(pattern, 3, arg1, arg2, arg3);
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 기록 수
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 출력을 기다리는 기록 수
+     */
+    public int pendingCount() {
+        return (int) (claimed.get() - consumed);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (drainer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 소비되지 않은 칸이 남아 있을 때만 순번을 차지하고, 칸을 채운 뒤 순번을 기록하여 drain 스레드에 공개합니다.
+     * 순번을 차지한 시점에 같은 칸의 이전 기록(순번 - capacity)은 이미 소비되었음이 보장됩니다.
+     */
+    private void publish(String pattern, int argCount, long arg1, long arg2, long arg3) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= entries.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Entry entry = entries[(int) (sequence & mask)];
+        entry.millis = System.currentTimeMillis();
+        entry.thread = Thread.currentThread();
+        entry.pattern = pattern;
+        entry.argCount = argCount;
+        entry.arg1 = arg1;
+        entry.arg2 = arg2;
+        entry.arg3 = arg3;
+        entry.published = sequence;
+    }
+
+    private static int powerOfTwoAtLeast(int capacity) {
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private Thread startDrainer() {
+        Thread thread = new Thread(this::drainLoop, "transaction-trace-drainer");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        while (running || consumed != claimed.get()) {
+            Entry entry = entries[(int) (consumed & mask)];
+            if (entry.published != consumed) {
+                if (running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+                continue;
+            }
+            line.setLength(0);
+            format(entry, line);
+            entry.thread = null;
+            consumed = consumed + 1;
+            try {
+                sink.accept(line.toString());
+            } catch (RuntimeException e) {
+                logger.error("[{}] 추적 로그 출력 실패", getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static void format(Entry entry, StringBuilder line) {
+        formatter.formatTo(Instant.ofEpochMilli(entry.millis), line);
+        line.append(" [").append(entry.thread.getName()).append("] ");
+
+        String pattern = entry.pattern;
+        int argIndex = 0;
+        int from = 0;
+        for (int at = pattern.indexOf("{}"); at >= 0 && argIndex < entry.argCount; at = pattern.indexOf("{}", from)) {
+            line.append(pattern, from, at).append(entry.arg(argIndex++));
+            from = at + 2;
+        }
+        line.append(pattern, from, pattern.length());
+    }
+
+    private static final class Entry {
+        private volatile long published = -1L;
+        private long millis;
+        private Thread thread;
+        private String pattern;
+        private int argCount;
+        private long arg1;
+        private long arg2;
+        private long arg3;
+
+        private long arg(int index) {
+            return switch (index) {
+                case 0 -> arg1;
+                case 1 -> arg2;
+                default -> arg3;
+            };
+        }
+    }
+}
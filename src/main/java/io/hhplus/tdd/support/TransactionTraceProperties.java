@@ -0,0 +1,16 @@
+package io.hhplus.tdd.support;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 트랜잭션 추적 로그 설정
+ * - enabled : 추적 로그 기록 여부 (기본값 false)
+ * - capacity : 기록 대기 링 버퍼 크기, 2의 거듭제곱으로 올림합니다. 버퍼가 가득 차면 새 기록은 버립니다.
+ */
+@ConfigurationProperties(prefix = "point.trace")
+public record TransactionTraceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8192") int capacity
+) {
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.controller;
+
+/**
+ * 비동기 API(/point/async)의 부하 테스트
+ * - 요청 처리 스레드는 바로 반환되고, 테이블 조회는 PointAsyncService의 전용 스레드 풀에서 실행됩니다.
+ */
+class AsyncApiLoadTest extends PointApiLoadTest {
+
+    @Override
+    protected String threadMode() {
+        return "async";
+    }
+
+    @Override
+    protected String pointPath() {
+        return "/point/async/";
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.controller;
+
+/**
+ * Tomcat 기본 스레드 풀(platform thread)에서의 부하 테스트
+ */
+class PlatformThreadLoadTest extends PointApiLoadTest {
+
+    @Override
+    protected String threadMode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청 처리 스레드 방식별로 감당 가능한 동시 요청 수를 비교합니다.
+ * - 동시 연결은 최대 10,000개까지 늘리며, Tomcat 연결 수 제한(기본 8192)에 먼저 막히지 않도록 MAX_CONNECTIONS로 넓혀 둡니다.
+ * - 매 요청마다 처음 보는 유저를 조회하여 UserPointTable.selectById의 지연(최대 200ms)을 그대로 받도록 합니다.
+ * - 동시 요청 수를 늘려가며 오류 없이 p99가 P99_LIMIT_MILLIS 안에 드는 최대 동시성을 로그로 남깁니다.
+ *
+ * 실행 : ./gradlew loadTest -Papp.java.version=21
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = PointApiLoadTest.MAX_CONNECTIONS)
+public abstract class PointApiLoadTest {
+
+    public static final String MAX_CONNECTIONS = "server.tomcat.max-connections=20000";
+
+    private static final Logger logger = LoggerFactory.getLogger(PointApiLoadTest.class);
+
+    private static final int[] CONCURRENCY_LEVELS = {100, 200, 400, 800, 1600, 3200, 6400, 10000};
+    private static final long P99_LIMIT_MILLIS = 1000L;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final AtomicLong userIdSequence = new AtomicLong();
+
+    protected abstract String threadMode();
+
+    /**
+     * 유저 포인트 조회 경로 (유저 ID 앞부분)
+     */
+    protected String pointPath() {
+        return "/point/";
+    }
+
+    @Test
+    @DisplayName("동시 요청 수를 늘려가며 p99가 한도 안에 드는 최대 동시성을 측정한다")
+    void sustainableConcurrency() {
+        int sustainable = 0;
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            Result result = fire(concurrency);
+            logger.info("[{}] concurrency: {}, throughput: {}/s, p99: {}ms, errors: {}",
+                    threadMode(), concurrency, result.throughput(), result.p99Millis(), result.errors());
+
+            if (result.errors() > 0 || result.p99Millis() > P99_LIMIT_MILLIS) {
+                break;
+            }
+            sustainable = concurrency;
+        }
+
+        logger.info("[{}] sustainable concurrency: {}", threadMode(), sustainable);
+        assertTrue(sustainable > 0, "최소 동시성 단계는 처리할 수 있어야 합니다.");
+    }
+
+    private Result fire(int concurrency) {
+        List<CompletableFuture<Long>> responses = new ArrayList<>(concurrency);
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + pointPath() + userIdSequence.incrementAndGet())
+            ).GET().build();
+
+            long sentNanos = System.nanoTime();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> response.statusCode() == 200 ? System.nanoTime() - sentNanos : -1L)
+                    .exceptionally(e -> -1L));
+        }
+
+        long[] latencies = responses.stream().mapToLong(CompletableFuture::join).toArray();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        long errors = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        long p99Nanos = succeeded.length == 0 ? Long.MAX_VALUE : succeeded[(int) Math.ceil(succeeded.length * 0.99) - 1];
+
+        return new Result(
+                succeeded.length * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1),
+                TimeUnit.NANOSECONDS.toMillis(p99Nanos),
+                errors
+        );
+    }
+
+    private record Result(long throughput, long p99Millis, long errors) {
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.ControllerTest;
+import io.hhplus.tdd.controller.api.PointAsyncMockApiCaller;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PointAsyncControllerTest extends ControllerTest {
+
+    private PointAsyncMockApiCaller pointAsyncMockApiCaller;
+
+    @BeforeEach
+    void setUp() {
+        pointAsyncMockApiCaller = new PointAsyncMockApiCaller(mockMvc, objectMapper);
+    }
+
+    @Test
+    @DisplayName("[PATCH] : /point/async/{id}/charge - 비동기로 충전하고 결과를 응답한다")
+    void charge_shouldReturnUserPointAsynchronously() throws Exception {
+        // given
+        UserPoint expectUserPoint = fixtureUser(1000L);
+        when(pointService.executePointTransaction(eq(USER_ID), eq(1000L), eq(TransactionType.CHARGE), anyLong()))
+                .thenReturn(expectUserPoint);
+
+        // when
+        UserPoint rtn = pointAsyncMockApiCaller.charge(USER_ID, 1000L, EXPECT_STATUS_OK);
+
+        // then
+        assertEquals(expectUserPoint, rtn);
+        verify(pointService, times(1)).executePointTransaction(eq(USER_ID), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+    }
+}
@@ -2,14 +2,30 @@ package io.hhplus.tdd.controller;
 
 import io.hhplus.tdd.ControllerTest;
 import io.hhplus.tdd.controller.api.PointMockApiCaller;
+import io.hhplus.tdd.controller.dto.PointStatsResponse;
+import io.hhplus.tdd.controller.dto.PointTransactionBatchRequest;
+import io.hhplus.tdd.controller.dto.PointTransactionBatchResponse;
+import io.hhplus.tdd.controller.dto.PointTransferRequest;
 import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistoryPage;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.domain.PointLimitExceededException;
+import io.hhplus.tdd.domain.PointTransfer;
 import io.hhplus.tdd.service.transaction.TransactionType;
 import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.batch.PointTransactionCommand;
+import io.hhplus.tdd.service.lock.UserLockRejectedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -82,6 +98,87 @@ public class PointControllerTest extends ControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("사용자 ID와 커서로 포인트 기록을 페이지 단위로 조회할 수 있다.")
+    public void getPointHistoryPage_shouldReturnPage() throws Exception {
+        // given
+        PointHistoryPage response = new PointHistoryPage(List.of(
+                new PointHistory(11L, USER_ID, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(12L, USER_ID, 200L, TransactionType.USE, 2L)
+        ), 12L);
+        when(pointService.historyPage(USER_ID, 10L, 2, null, null, null)).thenReturn(response);
+
+        // when
+        PointHistoryPage rtn = pointMockApiCaller.historyPage(USER_ID, 10L, 2, EXPECT_STATUS_OK);
+
+        // then
+        assertAll(
+                () -> assertEquals(2, rtn.items().size()),
+                () -> assertEquals(11L, rtn.items().get(0).id()),
+                () -> assertEquals(12L, rtn.nextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("사용자 ID와 트랜잭션 타입으로 포인트 기록의 합계를 조회할 수 있다.")
+    public void getPointHistorySummary_shouldReturnSummary() throws Exception {
+        // given
+        PointHistorySummary response = new PointHistorySummary(USER_ID, 2L, 1500L, 0L, 0L, 0L);
+        when(pointService.historySummary(USER_ID, TransactionType.CHARGE, null, null)).thenReturn(response);
+
+        // when
+        PointHistorySummary rtn = pointMockApiCaller.historySummary(USER_ID, TransactionType.CHARGE, EXPECT_STATUS_OK);
+
+        // then
+        assertEquals(response, rtn);
+    }
+
+    @Test
+    @DisplayName("포인트 기록 전체를 한 줄에 하나씩 NDJSON으로 내려받을 수 있다.")
+    public void exportHistory_shouldStreamNdjson() throws Exception {
+        // given
+        givenStreamHistory();
+
+        // when
+        MvcResult rtn = pointMockApiCaller.exportHistory(USER_ID, false, EXPECT_STATUS_OK);
+
+        // then
+        String[] lines = rtn.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+                () -> assertEquals(2, lines.length),
+                () -> assertEquals(1L, objectMapper.readValue(lines[0], PointHistory.class).id()),
+                () -> assertEquals(2L, objectMapper.readValue(lines[1], PointHistory.class).id()),
+                () -> assertNull(rtn.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING))
+        );
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하면 NDJSON을 gzip으로 압축하여 내려준다.")
+    public void exportHistory_shouldCompress_whenGzipAccepted() throws Exception {
+        // given
+        givenStreamHistory();
+
+        // when
+        MvcResult rtn = pointMockApiCaller.exportHistory(USER_ID, true, EXPECT_STATUS_OK);
+
+        // then
+        byte[] body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(rtn.getResponse().getContentAsByteArray()))) {
+            body = in.readAllBytes();
+        }
+        assertEquals("gzip", rtn.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(2, new String(body, StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStreamHistory() {
+        doAnswer(invocation -> {
+            Consumer<PointHistory> consumer = invocation.getArgument(1);
+            consumer.accept(new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, 1L));
+            consumer.accept(new PointHistory(2L, USER_ID, 200L, TransactionType.USE, 2L));
+            return null;
+        }).when(pointService).streamHistory(eq(USER_ID), any(Consumer.class));
+    }
 
     @Test
     @DisplayName("[PATCH] : /point/{id} - pointService.getUserPoint")
@@ -100,6 +197,58 @@ public class PointControllerTest extends ControllerTest {
         assertEquals(charge.point(), chargeAmount, "");
     }
 
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 충전하면 충전을 다시 실행하지 않고 첫 결과를 돌려준다")
+    public void charge_shouldReplayResult_whenIdempotencyKeyRepeats() throws Exception {
+        // given
+        final long chargeAmount = 1000L;
+        final String idempotencyKey = "charge-" + System.nanoTime();
+        UserPoint expectUserPoint = fixtureUser(chargeAmount);
+        when(pointService.charge(eq(USER_ID), eq(chargeAmount), anyLong())).thenReturn(expectUserPoint);
+
+        // when
+        UserPoint first = pointMockApiCaller.charge(USER_ID, chargeAmount, idempotencyKey, EXPECT_STATUS_OK);
+        UserPoint retried = pointMockApiCaller.charge(USER_ID, chargeAmount, idempotencyKey, EXPECT_STATUS_OK);
+
+        // then
+        assertEquals(expectUserPoint, first);
+        assertEquals(first, retried);
+        verify(pointService, times(1)).charge(eq(USER_ID), eq(chargeAmount), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 금액이 다른 충전을 요청하면 실행하지 않고 422와 사유를 응답한다")
+    public void charge_shouldReturn422_whenIdempotencyKeyReusedWithDifferentAmount() throws Exception {
+        // given
+        final String idempotencyKey = "charge-" + System.nanoTime();
+        when(pointService.charge(eq(USER_ID), eq(1000L), anyLong())).thenReturn(fixtureUser(1000L));
+        pointMockApiCaller.charge(USER_ID, 1000L, idempotencyKey, EXPECT_STATUS_OK);
+
+        // when
+        MvcResult rtn = pointMockApiCaller.chargeResult(USER_ID, 2000L, idempotencyKey, 422);
+
+        // then
+        assertThat(rtn.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .contains("\"422\"")
+                .contains("같은 키로 다른 요청이 들어왔습니다.");
+        verify(pointService, never()).charge(eq(USER_ID), eq(2000L), anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 Lock 대기 한도를 넘어 거절된 충전 요청은 429와 Retry-After를 응답한다")
+    public void charge_shouldReturn429_whenUserLockRejected() throws Exception {
+        // given
+        when(pointService.charge(eq(USER_ID), eq(1000L), anyLong())).thenThrow(
+                new UserLockRejectedException(UserLockRejectedException.Reason.QUEUE_FULL, "요청이 많아 처리할 수 없습니다."));
+
+        // when
+        MvcResult rtn = pointMockApiCaller.chargeResult(USER_ID, 1000L, 429);
+
+        // then
+        assertEquals("1", rtn.getResponse().getHeader(HttpHeaders.RETRY_AFTER));
+        assertThat(rtn.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("\"429\"");
+    }
+
     @Test
     public void use_shouldReturnUserPoint_isValid() throws Exception {
         // given
@@ -116,4 +265,69 @@ public class PointControllerTest extends ControllerTest {
         assertEquals(rtn, expectUser);
         verify(pointService, times(1)).use(eq(USER_ID), eq(1000L), anyLong());
     }
+
+    @Test
+    @DisplayName("[POST] : /point/transactions:batch - 건별 성공/실패 결과를 요청 순서대로 반환한다")
+    public void batch_shouldReturnResultPerItem() throws Exception {
+        // given
+        when(pointService.executePointTransaction(eq(USER_ID), eq(1000L), eq(TransactionType.CHARGE), anyLong()))
+                .thenReturn(fixtureUser(1000L));
+        when(pointService.executePointTransaction(eq(2L), eq(20000L), eq(TransactionType.CHARGE), anyLong()))
+                .thenThrow(new PointLimitExceededException("충전 한도 초과"));
+
+        // when
+        PointTransactionBatchResponse rtn = pointMockApiCaller.batch(new PointTransactionBatchRequest(List.of(
+                new PointTransactionCommand(USER_ID, 1000L, TransactionType.CHARGE),
+                new PointTransactionCommand(2L, 20000L, TransactionType.CHARGE)
+        )), EXPECT_STATUS_OK);
+
+        // then
+        assertAll(
+                () -> assertEquals(2, rtn.results().size()),
+                () -> assertEquals(1000L, rtn.results().get(0).userPoint().point()),
+                () -> assertNull(rtn.results().get(0).error()),
+                () -> assertNull(rtn.results().get(1).userPoint()),
+                () -> assertEquals("400", rtn.results().get(1).error().code()),
+                () -> assertEquals("충전 한도 초과", rtn.results().get(1).error().message())
+        );
+    }
+
+    @Test
+    @DisplayName("[PATCH] : /point/{id}/transfer - 이체 후 두 유저의 포인트 정보를 반환한다")
+    public void transfer_shouldReturnBothUserPoints() throws Exception {
+        // given
+        PointTransfer expected = new PointTransfer(fixtureUser(700L), new UserPoint(2L, 300L, 99999L));
+        when(pointService.transfer(eq(USER_ID), eq(2L), eq(300L), anyLong())).thenReturn(expected);
+
+        // when
+        PointTransfer rtn = pointMockApiCaller.transfer(USER_ID, new PointTransferRequest(2L, 300L), EXPECT_STATUS_OK);
+
+        // then
+        assertEquals(expected, rtn);
+        verify(pointService, times(1)).transfer(eq(USER_ID), eq(2L), eq(300L), anyLong());
+    }
+
+    @Test
+    @DisplayName("[GET] : /point/_stats - 처리한 요청이 메서드 이름별 최근 통계에 집계되고, 통계 조회 자신은 집계되지 않는다")
+    public void stats_shouldReportRecentRequests() throws Exception {
+        // given
+        when(pointService.getUserPointWithDefault(USER_ID)).thenReturn(fixtureUser(1000L));
+        long before = requestCount(pointMockApiCaller.stats(EXPECT_STATUS_OK), "point");
+        pointMockApiCaller.point(USER_ID, EXPECT_STATUS_OK);
+        pointMockApiCaller.point(USER_ID, EXPECT_STATUS_OK);
+
+        // when
+        PointStatsResponse rtn = pointMockApiCaller.stats(EXPECT_STATUS_OK);
+
+        // then
+        assertEquals(before + 2, requestCount(rtn, "point"));
+        assertThat(rtn.operations()).doesNotContainKey("stats");
+        assertThat(rtn.operations().get("point").maxMicros()).isGreaterThanOrEqualTo(rtn.operations().get("point").p50Micros());
+        assertEquals(0, rtn.locks().lockedUsers());
+    }
+
+    private static long requestCount(PointStatsResponse stats, String operation) {
+        PointStatsResponse.Latency latency = stats.operations().get(operation);
+        return latency == null ? 0L : latency.count();
+    }
 }
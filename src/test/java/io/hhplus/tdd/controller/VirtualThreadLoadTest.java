@@ -0,0 +1,21 @@
+package io.hhplus.tdd.controller;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * virtual thread 모드에서의 부하 테스트 (Java 21 이상)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {PointApiLoadTest.MAX_CONNECTIONS, "spring.threads.virtual.enabled=true"}
+)
+class VirtualThreadLoadTest extends PointApiLoadTest {
+
+    @Override
+    protected String threadMode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.controller.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.MockApiCaller;
+import io.hhplus.tdd.domain.UserPoint;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class PointAsyncMockApiCaller extends MockApiCaller {
+
+    public PointAsyncMockApiCaller(MockMvc mockMvc, ObjectMapper objectMapper) {
+        super(mockMvc, objectMapper);
+    }
+
+    public UserPoint charge(long id, long amount, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = patch("/point/async/{id}/charge", id)
+                .content(objectMapper.writeValueAsString(amount))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return objectMapper.readValue(mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), new TypeReference<>() {
+        });
+    }
+}
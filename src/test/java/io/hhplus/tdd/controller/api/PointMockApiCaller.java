@@ -3,17 +3,31 @@ package io.hhplus.tdd.controller.api;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.MockApiCaller;
+import io.hhplus.tdd.controller.dto.PointStatsResponse;
+import io.hhplus.tdd.controller.dto.PointTransactionBatchRequest;
+import io.hhplus.tdd.controller.dto.PointTransactionBatchResponse;
+import io.hhplus.tdd.controller.dto.PointTransferRequest;
 import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistoryPage;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.domain.PointTransfer;
 import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.idempotency.PointIdempotency;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class PointMockApiCaller extends MockApiCaller {
@@ -42,6 +56,41 @@ public class PointMockApiCaller extends MockApiCaller {
         });
     }
 
+    public PointHistoryPage historyPage(long id, long cursor, int size, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/point/{id}/histories/page", id)
+                .param("cursor", String.valueOf(cursor))
+                .param("size", String.valueOf(size))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return objectMapper.readValue(mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), new TypeReference<>() {
+        });
+    }
+
+    public PointHistorySummary historySummary(long id, TransactionType type, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/point/{id}/histories/summary", id)
+                .param("type", type.name())
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return objectMapper.readValue(mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), PointHistorySummary.class);
+    }
+
+    public MvcResult exportHistory(long id, boolean gzip, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/point/{id}/histories/export", id);
+        if (gzip) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().is(expectStatus))
+                .andReturn();
+    }
 
     public UserPoint charge(long id, long amount, int expectStatus) throws Exception {
         MockHttpServletRequestBuilder builder = patch("/point/{id}/charge", id)
@@ -54,6 +103,39 @@ public class PointMockApiCaller extends MockApiCaller {
         });
     }
 
+    public UserPoint charge(long id, long amount, String idempotencyKey, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = patch("/point/{id}/charge", id)
+                .header(PointIdempotency.HEADER, idempotencyKey)
+                .content(objectMapper.writeValueAsString(amount))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return objectMapper.readValue(mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), new TypeReference<>() {
+        });
+    }
+
+    public MvcResult chargeResult(long id, long amount, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = patch("/point/{id}/charge", id)
+                .content(objectMapper.writeValueAsString(amount))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn();
+    }
+
+    public MvcResult chargeResult(long id, long amount, String idempotencyKey, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = patch("/point/{id}/charge", id)
+                .header(PointIdempotency.HEADER, idempotencyKey)
+                .content(objectMapper.writeValueAsString(amount))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn();
+    }
+
     public UserPoint use(long id, long amount, int expectStatus) throws Exception {
         MockHttpServletRequestBuilder builder = patch("/point/{id}/use", id)
                 .content(objectMapper.writeValueAsString(amount))
@@ -64,5 +146,34 @@ public class PointMockApiCaller extends MockApiCaller {
                 .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), new TypeReference<>() {
         });
     }
-}
 
+    public PointTransactionBatchResponse batch(PointTransactionBatchRequest request, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = post("/point/transactions:batch")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return objectMapper.readValue(mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), new TypeReference<>() {
+        });
+    }
+
+    public PointTransfer transfer(long id, PointTransferRequest request, int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = patch("/point/{id}/transfer", id)
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return objectMapper.readValue(mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), PointTransfer.class);
+    }
+
+    public PointStatsResponse stats(int expectStatus) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/point/_stats")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        return objectMapper.readValue(mockMvc.perform(builder)
+                .andExpect(status().is(expectStatus))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8), PointStatsResponse.class);
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.PointLimitExceededException;
+import io.hhplus.tdd.service.lock.StripedUserLockManager;
+import io.hhplus.tdd.service.lock.UserLockRejectedException;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("예외 종류에 따라 트랜잭션 결과를 구분한다")
+    void outcome_shouldClassifyException() {
+        assertEquals(PointMetrics.Outcome.LIMIT_EXCEEDED, PointMetrics.Outcome.of(new PointLimitExceededException("한도 초과")));
+        assertEquals(PointMetrics.Outcome.INSUFFICIENT_BALANCE, PointMetrics.Outcome.of(new InsufficientPointException("잔액 부족")));
+        assertEquals(PointMetrics.Outcome.INVALID_REQUEST, PointMetrics.Outcome.of(new IllegalArgumentException("잘못된 요청")));
+        assertEquals(PointMetrics.Outcome.REJECTED, PointMetrics.Outcome.of(
+                new UserLockRejectedException(UserLockRejectedException.Reason.QUEUE_FULL, "대기 초과")));
+        assertEquals(PointMetrics.Outcome.ERROR, PointMetrics.Outcome.of(new IllegalStateException("오류")));
+    }
+
+    @Test
+    @DisplayName("Lock 관리자의 Lock 객체 수와 경합 비율을 gauge로 등록한다")
+    void registerLockManager_shouldExposeLiveLocksAndCollisionRate() {
+        // given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(4);
+        userLockManager.executeWithLock(1L, () -> null);
+
+        // when
+        pointMetrics.registerLockManager(userLockManager);
+
+        // then
+        assertEquals(4.0, meterRegistry.get("point.lock.live").gauge().value());
+        assertEquals(0.0, meterRegistry.get("point.lock.collision.rate").gauge().value());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 처리 시간은 타입과 결과 태그로 기록된다")
+    void recordTransaction_shouldTagTypeAndOutcome() {
+        // when
+        pointMetrics.recordTransaction(TransactionType.CHARGE, PointMetrics.Outcome.SUCCESS, 1_000L);
+        pointMetrics.recordTransaction(TransactionType.CHARGE, PointMetrics.Outcome.LIMIT_EXCEEDED, 1_000L);
+        pointMetrics.recordTransaction(TransactionType.CHARGE, PointMetrics.Outcome.LIMIT_EXCEEDED, 1_000L);
+
+        // then
+        assertEquals(1L, transactionCount(TransactionType.CHARGE, PointMetrics.Outcome.SUCCESS));
+        assertEquals(2L, transactionCount(TransactionType.CHARGE, PointMetrics.Outcome.LIMIT_EXCEEDED));
+        assertEquals(0L, transactionCount(TransactionType.USE, PointMetrics.Outcome.SUCCESS));
+    }
+
+    @Test
+    @DisplayName("테이블 호출과 요청 처리 시간은 이름별 최근 통계에도 집계된다")
+    void recordTableCall_shouldAggregateRecentStats() {
+        // when
+        pointMetrics.recordTableCall("user_point", "selectById", () -> 1L);
+        pointMetrics.recordTableCall("user_point", "selectById", () -> 1L);
+        pointMetrics.recordRequest("charge", 2_000_000L);
+
+        // then
+        assertEquals(2L, pointMetrics.tableCallStats().get("user_point.selectById").count());
+        assertEquals(1L, pointMetrics.requestStats().get("charge").count());
+        assertEquals(2_000_000L, pointMetrics.requestStats().get("charge").max());
+    }
+
+    @Test
+    @DisplayName("테이블 호출이 실패해도 호출 시간은 기록된다")
+    void recordTableCall_shouldRecordOnFailure() {
+        // when
+        pointMetrics.recordTableCall("user_point", "selectById", () -> 1L);
+        assertThatThrownBy(() -> pointMetrics.recordTableCall("user_point", "selectById", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertEquals(2L, meterRegistry.get("point.table.call")
+                .tag("table", "user_point")
+                .tag("operation", "selectById")
+                .timer()
+                .count());
+    }
+
+    private long transactionCount(TransactionType type, PointMetrics.Outcome outcome) {
+        return meterRegistry.get("point.transaction")
+                .tag("type", type.name())
+                .tag("outcome", outcome.name())
+                .timer()
+                .count();
+    }
+}
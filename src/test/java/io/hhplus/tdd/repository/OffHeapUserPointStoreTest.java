@@ -0,0 +1,126 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapUserPointStoreTest {
+
+    private static VersionedUserPoint versioned(long id, long point, long version) {
+        return new VersionedUserPoint(new UserPoint(id, point, 1_000L + version), version);
+    }
+
+    @Test
+    @DisplayName("저장한 잔액을 그대로 조회하고, 없는 유저는 null을 반환한다")
+    void get_shouldReturnStoredValue() {
+        // given
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+
+        // when
+        store.put(versioned(0L, 100L, 1L));
+        store.put(versioned(-7L, 200L, 2L));
+        store.put(versioned(Long.MAX_VALUE, 300L, 3L));
+        store.put(versioned(0L, 150L, 4L));
+
+        // then
+        assertEquals(versioned(0L, 150L, 4L), store.get(0L));
+        assertEquals(versioned(-7L, 200L, 2L), store.get(-7L));
+        assertEquals(versioned(Long.MAX_VALUE, 300L, 3L), store.get(Long.MAX_VALUE));
+        assertNull(store.get(1L));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    @DisplayName("putIfAbsent는 이미 있으면 바꾸지 않고 기존 잔액을 반환한다")
+    void putIfAbsent_shouldKeepExisting() {
+        // given
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+
+        // when
+        VersionedUserPoint first = store.putIfAbsent(versioned(1L, 100L, 1L));
+        VersionedUserPoint second = store.putIfAbsent(versioned(1L, 999L, 2L));
+
+        // then
+        assertNull(first);
+        assertEquals(versioned(1L, 100L, 1L), second);
+        assertEquals(versioned(1L, 100L, 1L), store.get(1L));
+    }
+
+    @Test
+    @DisplayName("compareAndSet은 버전이 같을 때만 바꾸고, 버전이 1 미만이면 거절한다")
+    void compareAndSet_shouldCompareVersion() {
+        // given
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+        store.put(versioned(1L, 100L, 5L));
+
+        // when
+        boolean stale = store.compareAndSet(4L, versioned(1L, 999L, 6L));
+        boolean matched = store.compareAndSet(5L, versioned(1L, 300L, 7L));
+        boolean absent = store.compareAndSet(1L, versioned(2L, 300L, 8L));
+
+        // then
+        assertFalse(stale);
+        assertTrue(matched);
+        assertFalse(absent);
+        assertEquals(versioned(1L, 300L, 7L), store.get(1L));
+        assertThrows(IllegalArgumentException.class, () -> store.put(versioned(3L, 100L, 0L)));
+    }
+
+    @Test
+    @DisplayName("사용률이 높아지면 버퍼를 키우고, 기존 잔액을 모두 옮긴다")
+    void put_shouldResizeAndKeepAllEntries() {
+        // given
+        OffHeapUserPointStore store = new OffHeapUserPointStore(0);
+        long initialBytes = store.reservedBytes();
+        int users = 100_000;
+
+        // when
+        for (long id = 1; id <= users; id++) {
+            store.put(versioned(id, id % 10_000, id));
+        }
+
+        // then
+        assertEquals(users, store.size());
+        assertThat(store.reservedBytes()).isGreaterThan(initialBytes);
+        for (long id = 1; id <= users; id++) {
+            assertEquals(versioned(id, id % 10_000, id), store.get(id));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 쓰고 읽어도 모든 잔액이 남는다")
+    void put_shouldBeThreadSafe() throws InterruptedException {
+        // given
+        OffHeapUserPointStore store = new OffHeapUserPointStore(0);
+        int threadCount = 8;
+        int usersPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long base = (long) t * usersPerThread;
+            executorService.submit(() -> {
+                for (long id = base; id < base + usersPerThread; id++) {
+                    store.put(versioned(id, 1L, id + 1));
+                    assertEquals(1L, store.get(id).userPoint().point());
+                    store.get(id / 2);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(threadCount * usersPerThread, store.size());
+        for (long id = 0; id < (long) threadCount * usersPerThread; id++) {
+            assertEquals(versioned(id, 1L, id + 1), store.get(id));
+        }
+    }
+}
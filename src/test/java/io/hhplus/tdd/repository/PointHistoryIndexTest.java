@@ -0,0 +1,155 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointHistoryIndexTest {
+
+    private static final long USER_ID = 1L;
+    private static final long ANOTHER_USER_ID = 2L;
+    private static final long UPDATE_MILLIS = System.currentTimeMillis();
+
+    private PointHistoryIndex pointHistoryIndex;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryIndex = new PointHistoryIndex();
+    }
+
+    @Test
+    @DisplayName("유저별로 추가된 순서대로 이력을 조회한다")
+    void selectAllByUserId_shouldReturnOnlyUserHistoriesInOrder() {
+        // given
+        PointHistory first = new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        PointHistory other = new PointHistory(2L, ANOTHER_USER_ID, 2000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        PointHistory second = new PointHistory(3L, USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS);
+        pointHistoryIndex.add(first);
+        pointHistoryIndex.add(other);
+        pointHistoryIndex.add(second);
+
+        // when
+        List<PointHistory> histories = pointHistoryIndex.selectAllByUserId(USER_ID);
+
+        // then
+        assertThat(histories).containsExactly(first, second);
+        assertThat(pointHistoryIndex.selectAllByUserId(ANOTHER_USER_ID)).containsExactly(other);
+    }
+
+    @Test
+    @DisplayName("이력이 ID 역순으로 추가되어도 ID 오름차순으로 조회한다")
+    void add_shouldKeepIdOrder_whenAddedOutOfOrder() {
+        // given
+        PointHistory first = new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        PointHistory second = new PointHistory(2L, USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS);
+        PointHistory third = new PointHistory(3L, USER_ID, 300L, TransactionType.CHARGE, UPDATE_MILLIS);
+        pointHistoryIndex.add(first);
+        pointHistoryIndex.add(third);
+        pointHistoryIndex.add(second);
+
+        // when
+        List<PointHistory> histories = pointHistoryIndex.selectAllByUserId(USER_ID);
+
+        // then
+        assertThat(histories).containsExactly(first, second, third);
+        assertThat(pointHistoryIndex.selectPage(USER_ID, 1L, 10, PointHistoryCondition.ALL)).containsExactly(second, third);
+    }
+
+    @Test
+    @DisplayName("이력이 없는 유저는 빈 리스트를 반환한다")
+    void selectAllByUserId_shouldReturnEmpty_whenUserHasNoHistory() {
+        assertThat(pointHistoryIndex.selectAllByUserId(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 결과는 이후 추가되는 이력의 영향을 받지 않는 스냅샷이다")
+    void selectAllByUserId_shouldReturnImmutableSnapshot() {
+        // given
+        pointHistoryIndex.add(new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS));
+        List<PointHistory> histories = pointHistoryIndex.selectAllByUserId(USER_ID);
+
+        // when
+        pointHistoryIndex.add(new PointHistory(2L, USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS));
+
+        // then
+        assertThat(histories).hasSize(1);
+        assertThatThrownBy(() -> histories.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 이력을 조건에 맞는 것만 size건까지 조회한다")
+    void selectPage_shouldReturnHistoriesAfterCursor() {
+        // given
+        for (long id = 1; id <= 10; id++) {
+            TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryIndex.add(new PointHistory(id, USER_ID, 100L, type, UPDATE_MILLIS));
+        }
+
+        // when
+        List<PointHistory> firstPage = pointHistoryIndex.selectPage(USER_ID, 0L, 3, PointHistoryCondition.ALL);
+        List<PointHistory> nextPage = pointHistoryIndex.selectPage(USER_ID, 3L, 3,
+                new PointHistoryCondition(TransactionType.USE, null, null));
+
+        // then
+        assertThat(firstPage).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        assertThat(nextPage).extracting(PointHistory::id).containsExactly(4L, 6L, 8L);
+    }
+
+    @Test
+    @DisplayName("마지막 이력 이후의 커서로 조회하면 빈 목록을 반환한다")
+    void selectPage_shouldReturnEmpty_whenCursorIsAtEnd() {
+        // given
+        pointHistoryIndex.add(new PointHistory(1L, USER_ID, 100L, TransactionType.CHARGE, UPDATE_MILLIS));
+
+        // when & then
+        assertThat(pointHistoryIndex.selectPage(USER_ID, 1L, 10, PointHistoryCondition.ALL)).isEmpty();
+        assertThat(pointHistoryIndex.selectPage(999L, 0L, 10, PointHistoryCondition.ALL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 이력의 건수와 타입별 금액을 합산하고, 이체는 받은 금액과 보낸 금액을 나누어 합산한다")
+    void summarize_shouldAggregateByType() {
+        // given
+        pointHistoryIndex.add(new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, 1000L));
+        pointHistoryIndex.add(new PointHistory(2L, USER_ID, 300L, TransactionType.USE, 2000L));
+        pointHistoryIndex.add(new PointHistory(3L, USER_ID, -200L, TransactionType.TRANSFER, 3000L));
+        pointHistoryIndex.add(new PointHistory(4L, USER_ID, 500L, TransactionType.TRANSFER, 4000L));
+        pointHistoryIndex.add(new PointHistory(5L, USER_ID, 700L, TransactionType.CHARGE, 5000L));
+        pointHistoryIndex.add(new PointHistory(6L, ANOTHER_USER_ID, 900L, TransactionType.CHARGE, 1000L));
+
+        // when
+        PointHistorySummary all = pointHistoryIndex.summarize(USER_ID, PointHistoryCondition.ALL);
+        PointHistorySummary charges = pointHistoryIndex.summarize(USER_ID, new PointHistoryCondition(TransactionType.CHARGE, null, 5000L));
+        PointHistorySummary empty = pointHistoryIndex.summarize(999L, PointHistoryCondition.ALL);
+
+        // then
+        assertThat(all).isEqualTo(new PointHistorySummary(USER_ID, 5L, 1700L, 300L, 500L, 200L));
+        assertThat(charges).isEqualTo(new PointHistorySummary(USER_ID, 1L, 1000L, 0L, 0L, 0L));
+        assertThat(empty).isEqualTo(new PointHistorySummary(999L, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    @Test
+    @DisplayName("한 유저의 이력이 많아져 컬럼이 늘어나도 순서와 값이 유지된다")
+    void add_shouldGrowColumns() {
+        // given
+        for (long id = 1000; id >= 1; id--) {
+            pointHistoryIndex.add(new PointHistory(id, USER_ID, id, TransactionType.CHARGE, id * 10));
+        }
+
+        // when
+        List<PointHistory> histories = pointHistoryIndex.selectAllByUserId(USER_ID);
+
+        // then
+        assertThat(histories).hasSize(1000);
+        assertThat(histories).extracting(PointHistory::id).isSorted();
+        assertThat(histories.get(499)).isEqualTo(new PointHistory(500L, USER_ID, 500L, TransactionType.CHARGE, 5000L));
+    }
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.wal.PointWriteAheadLog;
+import io.hhplus.tdd.repository.wal.PointWriteAheadLogProperties;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointHistoryWriterTest {
+
+    private static final long USER_ID = 1L;
+    private static final long ANOTHER_USER_ID = 2L;
+    private static final long UPDATE_MILLIS = System.currentTimeMillis();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+    private final PointWriteAheadLog disabledWal = new PointWriteAheadLog(PointWriteAheadLogProperties.disabled(), pointMetrics);
+    private PointHistoryWriter pointHistoryWriter;
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.close();
+    }
+
+    private static PointHistoryWriterProperties properties(PointHistoryWriterProperties.Mode mode, int batchSize) {
+        return new PointHistoryWriterProperties(mode, 100, batchSize);
+    }
+
+    @Test
+    @DisplayName("SYNC 모드에서는 요청 스레드에서 바로 테이블에 저장한다")
+    void append_sync_shouldInsertImmediately() {
+        // given
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+        PointHistory saved = new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        when(pointHistoryTable.insert(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS)).thenReturn(saved);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, new PointHistoryIndex(),
+                properties(PointHistoryWriterProperties.Mode.SYNC, 100), pointMetrics, disabledWal);
+
+        // when
+        PointHistory rtn = pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+
+        // then
+        assertEquals(saved, rtn);
+        verify(pointHistoryTable, times(1)).insert(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+    }
+
+    @Test
+    @DisplayName("resumeAfter 이후에는 복구한 마지막 ID 다음부터 이력 ID를 부여한다")
+    void append_shouldContinueIds_afterResume() {
+        // given
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        pointHistoryWriter = new PointHistoryWriter(new PointHistoryTable(), pointHistoryIndex,
+                properties(PointHistoryWriterProperties.Mode.ASYNC, 100), pointMetrics, disabledWal);
+        pointHistoryWriter.resumeAfter(10L);
+
+        // when
+        PointHistory first = pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        PointHistory second = pointHistoryWriter.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS);
+
+        // then
+        assertEquals(11L, first.id());
+        assertEquals(12L, second.id());
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서는 테이블 저장 전이라도 자신이 적재한 이력이 순서대로 조회된다")
+    void append_async_shouldReadYourWrites() {
+        // given
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        pointHistoryWriter = new PointHistoryWriter(new PointHistoryTable(), pointHistoryIndex,
+                properties(PointHistoryWriterProperties.Mode.ASYNC, 100), pointMetrics, disabledWal);
+
+        // when
+        PointHistory first = pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        pointHistoryWriter.append(ANOTHER_USER_ID, 2000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        PointHistory second = pointHistoryWriter.append(USER_ID, 300L, TransactionType.USE, UPDATE_MILLIS);
+        PointHistory third = pointHistoryWriter.append(USER_ID, 500L, TransactionType.CHARGE, UPDATE_MILLIS);
+
+        List<PointHistory> histories = pointHistoryIndex.selectAllByUserId(USER_ID);
+
+        // then
+        assertThat(histories).containsExactly(first, second, third);
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서 저장이 밀리면 대기 큐 깊이로 확인할 수 있고, 종료 시 남은 이력을 모두 저장한다")
+    void append_async_shouldExposeQueueDepthAndDrainOnClose() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        });
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, new PointHistoryIndex(),
+                properties(PointHistoryWriterProperties.Mode.ASYNC, 1), pointMetrics, disabledWal);
+
+        // when
+        pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+
+        // then
+        assertThat(pointHistoryWriter.queueDepth()).isBetween(2, 3);
+        assertThat(pointHistoryWriter.lagMillis()).isGreaterThanOrEqualTo(0L);
+        assertThat(meterRegistry.get("point.history.queue.depth").gauge().value()).isBetween(2.0, 3.0);
+        assertThat(meterRegistry.get("point.history.lag").gauge().value()).isGreaterThanOrEqualTo(0.0);
+
+        release.countDown();
+        pointHistoryWriter.close();
+
+        assertEquals(0, pointHistoryWriter.queueDepth());
+        assertEquals(0.0, meterRegistry.get("point.history.queue.depth").gauge().value());
+        verify(pointHistoryTable, times(3)).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서 저장에 실패한 이력은 버리지 않고 저장될 때까지 다시 시도한다")
+    void append_async_shouldRetryFailedInsert() {
+        // given
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+        when(pointHistoryTable.insert(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS))
+                .thenThrow(new IllegalStateException("일시적 저장 실패"))
+                .thenThrow(new IllegalStateException("일시적 저장 실패"))
+                .thenReturn(new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS));
+        when(pointHistoryTable.insert(USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS))
+                .thenReturn(new PointHistory(2L, USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS));
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, new PointHistoryIndex(),
+                properties(PointHistoryWriterProperties.Mode.ASYNC, 100), pointMetrics, disabledWal);
+
+        // when
+        pointHistoryWriter.append(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        pointHistoryWriter.append(USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS);
+
+        // then
+        verify(pointHistoryTable, timeout(2_000)).insert(USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS);
+        InOrder inOrder = inOrder(pointHistoryTable);
+        inOrder.verify(pointHistoryTable, times(3)).insert(USER_ID, 1000L, TransactionType.CHARGE, UPDATE_MILLIS);
+        inOrder.verify(pointHistoryTable).insert(USER_ID, 500L, TransactionType.USE, UPDATE_MILLIS);
+        assertEquals(2.0, meterRegistry.get("point.history.write.failures").tag("result", "retried").counter().count());
+    }
+}
@@ -0,0 +1,208 @@
+package io.hhplus.tdd.repository;
+
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UserPointCacheTest {
+
+    private static final long USER_ID = 1L;
+
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserPointCache userPointCache;
+
+    @AfterEach
+    void tearDown() {
+        userPointCache.close();
+    }
+
+    private UserPointCache cache(UserPointCacheProperties.WriteMode writeMode) {
+        return cache(writeMode, new HeapUserPointStore());
+    }
+
+    private UserPointCache cache(UserPointCacheProperties.WriteMode writeMode, UserPointStore userPointStore) {
+        // flush 스레드의 개입 없이 검증하기 위해 주기를 길게 둡니다.
+        return new UserPointCache(userPointTable,
+                new UserPointCacheProperties(writeMode, Duration.ofHours(1), Duration.ofHours(1)),
+                new PointMetrics(meterRegistry), userPointStore);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 잔액은 테이블을 다시 조회하지 않고 메모리에서 응답한다")
+    void selectById_shouldLoadOnlyOnce() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_THROUGH);
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 1000L, 1L));
+
+        // when
+        userPointCache.selectById(USER_ID);
+        UserPoint rtn = userPointCache.selectById(USER_ID);
+
+        // then
+        assertEquals(1000L, rtn.point());
+        verify(userPointTable, times(1)).selectById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("같은 유저를 동시에 조회하면 테이블 조회는 한 번만 일어나고, 조회 중 끝난 쓰기가 우선한다")
+    void selectById_shouldCoalesceConcurrentLoads() throws InterruptedException {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_THROUGH);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.selectById(USER_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new UserPoint(USER_ID, 0L, 1L);
+        });
+        when(userPointTable.insertOrUpdate(USER_ID, 700L)).thenReturn(new UserPoint(USER_ID, 700L, 2L));
+
+        List<Long> results = new CopyOnWriteArrayList<>();
+        Thread leader = new Thread(() -> results.add(userPointCache.selectById(USER_ID).point()));
+        leader.start();
+        loading.await(5, TimeUnit.SECONDS);
+        Thread follower = new Thread(() -> results.add(userPointCache.selectById(USER_ID).point()));
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        userPointCache.insertOrUpdate(USER_ID, 700L);
+        long readAfterWrite = userPointCache.selectById(USER_ID).point();
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // then
+        assertEquals(700L, readAfterWrite);
+        assertThat(results).containsExactly(700L, 700L);
+        verify(userPointTable, times(1)).selectById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("WRITE_THROUGH 모드에서는 쓰기가 테이블에 즉시 반영된다")
+    void insertOrUpdate_writeThrough_shouldWriteTable() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_THROUGH);
+        when(userPointTable.insertOrUpdate(USER_ID, 500L)).thenReturn(new UserPoint(USER_ID, 500L, 1L));
+
+        // when
+        userPointCache.insertOrUpdate(USER_ID, 500L);
+
+        // then
+        verify(userPointTable, times(1)).insertOrUpdate(USER_ID, 500L);
+        assertEquals(500L, userPointCache.selectById(USER_ID).point());
+        assertEquals(0, userPointCache.dirtyCount());
+    }
+
+    @Test
+    @DisplayName("WRITE_BEHIND 모드에서는 flush 전까지 테이블에 쓰지 않고, 연속된 쓰기는 마지막 값 한 번으로 합쳐진다")
+    void insertOrUpdate_writeBehind_shouldCoalesceWrites() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_BEHIND);
+
+        // when
+        userPointCache.insertOrUpdate(USER_ID, 100L);
+        userPointCache.insertOrUpdate(USER_ID, 200L);
+        userPointCache.insertOrUpdate(USER_ID, 300L);
+
+        // then
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        assertEquals(300L, userPointCache.selectById(USER_ID).point());
+        assertEquals(1, userPointCache.dirtyCount());
+        assertEquals(1.0, meterRegistry.get("point.cache.dirty").gauge().value());
+
+        userPointCache.flush();
+
+        verify(userPointTable, times(1)).insertOrUpdate(USER_ID, 300L);
+        assertEquals(0, userPointCache.dirtyCount());
+        assertEquals(0.0, meterRegistry.get("point.cache.dirty").gauge().value());
+        assertEquals((double) userPointCache.flushLagMillis(), meterRegistry.get("point.cache.flush.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("조회한 버전이 그대로면 compareAndSet으로 갱신되고 버전이 올라간다")
+    void compareAndSet_shouldUpdate_whenVersionMatches() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_THROUGH);
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 100L, 1L));
+        when(userPointTable.insertOrUpdate(USER_ID, 300L)).thenReturn(new UserPoint(USER_ID, 300L, 2L));
+        VersionedUserPoint snapshot = userPointCache.selectVersionedById(USER_ID);
+
+        // when
+        UserPoint rtn = userPointCache.compareAndSet(USER_ID, snapshot.version(), 300L);
+
+        // then
+        assertEquals(300L, rtn.point());
+        assertThat(userPointCache.selectVersionedById(USER_ID).version()).isGreaterThan(snapshot.version());
+        verify(userPointTable, times(1)).insertOrUpdate(USER_ID, 300L);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 쓰기가 반영되었다면 compareAndSet은 갱신하지 않고 null을 반환한다")
+    void compareAndSet_shouldReturnNull_whenVersionIsStale() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_BEHIND);
+        userPointCache.insertOrUpdate(USER_ID, 100L);
+        VersionedUserPoint stale = userPointCache.selectVersionedById(USER_ID);
+        userPointCache.insertOrUpdate(USER_ID, 200L);
+
+        // when
+        UserPoint rtn = userPointCache.compareAndSet(USER_ID, stale.version(), 999L);
+
+        // then
+        assertThat(rtn).isNull();
+        assertEquals(200L, userPointCache.selectById(USER_ID).point());
+    }
+
+    @Test
+    @DisplayName("OFF_HEAP 저장소에서도 조회, 갱신, 버전 비교 갱신이 같은 결과를 낸다")
+    void offHeapStore_shouldBehaveLikeHeapStore() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_BEHIND, new OffHeapUserPointStore(16));
+        userPointCache.insertOrUpdate(USER_ID, 100L);
+        VersionedUserPoint snapshot = userPointCache.selectVersionedById(USER_ID);
+
+        // when
+        UserPoint updated = userPointCache.compareAndSet(USER_ID, snapshot.version(), 300L);
+        UserPoint stale = userPointCache.compareAndSet(USER_ID, snapshot.version(), 999L);
+
+        // then
+        assertEquals(300L, updated.point());
+        assertThat(stale).isNull();
+        assertEquals(300L, userPointCache.selectById(USER_ID).point());
+        assertEquals(1, userPointCache.dirtyCount());
+    }
+
+    @Test
+    @DisplayName("종료 시 남아 있는 dirty 잔액을 테이블에 반영한다")
+    void close_shouldFlushDirtyPoints() {
+        // given
+        userPointCache = cache(UserPointCacheProperties.WriteMode.WRITE_BEHIND);
+        userPointCache.insertOrUpdate(USER_ID, 100L);
+        userPointCache.insertOrUpdate(2L, 200L);
+
+        // when
+        userPointCache.close();
+
+        // then
+        verify(userPointTable, times(1)).insertOrUpdate(USER_ID, 100L);
+        verify(userPointTable, times(1)).insertOrUpdate(2L, 200L);
+    }
+}
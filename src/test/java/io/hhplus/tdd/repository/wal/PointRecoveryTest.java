@@ -0,0 +1,259 @@
+package io.hhplus.tdd.repository.wal;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.HeapUserPointStore;
+import io.hhplus.tdd.repository.PointHistoryIndex;
+import io.hhplus.tdd.repository.PointHistoryTable;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.repository.PointHistoryWriterProperties;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.repository.UserPointCacheProperties;
+import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PointRecoveryTest {
+
+    private static final long USER_ID = 1L;
+    private static final long ANOTHER_USER_ID = 2L;
+
+    @TempDir
+    Path directory;
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private PointWriteAheadLog pointWriteAheadLog;
+    private UserPointCache userPointCache;
+    private PointHistoryIndex pointHistoryIndex;
+    private PointRecovery pointRecovery;
+
+    @AfterEach
+    void tearDown() {
+        pointWriteAheadLog.close();
+    }
+
+    private PointWriteAheadLogProperties walProperties() {
+        // 여러 세그먼트에 걸쳐 복구되도록 세그먼트를 작게 둡니다.
+        return new PointWriteAheadLogProperties(true, directory, DataSize.ofBytes(PointWalCodec.RECORD_SIZE * 4L),
+                PointWriteAheadLogProperties.FsyncMode.BATCH, Duration.ofMillis(1), 64);
+    }
+
+    /**
+     * 재시작을 흉내 내기 위해 WAL을 다시 열고 빈 캐시와 인덱스로 PointRecovery를 만듭니다.
+     */
+    private void restart() {
+        if (pointWriteAheadLog != null) {
+            pointWriteAheadLog.close();
+        }
+        pointWriteAheadLog = new PointWriteAheadLog(walProperties(), pointMetrics);
+        userPointCache = new UserPointCache(userPointTable,
+                new UserPointCacheProperties(UserPointCacheProperties.WriteMode.WRITE_THROUGH, Duration.ofHours(1), Duration.ofHours(1)),
+                pointMetrics, new HeapUserPointStore());
+        pointHistoryIndex = new PointHistoryIndex();
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(mock(PointHistoryTable.class), pointHistoryIndex,
+                new PointHistoryWriterProperties(PointHistoryWriterProperties.Mode.SYNC, 100, 100), pointMetrics, pointWriteAheadLog);
+        pointRecovery = new PointRecovery(pointWriteAheadLog, walProperties(), new PointRecoveryProperties(Duration.ofHours(1), 2, 3),
+                userPointCache, pointHistoryIndex, pointHistoryWriter, pointMetrics);
+    }
+
+    private void append(long id, long userId, long amount, TransactionType type) {
+        pointWriteAheadLog.append(new PointHistory(id, userId, amount, type, id));
+    }
+
+    @Test
+    @DisplayName("스냅샷의 잔액에 스냅샷 이후의 레코드만 더하고, 이력 인덱스는 모든 세그먼트로 다시 적재한다")
+    void recover_shouldReplayOnlyTailAfterSnapshot() {
+        // given
+        restart();
+        pointRecovery.recover();
+        append(1, USER_ID, 1000L, TransactionType.CHARGE);
+        append(2, ANOTHER_USER_ID, 500L, TransactionType.CHARGE);
+        append(3, USER_ID, 200L, TransactionType.USE);
+        append(4, USER_ID, -300L, TransactionType.TRANSFER);
+        append(5, ANOTHER_USER_ID, 300L, TransactionType.TRANSFER);
+        PointSnapshot snapshot = pointRecovery.snapshot();
+        append(6, USER_ID, 50L, TransactionType.CHARGE);
+        append(7, ANOTHER_USER_ID, 100L, TransactionType.USE);
+        append(8, 3L, 700L, TransactionType.CHARGE);
+
+        // when
+        restart();
+        PointRecoveryReport report = pointRecovery.recover();
+
+        // then
+        assertEquals(5L * PointWalCodec.RECORD_SIZE, snapshot.position());
+        assertEquals(snapshot.position(), report.snapshotPosition());
+        assertEquals(2, report.snapshotUsers());
+        assertEquals(2, report.segments());
+        assertEquals(3L, report.replayedRecords());
+        assertEquals(8L, report.indexedHistories());
+        assertEquals(3, report.recoveredUsers());
+        assertEquals(8L, report.lastHistoryId());
+
+        assertEquals(550L, userPointCache.selectById(USER_ID).point());
+        assertEquals(700L, userPointCache.selectById(ANOTHER_USER_ID).point());
+        assertEquals(700L, userPointCache.selectById(3L).point());
+        verify(userPointTable, never()).selectById(anyLong());
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).extracting(PointHistory::id).containsExactly(1L, 3L, 4L, 6L);
+        assertThat(pointHistoryIndex.selectAllByUserId(ANOTHER_USER_ID)).extracting(PointHistory::id).containsExactly(2L, 5L, 7L);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 여러 번 저장해도 세그먼트는 지우지 않고, 로그 처음부터 이력을 복구한다")
+    void snapshot_shouldKeepSegments() throws IOException {
+        // given
+        restart();
+        pointRecovery.recover();
+        for (long id = 1; id <= 9; id++) {
+            append(id, id % 2 == 0 ? ANOTHER_USER_ID : USER_ID, 100L, TransactionType.CHARGE);
+        }
+        pointRecovery.snapshot();
+        append(10, USER_ID, 50L, TransactionType.USE);
+        pointRecovery.snapshot();
+        append(11, ANOTHER_USER_ID, 100L, TransactionType.USE);
+
+        // when
+        restart();
+        PointRecoveryReport report = pointRecovery.recover();
+
+        // then
+        assertThat(segmentFiles()).hasSize(3);
+        assertEquals(3, report.segments());
+        assertEquals(1L, report.replayedRecords());
+        assertEquals(11L, report.indexedHistories());
+        assertEquals(11L, report.lastHistoryId());
+        assertEquals(450L, userPointCache.selectById(USER_ID).point());
+        assertEquals(300L, userPointCache.selectById(ANOTHER_USER_ID).point());
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).extracting(PointHistory::id).containsExactly(1L, 3L, 5L, 7L, 9L, 10L);
+        assertThat(pointHistoryIndex.selectAllByUserId(ANOTHER_USER_ID)).extracting(PointHistory::id).containsExactly(2L, 4L, 6L, 8L, 11L);
+    }
+
+    @Test
+    @DisplayName("로그의 첫 세그먼트가 없으면 이력을 복구할 수 없으므로 시작하지 않는다")
+    void recover_shouldFail_whenFirstSegmentIsMissing() throws IOException {
+        // given
+        restart();
+        pointRecovery.recover();
+        for (long id = 1; id <= 5; id++) {
+            append(id, USER_ID, 100L, TransactionType.CHARGE);
+        }
+        pointRecovery.snapshot();
+        pointWriteAheadLog.close();
+        Files.delete(segmentFiles().stream().min(Comparator.naturalOrder()).orElseThrow());
+
+        // when & then
+        restart();
+        assertThatThrownBy(() -> pointRecovery.recover())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이력을 복구할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("가장 최근 스냅샷이 손상되었으면 이전 스냅샷과 그 이후의 로그로 복구한다")
+    void recover_shouldFallBackToOlderSnapshot_whenLatestIsCorrupted() throws IOException {
+        // given
+        restart();
+        pointRecovery.recover();
+        append(1, USER_ID, 1000L, TransactionType.CHARGE);
+        PointSnapshot older = pointRecovery.snapshot();
+        append(2, USER_ID, 400L, TransactionType.USE);
+        PointSnapshot latest = pointRecovery.snapshot();
+        corrupt(latest.position());
+
+        // when
+        restart();
+        PointRecoveryReport report = pointRecovery.recover();
+
+        // then
+        assertEquals(older.position(), report.snapshotPosition());
+        assertEquals(1L, report.replayedRecords());
+        assertEquals(600L, userPointCache.selectById(USER_ID).point());
+    }
+
+    @Test
+    @DisplayName("새로 반영할 로그가 없으면 스냅샷을 다시 저장하지 않는다")
+    void snapshot_shouldSkip_whenNothingAppended() throws IOException {
+        // given
+        restart();
+        pointRecovery.recover();
+        append(1, USER_ID, 1000L, TransactionType.CHARGE);
+        PointSnapshot first = pointRecovery.snapshot();
+
+        // when
+        PointSnapshot second = pointRecovery.snapshot();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertEquals(1, snapshotFiles().size());
+    }
+
+    @Test
+    @DisplayName("복구 후 이력 ID는 복구한 마지막 ID 다음부터 이어서 부여된다")
+    void recover_shouldResumeHistoryIds() {
+        // given
+        restart();
+        pointRecovery.recover();
+        append(1, USER_ID, 1000L, TransactionType.CHARGE);
+        append(2, USER_ID, 100L, TransactionType.USE);
+
+        restart();
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+        when(pointHistoryTable.insert(USER_ID, 300L, TransactionType.CHARGE, 3L))
+                .thenReturn(new PointHistory(1L, USER_ID, 300L, TransactionType.CHARGE, 3L));
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointHistoryWriterProperties(PointHistoryWriterProperties.Mode.SYNC, 100, 100), pointMetrics, pointWriteAheadLog);
+        pointRecovery = new PointRecovery(pointWriteAheadLog, walProperties(), new PointRecoveryProperties(Duration.ofHours(1), 2, 3),
+                userPointCache, pointHistoryIndex, pointHistoryWriter, pointMetrics);
+        pointRecovery.recover();
+
+        // when
+        PointHistory rtn = pointHistoryWriter.append(USER_ID, 300L, TransactionType.CHARGE, 3L);
+
+        // then
+        assertEquals(3L, rtn.id());
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        assertEquals(900L, userPointCache.selectById(USER_ID).point());
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).toList();
+        }
+    }
+
+    private List<Path> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".snap")).toList();
+        }
+    }
+
+    private void corrupt(long position) throws IOException {
+        Path snapshot = snapshotFiles().stream()
+                .filter(path -> path.getFileName().toString().contains(String.format("%020d", position)))
+                .findFirst()
+                .orElseThrow();
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(snapshot, bytes);
+    }
+}
@@ -0,0 +1,171 @@
+package io.hhplus.tdd.repository.wal;
+
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointWriteAheadLogTest {
+
+    private static final long UPDATE_MILLIS = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PointWriteAheadLog pointWriteAheadLog;
+
+    @AfterEach
+    void tearDown() {
+        pointWriteAheadLog.close();
+    }
+
+    private PointWriteAheadLog open(PointWriteAheadLogProperties.FsyncMode fsync, DataSize segmentSize) {
+        return new PointWriteAheadLog(new PointWriteAheadLogProperties(
+                true, directory, segmentSize, fsync, Duration.ofMillis(1), 64), new PointMetrics(meterRegistry));
+    }
+
+    private static PointHistory history(long id) {
+        TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+        return new PointHistory(id, id % 3, id * 10, type, UPDATE_MILLIS + id);
+    }
+
+    private List<PointHistory> replay() {
+        List<PointHistory> replayed = new ArrayList<>();
+        pointWriteAheadLog.replay(replayed::add);
+        return replayed;
+    }
+
+    @Test
+    @DisplayName("기록한 이력은 다시 열었을 때 기록 순서대로 그대로 읽힌다")
+    void replay_shouldReturnAppendedHistories_afterReopen() {
+        // given
+        pointWriteAheadLog = open(PointWriteAheadLogProperties.FsyncMode.BATCH, DataSize.ofKilobytes(64));
+        List<PointHistory> appended = LongStream.rangeClosed(1, 100).mapToObj(PointWriteAheadLogTest::history).toList();
+        appended.forEach(pointWriteAheadLog::append);
+        pointWriteAheadLog.close();
+
+        // when
+        pointWriteAheadLog = open(PointWriteAheadLogProperties.FsyncMode.BATCH, DataSize.ofKilobytes(64));
+
+        // then
+        assertThat(replay()).containsExactlyElementsOf(appended);
+        assertEquals(100L * PointWalCodec.RECORD_SIZE, pointWriteAheadLog.writtenPosition());
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 여러 세그먼트를 이어서 읽는다")
+    void append_shouldRollSegments() throws IOException {
+        // given
+        pointWriteAheadLog = open(PointWriteAheadLogProperties.FsyncMode.NONE, DataSize.ofBytes(PointWalCodec.RECORD_SIZE * 4L));
+        List<PointHistory> appended = LongStream.rangeClosed(1, 10).mapToObj(PointWriteAheadLogTest::history).toList();
+
+        // when
+        appended.forEach(pointWriteAheadLog::append);
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(3, files.count());
+        }
+        assertThat(replay()).containsExactlyElementsOf(appended);
+    }
+
+    @Test
+    @DisplayName("기록 도중 중단된 마지막 레코드는 버리고 그 위치부터 이어 쓴다")
+    void open_shouldTruncateTornRecord() throws IOException {
+        // given
+        pointWriteAheadLog = open(PointWriteAheadLogProperties.FsyncMode.BATCH, DataSize.ofKilobytes(64));
+        pointWriteAheadLog.append(history(1));
+        pointWriteAheadLog.append(history(2));
+        pointWriteAheadLog.append(history(3));
+        pointWriteAheadLog.close();
+        corrupt(PointWalCodec.RECORD_SIZE * 2L + 5);
+
+        // when
+        pointWriteAheadLog = open(PointWriteAheadLogProperties.FsyncMode.BATCH, DataSize.ofKilobytes(64));
+        pointWriteAheadLog.append(history(4));
+
+        // then
+        assertThat(replay()).containsExactly(history(1), history(2), history(4));
+    }
+
+    @Test
+    @DisplayName("BATCH 모드에서 awaitDurable은 앞서 기록한 레코드가 디스크에 반영된 뒤 반환하고, 동시 커밋은 한 번의 반영으로 묶인다")
+    void awaitDurable_shouldWaitForSync() throws InterruptedException {
+        // given
+        pointWriteAheadLog = open(PointWriteAheadLogProperties.FsyncMode.BATCH, DataSize.ofKilobytes(64));
+        int threadCount = 8;
+        int commitsPerThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long base = t * 1000L;
+            executorService.submit(() -> {
+                for (long i = 1; i <= commitsPerThread; i++) {
+                    pointWriteAheadLog.append(history(base + i));
+                    pointWriteAheadLog.awaitDurable();
+                    assertThat(pointWriteAheadLog.durablePosition()).isGreaterThanOrEqualTo(PointWalCodec.RECORD_SIZE);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(pointWriteAheadLog.writtenPosition(), pointWriteAheadLog.durablePosition());
+        assertEquals((long) threadCount * commitsPerThread, (long) meterRegistry.get("point.wal.sync.records").summary().totalAmount());
+        assertThat(meterRegistry.get("point.wal.sync").timer().count()).isLessThan((long) threadCount * commitsPerThread);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 파일을 만들지 않고 awaitDurable은 바로 반환한다")
+    void disabled_shouldDoNothing() throws IOException {
+        // given
+        pointWriteAheadLog = new PointWriteAheadLog(PointWriteAheadLogProperties.disabled(), new PointMetrics(meterRegistry));
+
+        // when
+        pointWriteAheadLog.append(history(1));
+        pointWriteAheadLog.awaitDurable();
+
+        // then
+        assertEquals(0L, pointWriteAheadLog.writtenPosition());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private void corrupt(long position) throws IOException {
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), position);
+        }
+    }
+}
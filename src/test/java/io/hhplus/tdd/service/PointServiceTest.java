@@ -1,20 +1,34 @@
 package io.hhplus.tdd.service;
 
+import io.hhplus.tdd.PointServiceFixture;
 import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.PointHistoryPage;
+import io.hhplus.tdd.domain.PointHistorySummary;
+import io.hhplus.tdd.domain.PointLimitExceededException;
+import io.hhplus.tdd.domain.PointTransfer;
 import io.hhplus.tdd.service.transaction.TransactionType;
 import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.repository.PointHistoryIndex;
 import io.hhplus.tdd.repository.PointHistoryTable;
+import io.hhplus.tdd.repository.PointHistoryWriter;
 import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.service.executor.LockPointTransactionExecutor;
+import io.hhplus.tdd.service.lock.ReferenceCountedUserLockManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,7 +43,8 @@ class PointServiceTest {
     @Mock
     private PointHistoryTable pointHistoryTable;
 
-    @InjectMocks
+    private PointHistoryIndex pointHistoryIndex;
+    private PointHistoryWriter pointHistoryWriter;
     private PointService pointService;
 
     private UserPoint existingUserPoint;
@@ -42,6 +57,11 @@ class PointServiceTest {
 
     @BeforeEach
     void setUp() {
+        PointServiceFixture fixture = PointServiceFixture.create(userPointTable, pointHistoryTable);
+        pointHistoryIndex = fixture.pointHistoryIndex();
+        pointHistoryWriter = fixture.pointHistoryWriter();
+        pointService = fixture.pointService(new LockPointTransactionExecutor(new ReferenceCountedUserLockManager()));
+
         systemCurrentTime = System.currentTimeMillis();
         existingUserPoint = new UserPoint(EXISTING_USER_ID, 1000L, DEFAULT_CURRENT_TIME);
         newUserPoint = UserPoint.empty(NEW_USER_ID);
@@ -101,37 +121,208 @@ class PointServiceTest {
         @DisplayName("기존 유저가 있을 시 List<History> 반환")
         public void history_shouldReturnUser_newUser() throws Exception{
             // given
-
             List<PointHistory> expectResponse = List.of(
-                    new PointHistory(3L, 1L, 30000L, TransactionType.CHARGE, System.currentTimeMillis()),
-                    new PointHistory(2L, 1L, -200L, TransactionType.USE, System.currentTimeMillis()),
-                    new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, System.currentTimeMillis())
+                    new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1234L),
+                    new PointHistory(2L, 1L, 200L, TransactionType.USE, 1234L)
             );
+            for (PointHistory history : expectResponse) {
+                when(pointHistoryTable.insert(history.userId(), history.amount(), history.type(), history.updateMillis()))
+                        .thenReturn(history);
+                pointHistoryWriter.append(history.userId(), history.amount(), history.type(), history.updateMillis());
+            }
 
-            when(pointHistoryTable.selectAllByUserId(eq(EXISTING_USER_ID))).thenReturn(expectResponse);
             // when
             List<PointHistory> rtn = pointService.history(EXISTING_USER_ID);
 
             // then
-            assertThat(rtn).isNotEmpty();
-            verify(pointHistoryTable, times(1)).selectAllByUserId(EXISTING_USER_ID);
+            assertThat(rtn).containsExactlyElementsOf(expectResponse);
+            verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
         }
 
         @Test
         @DisplayName("신규 유저 [] 반환")
         public void history_shouldReturnEmpty_newUser() throws Exception{
             // given
-            when(pointHistoryTable.selectAllByUserId(eq(NEW_USER_ID))).thenReturn(List.of());
             // when
             List<PointHistory> rtn = pointService.history(NEW_USER_ID);
 
             // then
             assertThat(rtn).isEmpty();
-            verify(pointHistoryTable, times(1)).selectAllByUserId(NEW_USER_ID);
+            verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
         }
 
      }
 
+    @Nested
+    @DisplayName("[GET] : {id}/histories/page - pointService.historyPage")
+    class historyPage {
+
+        @BeforeEach
+        void setUp() {
+            for (long id = 1; id <= 5; id++) {
+                TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+                pointHistoryIndex.add(new PointHistory(id, EXISTING_USER_ID, 100L, type, id * 1000L));
+            }
+        }
+
+        @Test
+        @DisplayName("페이지가 가득 차면 마지막 이력 ID를 다음 커서로 반환한다")
+        void historyPage_shouldReturnNextCursor_whenPageIsFull() {
+            // when
+            PointHistoryPage first = pointService.historyPage(EXISTING_USER_ID, 0L, 2, null, null, null);
+            PointHistoryPage last = pointService.historyPage(EXISTING_USER_ID, 4L, 2, null, null, null);
+
+            // then
+            assertThat(first.items()).extracting(PointHistory::id).containsExactly(1L, 2L);
+            assertEquals(2L, first.nextCursor());
+            assertThat(last.items()).extracting(PointHistory::id).containsExactly(5L);
+            assertNull(last.nextCursor());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 타입과 시각 범위로 이력을 거른다")
+        void historyPage_shouldFilterByTypeAndTimeRange() {
+            // when
+            PointHistoryPage page = pointService.historyPage(EXISTING_USER_ID, 0L, 10, TransactionType.CHARGE, 2000L, 5000L);
+
+            // then
+            assertThat(page.items()).extracting(PointHistory::id).containsExactly(3L);
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("전체 이력을 묶음 단위로 나누어 ID 순서대로 모두 전달한다")
+        void streamHistory_shouldVisitAllHistoriesInOrder() {
+            // given
+            for (long id = 6; id <= 1200; id++) {
+                pointHistoryIndex.add(new PointHistory(id, EXISTING_USER_ID, 100L, TransactionType.CHARGE, id * 1000L));
+            }
+            List<Long> visited = new ArrayList<>();
+
+            // when
+            pointService.streamHistory(EXISTING_USER_ID, pointHistory -> visited.add(pointHistory.id()));
+
+            // then
+            assertThat(visited).hasSize(1200);
+            assertThat(visited).isSorted();
+            assertEquals(1200L, visited.get(visited.size() - 1));
+        }
+
+        @Test
+        @DisplayName("트랜잭션 타입과 시각 범위에 맞는 이력의 합계를 조회한다")
+        void historySummary_shouldAggregateMatchingHistories() {
+            // when
+            PointHistorySummary all = pointService.historySummary(EXISTING_USER_ID, null, null, null);
+            PointHistorySummary charges = pointService.historySummary(EXISTING_USER_ID, TransactionType.CHARGE, 2000L, null);
+
+            // then
+            assertEquals(new PointHistorySummary(EXISTING_USER_ID, 5L, 300L, 200L, 0L, 0L), all);
+            assertEquals(new PointHistorySummary(EXISTING_USER_ID, 2L, 200L, 0L, 0L, 0L), charges);
+        }
+
+        @Test
+        @DisplayName("페이지 크기는 최대값으로 제한되고, 0 이하이면 예외가 발생한다")
+        void historyPage_shouldLimitPageSize() {
+            // when
+            PointHistoryPage page = pointService.historyPage(EXISTING_USER_ID, 0L, PointService.MAX_HISTORY_PAGE_SIZE + 1, null, null, null);
+
+            // then
+            assertThat(page.items()).hasSize(5);
+            assertThatThrownBy(() -> pointService.historyPage(EXISTING_USER_ID, 0L, 0, null, null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("[PATCH] : {id}/transfer - pointService.transfer")
+    class transfer {
+
+        @Test
+        @DisplayName("포인트 이체 - 두 유저의 잔액을 반영하고 음수/양수 이력을 한 건씩 남긴다")
+        void transfer_shouldMovePointsAndWriteBothHistories() {
+            // given
+            when(userPointTable.selectById(EXISTING_USER_ID)).thenReturn(new UserPoint(EXISTING_USER_ID, 1000L, DEFAULT_CURRENT_TIME));
+            when(userPointTable.selectById(NEW_USER_ID)).thenReturn(newUserPoint);
+            when(userPointTable.insertOrUpdate(EXISTING_USER_ID, 700L)).thenReturn(new UserPoint(EXISTING_USER_ID, 700L, DEFAULT_CURRENT_TIME));
+            when(userPointTable.insertOrUpdate(NEW_USER_ID, 300L)).thenReturn(new UserPoint(NEW_USER_ID, 300L, DEFAULT_CURRENT_TIME));
+            when(pointHistoryTable.insert(EXISTING_USER_ID, -300L, TransactionType.TRANSFER, 1234L))
+                    .thenReturn(new PointHistory(1L, EXISTING_USER_ID, -300L, TransactionType.TRANSFER, 1234L));
+            when(pointHistoryTable.insert(NEW_USER_ID, 300L, TransactionType.TRANSFER, 1234L))
+                    .thenReturn(new PointHistory(2L, NEW_USER_ID, 300L, TransactionType.TRANSFER, 1234L));
+
+            // when
+            PointTransfer rtn = pointService.transfer(EXISTING_USER_ID, NEW_USER_ID, 300L, 1234L);
+
+            // then
+            assertEquals(700L, rtn.from().point());
+            assertEquals(300L, rtn.to().point());
+            assertThat(pointService.history(EXISTING_USER_ID)).extracting(PointHistory::amount).containsExactly(-300L);
+            assertThat(pointService.history(NEW_USER_ID)).extracting(PointHistory::amount).containsExactly(300L);
+        }
+
+        @Test
+        @DisplayName("포인트 이체 - 보내는 유저와 받는 유저의 이력은 서로 다른 스레드에서 동시에 기록된다")
+        void transfer_shouldWriteBothHistoriesConcurrently() {
+            // given
+            when(userPointTable.selectById(EXISTING_USER_ID)).thenReturn(new UserPoint(EXISTING_USER_ID, 1000L, DEFAULT_CURRENT_TIME));
+            when(userPointTable.selectById(NEW_USER_ID)).thenReturn(newUserPoint);
+            when(userPointTable.insertOrUpdate(eq(EXISTING_USER_ID), anyLong())).thenReturn(new UserPoint(EXISTING_USER_ID, 700L, DEFAULT_CURRENT_TIME));
+            when(userPointTable.insertOrUpdate(eq(NEW_USER_ID), anyLong())).thenReturn(new UserPoint(NEW_USER_ID, 300L, DEFAULT_CURRENT_TIME));
+            CountDownLatch bothWriting = new CountDownLatch(2);
+            Map<Long, Boolean> overlapped = new ConcurrentHashMap<>();
+            Map<Long, String> writers = new ConcurrentHashMap<>();
+            when(pointHistoryTable.insert(anyLong(), anyLong(), eq(TransactionType.TRANSFER), eq(1234L))).thenAnswer(invocation -> {
+                long userId = invocation.getArgument(0);
+                writers.put(userId, Thread.currentThread().getName());
+                bothWriting.countDown();
+                overlapped.put(userId, bothWriting.await(1, TimeUnit.SECONDS));
+                return new PointHistory(userId, userId, invocation.getArgument(1), TransactionType.TRANSFER, 1234L);
+            });
+
+            // when
+            pointService.transfer(EXISTING_USER_ID, NEW_USER_ID, 300L, 1234L);
+
+            // then
+            assertThat(overlapped).containsEntry(EXISTING_USER_ID, true).containsEntry(NEW_USER_ID, true);
+            assertThat(writers.get(EXISTING_USER_ID)).isNotEqualTo(writers.get(NEW_USER_ID));
+        }
+
+        @Test
+        @DisplayName("포인트 이체 - 보내는 유저의 잔액이 부족하면 어느 쪽도 반영하지 않는다")
+        void transfer_shouldThrow_whenInsufficientPoint() {
+            // given
+            when(userPointTable.selectById(EXISTING_USER_ID)).thenReturn(new UserPoint(EXISTING_USER_ID, 100L, DEFAULT_CURRENT_TIME));
+
+            // when & then
+            assertThatThrownBy(() -> pointService.transfer(EXISTING_USER_ID, NEW_USER_ID, 300L, 1234L))
+                    .isInstanceOf(InsufficientPointException.class);
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("포인트 이체 - 받는 유저가 충전 한도를 넘으면 어느 쪽도 반영하지 않는다")
+        void transfer_shouldThrow_whenReceiverExceedsLimit() {
+            // given
+            when(userPointTable.selectById(EXISTING_USER_ID)).thenReturn(new UserPoint(EXISTING_USER_ID, 1000L, DEFAULT_CURRENT_TIME));
+            when(userPointTable.selectById(NEW_USER_ID)).thenReturn(new UserPoint(NEW_USER_ID, 9900L, DEFAULT_CURRENT_TIME));
+
+            // when & then
+            assertThatThrownBy(() -> pointService.transfer(EXISTING_USER_ID, NEW_USER_ID, 300L, 1234L))
+                    .isInstanceOf(PointLimitExceededException.class);
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("포인트 이체 - 자기 자신에게는 이체할 수 없다")
+        void transfer_shouldThrow_whenSameUser() {
+            assertThatThrownBy(() -> pointService.transfer(EXISTING_USER_ID, EXISTING_USER_ID, 300L, 1234L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("자기 자신에게는 이체할 수 없습니다. 사용자: 1");
+        }
+    }
+
     @Nested
     @DisplayName("[PATCH] : {id}/charge - pointService.charge")
     class charge {
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.service.async;
+
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PointAsyncServiceTest {
+
+    private final PointService pointService = mock(PointService.class);
+    private PointAsyncService pointAsyncService;
+
+    @AfterEach
+    void tearDown() {
+        pointAsyncService.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 트랜잭션은 스레드가 여럿이어도 도착 순서대로 하나씩 실행된다")
+    void executePointTransaction_shouldKeepArrivalOrderPerUser() {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(8, 1000));
+        List<Long> executedAmounts = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(pointService.executePointTransaction(eq(1L), anyLong(), eq(TransactionType.CHARGE), anyLong())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            long amount = invocation.getArgument(1);
+            synchronized (executedAmounts) {
+                executedAmounts.add(amount);
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+            running.decrementAndGet();
+            return new UserPoint(1L, amount, 1L);
+        });
+
+        // when
+        List<CompletableFuture<UserPoint>> results = LongStream.rangeClosed(1, 50)
+                .mapToObj(amount -> pointAsyncService.executePointTransaction(1L, amount, TransactionType.CHARGE, 1L))
+                .toList();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(executedAmounts).containsExactlyElementsOf(LongStream.rangeClosed(1, 50).boxed().toList());
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, pointAsyncService.pendingCount());
+    }
+
+    @Test
+    @DisplayName("앞선 트랜잭션이 실패해도 같은 유저의 다음 트랜잭션은 이어서 실행된다")
+    void executePointTransaction_shouldContinueAfterFailure() throws Exception {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(2, 1000));
+        when(pointService.executePointTransaction(eq(1L), eq(5000L), eq(TransactionType.USE), anyLong()))
+                .thenThrow(new InsufficientPointException("포인트가 부족합니다."));
+        when(pointService.executePointTransaction(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong()))
+                .thenReturn(new UserPoint(1L, 1000L, 1L));
+
+        // when
+        CompletableFuture<UserPoint> failed = pointAsyncService.executePointTransaction(1L, 5000L, TransactionType.USE, 1L);
+        CompletableFuture<UserPoint> next = pointAsyncService.executePointTransaction(1L, 1000L, TransactionType.CHARGE, 2L);
+
+        // then
+        assertEquals(1000L, next.get(5, TimeUnit.SECONDS).point());
+        assertThatThrownBy(failed::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InsufficientPointException.class);
+    }
+
+    @Test
+    @DisplayName("대기 작업 수가 maxPending에 이르면 새 요청은 기다리지 않고 바로 거절된다")
+    void submit_shouldRejectImmediately_whenPendingIsFull() throws Exception {
+        // given
+        pointAsyncService = new PointAsyncService(pointService, new PointAsyncProperties(1, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        when(pointService.getUserPointWithDefault(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return UserPoint.empty(1L);
+        });
+        CompletableFuture<UserPoint> running = pointAsyncService.point(1L);
+
+        // when
+        CompletableFuture<UserPoint> rejected = pointAsyncService.point(2L);
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        assertEquals(1L, running.get(5, TimeUnit.SECONDS).id());
+        verify(pointService, never()).getUserPointWithDefault(2L);
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.service.batch;
+
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBatchServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    void setUp() {
+        pointBatchService = new PointBatchService(pointService, new PointBatchProperties(4, 3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointBatchService.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 트랜잭션은 요청 순서대로 실행되고, 실패한 건만 개별 오류로 반환된다")
+    void execute_shouldKeepOrderPerUserAndIsolateFailures() {
+        // given
+        when(pointService.executePointTransaction(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong()))
+                .thenReturn(new UserPoint(1L, 1000L, 1L));
+        when(pointService.executePointTransaction(eq(1L), eq(5000L), eq(TransactionType.USE), anyLong()))
+                .thenThrow(new InsufficientPointException("포인트가 부족합니다."));
+        when(pointService.executePointTransaction(eq(1L), eq(300L), eq(TransactionType.USE), anyLong()))
+                .thenReturn(new UserPoint(1L, 700L, 2L));
+
+        // when
+        List<PointTransactionResult> results = pointBatchService.execute(List.of(
+                new PointTransactionCommand(1L, 1000L, TransactionType.CHARGE),
+                new PointTransactionCommand(1L, 5000L, TransactionType.USE),
+                new PointTransactionCommand(1L, 300L, TransactionType.USE)
+        ));
+
+        // then
+        assertEquals(3, results.size());
+        assertEquals(1000L, results.get(0).userPoint().point());
+        assertNull(results.get(1).userPoint());
+        assertThat(results.get(1).error()).isInstanceOf(InsufficientPointException.class);
+        assertEquals(700L, results.get(2).userPoint().point());
+
+        InOrder inOrder = inOrder(pointService);
+        inOrder.verify(pointService).executePointTransaction(eq(1L), eq(1000L), eq(TransactionType.CHARGE), anyLong());
+        inOrder.verify(pointService).executePointTransaction(eq(1L), eq(5000L), eq(TransactionType.USE), anyLong());
+        inOrder.verify(pointService).executePointTransaction(eq(1L), eq(300L), eq(TransactionType.USE), anyLong());
+    }
+
+    @Test
+    @DisplayName("서로 다른 유저의 트랜잭션은 동시에 실행된다")
+    void execute_shouldRunDifferentUsersInParallel() {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(pointService.executePointTransaction(anyLong(), eq(100L), eq(TransactionType.CHARGE), anyLong()))
+                .thenAnswer(invocation -> {
+                    bothStarted.countDown();
+                    boolean together = bothStarted.await(5, TimeUnit.SECONDS);
+                    return new UserPoint(invocation.getArgument(0), together ? 100L : 0L, 1L);
+                });
+
+        // when
+        List<PointTransactionResult> results = pointBatchService.execute(List.of(
+                new PointTransactionCommand(1L, 100L, TransactionType.CHARGE),
+                new PointTransactionCommand(2L, 100L, TransactionType.CHARGE)
+        ));
+
+        // then
+        assertThat(results).allSatisfy(result -> assertEquals(100L, result.userPoint().point()));
+        assertEquals(1L, results.get(0).userPoint().id());
+        assertEquals(2L, results.get(1).userPoint().id());
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 요청은 거절된다")
+    void execute_shouldRejectTooManyItems() {
+        // given
+        List<PointTransactionCommand> commands = List.of(
+                new PointTransactionCommand(1L, 100L, TransactionType.CHARGE),
+                new PointTransactionCommand(2L, 100L, TransactionType.CHARGE),
+                new PointTransactionCommand(3L, 100L, TransactionType.CHARGE),
+                new PointTransactionCommand(4L, 100L, TransactionType.CHARGE)
+        );
+
+        // when & then
+        assertThatThrownBy(() -> pointBatchService.execute(commands))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("일괄 처리 건수 초과");
+        verifyNoInteractions(pointService);
+    }
+}
@@ -0,0 +1,222 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.PointServiceFixture;
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.repository.PointHistoryTable;
+import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.service.lock.BoundedUserLockManager;
+import io.hhplus.tdd.service.lock.ReferenceCountedUserLockManager;
+import io.hhplus.tdd.service.lock.UserLockRejectedException;
+import io.hhplus.tdd.service.transaction.ChargeTransaction;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.service.transaction.UseTransaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitPointTransactionExecutorTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private UserPointTable userPointTable;
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private PointServiceFixture fixture;
+    private GroupCommitPointTransactionExecutor executor;
+    private ChargeTransaction chargeTransaction;
+    private UseTransaction useTransaction;
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void setUp() {
+        fixture = PointServiceFixture.create(userPointTable, pointHistoryTable);
+        chargeTransaction = fixture.chargeTransaction();
+        useTransaction = fixture.useTransaction();
+        executor = new GroupCommitPointTransactionExecutor(new ReferenceCountedUserLockManager(), fixture.userPointCache());
+
+        AtomicInteger historyIdSequence = new AtomicInteger();
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 0L, 0L));
+        lenient().when(pointHistoryTable.insert(eq(USER_ID), anyLong(), any(TransactionType.class), anyLong()))
+                .thenAnswer(invocation -> new PointHistory(historyIdSequence.incrementAndGet(), USER_ID,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("커밋 중에 쌓인 요청들은 다음 커밋에서 한 번의 저장으로 반영된다")
+    void execute_shouldCommitQueuedRequestsAtOnce() throws Exception {
+        // given
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong())).thenAnswer(invocation -> {
+            long point = invocation.getArgument(1);
+            if (point == 1000L) {
+                committing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new UserPoint(USER_ID, point, System.currentTimeMillis());
+        });
+
+        Future<UserPoint> first = executorService.submit(() -> executor.execute(chargeTransaction, USER_ID, 1000L, 1L));
+        committing.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<UserPoint> second = submitAndAwaitQueued(() -> executor.execute(chargeTransaction, USER_ID, 2000L, 2L), 1);
+        Future<UserPoint> rejected = submitAndAwaitQueued(() -> executor.execute(useTransaction, USER_ID, 5000L, 3L), 2);
+        Future<UserPoint> third = submitAndAwaitQueued(() -> executor.execute(chargeTransaction, USER_ID, 500L, 4L), 3);
+        release.countDown();
+
+        // then
+        assertEquals(1000L, first.get(5, TimeUnit.SECONDS).point());
+        assertEquals(3000L, second.get(5, TimeUnit.SECONDS).point());
+        assertEquals(3500L, third.get(5, TimeUnit.SECONDS).point());
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("포인트가 부족합니다.");
+
+        verify(userPointTable, times(2)).insertOrUpdate(eq(USER_ID), anyLong());
+        verify(userPointTable).insertOrUpdate(USER_ID, 3500L);
+        verify(pointHistoryTable, times(3)).insert(eq(USER_ID), anyLong(), any(TransactionType.class), anyLong());
+        verify(pointHistoryTable, never()).insert(USER_ID, 5000L, TransactionType.USE, 3L);
+        assertEquals(0, executor.pendingCount(USER_ID));
+    }
+
+    @Test
+    @DisplayName("단독 요청이 실패하면 저장 없이 원래 예외를 그대로 던진다")
+    void execute_shouldRethrowOriginalException() {
+        // when & then
+        assertThatThrownBy(() -> executor.execute(useTransaction, USER_ID, 100L, 1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("포인트가 부족합니다.");
+
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(TransactionType.class), anyLong());
+        assertThat(executor.pendingCount(USER_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("Lock 대기 한도로 거절된 요청은 대기열에서 빠져, 이후 다른 요청의 커밋에 함께 반영되지 않는다")
+    void execute_shouldNotApplyRejectedRequest() throws Exception {
+        // given
+        executor = new GroupCommitPointTransactionExecutor(
+                new BoundedUserLockManager(new ReferenceCountedUserLockManager(), 1, fixture.pointMetrics()), fixture.userPointCache());
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong())).thenAnswer(invocation -> {
+            long point = invocation.getArgument(1);
+            if (point == 1000L) {
+                committing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new UserPoint(USER_ID, point, System.currentTimeMillis());
+        });
+        Future<UserPoint> first = executorService.submit(() -> executor.execute(chargeTransaction, USER_ID, 1000L, 1L));
+        committing.await(5, TimeUnit.SECONDS);
+
+        // when
+        assertThatThrownBy(() -> executor.execute(chargeTransaction, USER_ID, 2000L, 2L))
+                .isInstanceOf(UserLockRejectedException.class);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        UserPoint next = executor.execute(chargeTransaction, USER_ID, 500L, 3L);
+
+        // then
+        assertEquals(1500L, next.point());
+        verify(userPointTable, never()).insertOrUpdate(USER_ID, 3000L);
+        verify(userPointTable, never()).insertOrUpdate(USER_ID, 3500L);
+        verify(pointHistoryTable, never()).insert(USER_ID, 2000L, TransactionType.CHARGE, 2L);
+        assertEquals(0, executor.pendingCount(USER_ID));
+    }
+
+    @Test
+    @DisplayName("내역 기록에 실패한 요청과 그 잔액 위에서 계산된 요청은 거절되고, 잔액은 그 요청들을 뺀 값으로 다시 저장된다")
+    void execute_shouldRestoreBalanceOfRequestsWhoseHistoryFailed() throws Exception {
+        // given
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong())).thenAnswer(invocation -> {
+            long point = invocation.getArgument(1);
+            if (point == 1000L) {
+                committing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new UserPoint(USER_ID, point, System.currentTimeMillis());
+        });
+        doThrow(new IllegalStateException("내역 저장 실패"))
+                .when(pointHistoryTable).insert(USER_ID, 2000L, TransactionType.CHARGE, 2L);
+        Future<UserPoint> first = executorService.submit(() -> executor.execute(chargeTransaction, USER_ID, 1000L, 1L));
+        committing.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<UserPoint> failed = submitAndAwaitQueued(() -> executor.execute(chargeTransaction, USER_ID, 2000L, 2L), 1);
+        Future<UserPoint> behind = submitAndAwaitQueued(() -> executor.execute(chargeTransaction, USER_ID, 500L, 3L), 2);
+        release.countDown();
+
+        // then
+        assertEquals(1000L, first.get(5, TimeUnit.SECONDS).point());
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("내역 저장 실패");
+        assertThatThrownBy(() -> behind.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("내역 저장 실패");
+
+        InOrder inOrder = inOrder(userPointTable);
+        inOrder.verify(userPointTable).insertOrUpdate(USER_ID, 1000L);
+        inOrder.verify(userPointTable).insertOrUpdate(USER_ID, 3500L);
+        inOrder.verify(userPointTable).insertOrUpdate(USER_ID, 1000L);
+        verify(pointHistoryTable, never()).insert(USER_ID, 500L, TransactionType.CHARGE, 3L);
+        assertEquals(1000L, fixture.userPointCache().selectById(USER_ID).point());
+    }
+
+    @Test
+    @DisplayName("잔액 저장에 실패하면 모든 요청이 거절되고 내역은 기록되지 않는다")
+    void execute_shouldNotRecordHistories_whenBalanceSaveFails() {
+        // given
+        when(userPointTable.insertOrUpdate(USER_ID, 1000L)).thenThrow(new IllegalStateException("잔액 저장 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(chargeTransaction, USER_ID, 1000L, 1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("잔액 저장 실패");
+
+        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(TransactionType.class), anyLong());
+        assertThat(fixture.pointHistoryIndex().selectAllByUserId(USER_ID)).isEmpty();
+        assertEquals(0L, fixture.userPointCache().selectById(USER_ID).point());
+    }
+
+    private Future<UserPoint> submitAndAwaitQueued(Callable<UserPoint> task, int expectedPending) {
+        Future<UserPoint> future = executorService.submit(task);
+        while (executor.pendingCount(USER_ID) < expectedPending) {
+            Thread.onSpinWait();
+        }
+        return future;
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.PointServiceFixture;
+import io.hhplus.tdd.domain.InsufficientPointException;
+import io.hhplus.tdd.domain.PointHistory;
+import io.hhplus.tdd.domain.PointLimitExceededException;
+import io.hhplus.tdd.domain.PointTransfer;
+import io.hhplus.tdd.domain.UserPoint;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.PointHistoryIndex;
+import io.hhplus.tdd.repository.PointHistoryTable;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.service.transaction.ChargeTransaction;
+import io.hhplus.tdd.service.transaction.PointTransaction;
+import io.hhplus.tdd.service.transaction.TransactionType;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
+import io.hhplus.tdd.service.transaction.UseTransaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class OptimisticPointTransactionExecutorTest {
+
+    private static final long USER_ID = 1L;
+
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserPointCache userPointCache;
+    private PointHistoryIndex pointHistoryIndex;
+    private ChargeTransaction chargeTransaction;
+    private UseTransaction useTransaction;
+    private TransferTransaction transferTransaction;
+    private OptimisticPointTransactionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PointServiceFixture fixture = PointServiceFixture.create(userPointTable, pointHistoryTable, meterRegistry);
+        userPointCache = fixture.userPointCache();
+        pointHistoryIndex = fixture.pointHistoryIndex();
+        chargeTransaction = fixture.chargeTransaction();
+        useTransaction = fixture.useTransaction();
+        transferTransaction = fixture.transferTransaction();
+        executor = new OptimisticPointTransactionExecutor(userPointCache, fixture.pointMetrics(), 1000);
+
+        AtomicLong historyIdSequence = new AtomicLong();
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 0L, 0L));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong()))
+                .thenAnswer(invocation -> new PointHistory(historyIdSequence.incrementAndGet(), invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    @Test
+    @DisplayName("Lock 없이 동시에 충전해도 충돌한 요청은 재시도되어 모든 충전이 반영된다")
+    void execute_shouldApplyEveryConcurrentCharge() throws InterruptedException {
+        // given
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        // when
+        IntStream.range(0, threadCount).forEach(i ->
+                executorService.submit(() -> executor.execute(chargeTransaction, USER_ID, 10L, i)));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(500L, userPointCache.selectById(USER_ID).point());
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).hasSize(threadCount);
+        verify(userPointTable, atLeastOnce()).insertOrUpdate(USER_ID, 500L);
+    }
+
+    @Test
+    @DisplayName("잔액 부족은 재시도하지 않고 그대로 실패한다")
+    void execute_shouldNotRetryBusinessFailure() {
+        // when & then
+        assertThatThrownBy(() -> executor.execute(useTransaction, USER_ID, 100L, 1L))
+                .isInstanceOf(InsufficientPointException.class);
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        assertEquals(0.0, meterRegistry.get("point.optimistic.conflicts").tag("type", "USE").counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 동안 계속 충돌하면 충돌 예외가 발생하고 잔액은 바뀌지 않는다")
+    void execute_shouldFail_whenConflictPersists() {
+        // given
+        OptimisticPointTransactionExecutor limited = new OptimisticPointTransactionExecutor(
+                userPointCache, new PointMetrics(meterRegistry), 3);
+        PointTransaction alwaysConflicting = spy(chargeTransaction);
+        doAnswer(invocation -> {
+            userPointCache.insertOrUpdate(USER_ID, 0L);
+            return invocation.callRealMethod();
+        }).when(alwaysConflicting).calculatePoint(any(UserPoint.class), anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> limited.execute(alwaysConflicting, USER_ID, 100L, 1L))
+                .isInstanceOf(OptimisticConflictException.class);
+        verify(alwaysConflicting, times(3)).calculatePoint(any(UserPoint.class), anyLong());
+        verify(alwaysConflicting, never()).createHistory(anyLong(), anyLong(), anyLong());
+        assertEquals(0L, userPointCache.selectById(USER_ID).point());
+    }
+
+    @Test
+    @DisplayName("이체 - 보내는 유저에서 차감하고 받는 유저에게 더한 뒤 두 이력을 남긴다")
+    void transfer_shouldMovePoints() {
+        // given
+        long receiverId = 2L;
+        when(userPointTable.selectById(receiverId)).thenReturn(new UserPoint(receiverId, 0L, 0L));
+        executor.execute(chargeTransaction, USER_ID, 1000L, 1L);
+
+        // when
+        PointTransfer rtn = executor.transfer(transferTransaction, USER_ID, receiverId, 300L, 2L);
+
+        // then
+        assertEquals(700L, rtn.from().point());
+        assertEquals(300L, rtn.to().point());
+        assertThat(pointHistoryIndex.selectAllByUserId(receiverId)).extracting(PointHistory::amount).containsExactly(300L);
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).extracting(PointHistory::amount).containsExactly(1000L, -300L);
+    }
+
+    @Test
+    @DisplayName("이체 - 받는 유저가 충전 한도를 넘으면 차감한 금액을 되돌리고 이력을 남기지 않는다")
+    void transfer_shouldRefund_whenReceiverExceedsLimit() {
+        // given
+        long receiverId = 2L;
+        when(userPointTable.selectById(receiverId)).thenReturn(new UserPoint(receiverId, 9900L, 0L));
+        executor.execute(chargeTransaction, USER_ID, 1000L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> executor.transfer(transferTransaction, USER_ID, receiverId, 300L, 2L))
+                .isInstanceOf(PointLimitExceededException.class);
+        assertEquals(1000L, userPointCache.selectById(USER_ID).point());
+        assertEquals(9900L, userPointCache.selectById(receiverId).point());
+        assertThat(pointHistoryIndex.selectAllByUserId(receiverId)).isEmpty();
+        assertThat(pointHistoryIndex.selectAllByUserId(USER_ID)).hasSize(1);
+    }
+}
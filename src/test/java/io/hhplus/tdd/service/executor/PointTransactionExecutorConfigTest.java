@@ -0,0 +1,36 @@
+package io.hhplus.tdd.service.executor;
+
+import io.hhplus.tdd.repository.PointHistoryWriterProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointTransactionExecutorConfigTest {
+
+    @Test
+    @DisplayName("OPTIMISTIC 실행 방식을 SYNC 이력 저장과 함께 설정하면 시작 시 거절된다")
+    void validate_shouldReject_whenOptimisticWithSyncHistoryWriter() {
+        // given
+        PointTransactionExecutorProperties properties = new PointTransactionExecutorProperties(PointTransactionExecutorProperties.Mode.OPTIMISTIC, 10);
+        PointHistoryWriterProperties historyWriterProperties = new PointHistoryWriterProperties(PointHistoryWriterProperties.Mode.SYNC, 10000, 100);
+
+        // when & then
+        assertThatThrownBy(() -> PointTransactionExecutorConfig.validate(properties, historyWriterProperties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ASYNC");
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 실행 방식은 ASYNC 이력 저장과 함께 사용할 수 있다")
+    void validate_shouldAccept_whenOptimisticWithAsyncHistoryWriter() {
+        // given
+        PointTransactionExecutorProperties properties = new PointTransactionExecutorProperties(PointTransactionExecutorProperties.Mode.OPTIMISTIC, 10);
+        PointHistoryWriterProperties historyWriterProperties = new PointHistoryWriterProperties(PointHistoryWriterProperties.Mode.ASYNC, 10000, 100);
+
+        // when & then
+        assertThatCode(() -> PointTransactionExecutorConfig.validate(properties, historyWriterProperties))
+                .doesNotThrowAnyException();
+    }
+}
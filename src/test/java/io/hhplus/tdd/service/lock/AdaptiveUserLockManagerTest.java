@@ -0,0 +1,110 @@
+package io.hhplus.tdd.service.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveUserLockManagerTest {
+
+    private final AdaptiveUserLockManager userLockManager = new AdaptiveUserLockManager(Duration.ofMillis(1), Duration.ZERO);
+
+    @Test
+    @DisplayName("경합 없이 순차적으로 요청한 유저는 hot으로 전환되지 않는다")
+    void executeWithLock_shouldStayCold_whenUncontended() {
+        // when
+        AtomicBoolean becameHot = new AtomicBoolean();
+        for (int i = 0; i < 100; i++) {
+            userLockManager.executeWithLock(1L, () -> {
+                becameHot.compareAndSet(false, userLockManager.isHot(1L));
+                return null;
+            });
+        }
+
+        // then
+        assertFalse(becameHot.get());
+        assertEquals(0, userLockManager.liveLockCount());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 임계값을 넘는 유저는 hot으로 전환되고, 그동안에도 같은 유저의 작업은 하나씩 실행된다")
+    void executeWithLock_shouldSwitchToFairQueue_whenContended() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicBoolean becameHot = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        IntStream.range(0, threadCount).forEach(i -> executorService.submit(() -> {
+            for (int j = 0; j < 20; j++) {
+                userLockManager.executeWithLock(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    becameHot.compareAndSet(false, userLockManager.isHot(1L));
+                    sleep(1);
+                    return running.decrementAndGet();
+                });
+            }
+        }));
+        executorService.shutdown();
+
+        // then
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(becameHot.get());
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, userLockManager.liveLockCount());
+        assertEquals(0, userLockManager.hotUserCount());
+    }
+
+    @Test
+    @DisplayName("두 유저의 Lock을 반대 순서로 동시에 요청해도 교착 없이 모두 실행된다")
+    void executeWithLocks_shouldNotDeadlock_whenRequestedInOppositeOrder() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        int repeat = 100;
+        AtomicInteger executed = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        IntStream.range(0, threadCount).forEach(i -> executorService.submit(() -> {
+            for (int j = 0; j < repeat; j++) {
+                long from = i % 2 == 0 ? 1L : 2L;
+                long to = i % 2 == 0 ? 2L : 1L;
+                userLockManager.executeWithLocks(from, to, executed::incrementAndGet);
+            }
+        }));
+        executorService.shutdown();
+
+        // then
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(threadCount * repeat, executed.get());
+        assertEquals(0, userLockManager.liveLockCount());
+    }
+
+    @Test
+    @DisplayName("hot 판정 대기 시간은 양수여야 한다")
+    void constructor_shouldRejectNonPositiveThreshold() {
+        assertThatThrownBy(() -> new AdaptiveUserLockManager(Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.service.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoundedUserLockManagerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("같은 유저의 대기 요청이 한도에 이르면 이후 요청은 Lock을 기다리지 않고 바로 거절된다")
+    void executeWithLock_shouldRejectImmediately_whenQueueIsFull() throws InterruptedException {
+        // given
+        BoundedUserLockManager userLockManager = new BoundedUserLockManager(new ReferenceCountedUserLockManager(), 2, pointMetrics);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = start(() -> userLockManager.executeWithLock(1L, () -> {
+            holding.countDown();
+            await(release);
+            return 1L;
+        }));
+        holding.await(5, TimeUnit.SECONDS);
+        Thread waiter = start(() -> userLockManager.executeWithLock(1L, () -> 2L));
+        awaitWaiting(waiter);
+
+        // when & then
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> userLockManager.executeWithLock(1L, () -> 3L))
+                .isInstanceOf(UserLockRejectedException.class)
+                .extracting("reason").isEqualTo(UserLockRejectedException.Reason.QUEUE_FULL);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000L);
+        assertEquals(1L, userLockManager.executeWithLock(2L, () -> 1L));
+
+        release.countDown();
+        holder.join();
+        waiter.join();
+        assertEquals(0, userLockManager.queueDepth(1L));
+        assertEquals(1.0, meterRegistry.get("point.lock.rejections").tag("reason", "QUEUE_FULL").counter().count());
+        assertEquals(2.0, meterRegistry.get("point.lock.queue.depth").summary().max());
+    }
+
+    @Test
+    @DisplayName("Lock 대기 시간을 넘겨 거절된 요청도 거절 횟수로 기록된다")
+    void executeWithLock_shouldRecordTimeoutRejection() throws InterruptedException {
+        // given
+        BoundedUserLockManager userLockManager = new BoundedUserLockManager(
+                new ReferenceCountedUserLockManager(Duration.ofMillis(50)), 0, pointMetrics);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = start(() -> userLockManager.executeWithLock(1L, () -> {
+            holding.countDown();
+            await(release);
+            return 1L;
+        }));
+        holding.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> userLockManager.executeWithLock(1L, () -> 2L))
+                .isInstanceOf(UserLockRejectedException.class)
+                .extracting("reason").isEqualTo(UserLockRejectedException.Reason.TIMEOUT);
+
+        release.countDown();
+        holder.join();
+        assertEquals(0, userLockManager.queueDepth(1L));
+        assertEquals(1.0, meterRegistry.get("point.lock.rejections").tag("reason", "TIMEOUT").counter().count());
+    }
+
+    private static Thread start(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.service.lock;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MeteredUserLockManagerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeteredUserLockManager userLockManager = new MeteredUserLockManager(
+            new ReferenceCountedUserLockManager(), new PointMetrics(meterRegistry));
+
+    @Test
+    @DisplayName("Lock 대기 시간과 보유 시간이 기록된다")
+    void executeWithLock_shouldRecordWaitAndHold() {
+        // when
+        long result = userLockManager.executeWithLock(1L, () -> {
+            sleep(20);
+            return 1L;
+        });
+
+        // then
+        assertEquals(1L, result);
+        assertEquals(1L, meterRegistry.get("point.lock.wait").timer().count());
+        assertEquals(1L, meterRegistry.get("point.lock.hold").timer().count());
+        assertThat(meterRegistry.get("point.lock.hold").timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Lock 관리 상태는 감싼 구현의 값을 그대로 노출한다")
+    void liveLockCount_shouldDelegate() {
+        // when
+        userLockManager.executeWithLock(1L, () -> 1L);
+
+        // then
+        assertEquals(0, userLockManager.liveLockCount());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.hhplus.tdd.service.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceCountedUserLockManagerTest {
+
+    private final ReferenceCountedUserLockManager userLockManager = new ReferenceCountedUserLockManager();
+
+    @Test
+    @DisplayName("같은 유저에 대한 작업은 동시에 하나만 실행된다")
+    void executeWithLock_shouldSerializeSameUser() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch completionLatch = new CountDownLatch(threadCount);
+
+        // when
+        IntStream.range(0, threadCount).forEach(i -> executorService.submit(() -> {
+            try {
+                userLockManager.executeWithLock(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(5);
+                    return running.decrementAndGet();
+                });
+            } finally {
+                completionLatch.countDown();
+            }
+        }));
+        completionLatch.await();
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("lockTimeout 안에 Lock을 잡지 못하면 거절되고, 거절된 요청의 Lock 참조도 회수된다")
+    void executeWithLock_shouldRejectAfterTimeout() throws InterruptedException {
+        // given
+        ReferenceCountedUserLockManager timedLockManager = new ReferenceCountedUserLockManager(Duration.ofMillis(50));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> timedLockManager.executeWithLock(1L, () -> {
+            holding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1L;
+        }));
+        holder.start();
+        holding.await(5, TimeUnit.SECONDS);
+
+        // when
+        UserLockRejectedException rejected = assertThrows(UserLockRejectedException.class,
+                () -> timedLockManager.executeWithLock(1L, () -> 2L));
+        release.countDown();
+        holder.join();
+
+        // then
+        assertEquals(UserLockRejectedException.Reason.TIMEOUT, rejected.reason());
+        assertEquals(0, timedLockManager.liveLockCount());
+    }
+
+    @Test
+    @DisplayName("두 유저의 Lock을 반대 순서로 동시에 요청해도 교착 없이 모두 실행된다")
+    void executeWithLocks_shouldNotDeadlock_whenRequestedInOppositeOrder() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        int repeat = 100;
+        AtomicInteger executed = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        IntStream.range(0, threadCount).forEach(i -> executorService.submit(() -> {
+            for (int j = 0; j < repeat; j++) {
+                long from = i % 2 == 0 ? 1L : 2L;
+                long to = i % 2 == 0 ? 2L : 1L;
+                userLockManager.executeWithLocks(from, to, executed::incrementAndGet);
+            }
+        }));
+        executorService.shutdown();
+
+        // then
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(threadCount * repeat, executed.get());
+        assertEquals(0, userLockManager.liveLockCount());
+    }
+
+
+    void executeWithLock_shouldReclaimIdleLocks() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        // when
+        IntStream.range(0, 1000).forEach(userId ->
+                executorService.submit(() -> userLockManager.executeWithLock(userId, () -> userId)));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(0, userLockManager.liveLockCount());
+    }
+
+    @Test
+    @DisplayName("Lock을 잡고 있거나 기다리는 요청 수를 유저별로 보여주고, 작업이 끝나면 목록에서 빠진다")
+    void queueDepths_shouldCountHolderAndWaiters() throws InterruptedException {
+        // given
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockManager.executeWithLock(1L, () -> {
+            holding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1L;
+        }));
+        holder.start();
+        holding.await(5, TimeUnit.SECONDS);
+        Thread waiter = new Thread(() -> userLockManager.executeWithLock(1L, () -> 2L));
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        Map<Long, Integer> whileWaiting = userLockManager.queueDepths();
+        release.countDown();
+        holder.join();
+        waiter.join();
+
+        // then
+        assertEquals(Map.of(1L, 2), whileWaiting);
+        assertTrue(userLockManager.queueDepths().isEmpty());
+    }
+
+    @Test
+    @DisplayName("작업 중 예외가 발생해도 Lock이 해제되고 회수된다")
+    void executeWithLock_shouldReleaseOnException() {
+        // when
+        try {
+            userLockManager.executeWithLock(1L, () -> {
+                throw new IllegalArgumentException("실패");
+            });
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        // then
+        assertEquals(0, userLockManager.liveLockCount());
+        assertEquals(1L, userLockManager.executeWithLock(1L, () -> 1L));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.service.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedUserLockManagerTest {
+
+    @Test
+    @DisplayName("유저 수와 관계없이 Lock 객체 수는 stripe 수로 고정된다")
+    void liveLockCount_shouldBeFixed() {
+        // given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(16);
+
+        // when
+        for (long userId = 0; userId < 1000; userId++) {
+            long id = userId;
+            userLockManager.executeWithLock(userId, () -> id);
+        }
+
+        // then
+        assertEquals(16, userLockManager.liveLockCount());
+        assertEquals(0.0, userLockManager.collisionRate());
+    }
+
+    @Test
+    @DisplayName("다른 유저가 같은 stripe를 두고 대기하면 충돌로 집계된다")
+    void collisionRate_shouldCountDifferentUsersOnSameStripe() throws InterruptedException {
+        // given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(1);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        executorService.submit(() -> userLockManager.executeWithLock(1L, () -> {
+            holding.countDown();
+            await(release);
+            return 1L;
+        }));
+        holding.await();
+
+        // when
+        Thread waiter = new Thread(() -> userLockManager.executeWithLock(2L, () -> 2L));
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        waiter.join();
+        executorService.shutdown();
+
+        // then
+        assertThat(userLockManager.collisionRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("여러 유저 쌍의 Lock을 반대 순서로 동시에 요청해도 stripe 순서로 잡아 교착 없이 모두 실행된다")
+    void executeWithLocks_shouldNotDeadlock_acrossStripes() throws InterruptedException {
+        // given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(4);
+        int threadCount = 16;
+        int repeat = 200;
+        AtomicInteger executed = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        IntStream.range(0, threadCount).forEach(i -> executorService.submit(() -> {
+            for (int j = 0; j < repeat; j++) {
+                long first = (i + j) % 10;
+                long second = (i * 7 + j * 3 + 1) % 10;
+                userLockManager.executeWithLocks(first, second, executed::incrementAndGet);
+            }
+        }));
+        executorService.shutdown();
+
+        // then
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(threadCount * repeat, executed.get());
+    }
+
+    @Test
+    @DisplayName("두 유저가 같은 stripe에 배정되어도 Lock을 한 번만 잡고 실행된다")
+    void executeWithLocks_shouldRun_whenUsersShareStripe() {
+        // given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(1);
+
+        // when
+        long rtn = userLockManager.executeWithLocks(1L, 2L, () -> 3L);
+
+        // then
+        assertEquals(3L, rtn);
+        assertEquals(0.0, userLockManager.collisionRate());
+    }
+
+
+    void constructor_shouldRejectNonPositiveStripes() {
+        assertThatThrownBy(() -> new StripedUserLockManager(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
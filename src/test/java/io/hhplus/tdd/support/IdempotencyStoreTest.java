@@ -0,0 +1,159 @@
+package io.hhplus.tdd.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IdempotencyStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("실행이 끝난 뒤 같은 키로 다시 호출하면 실행하지 않고 보관된 결과를 돌려준다")
+    void execute_shouldReplayCompletedResult() {
+        // given
+        IdempotencyStore<String, Integer> store = store(10, Duration.ofMinutes(1));
+        int first = store.execute("key", 100L, executions::incrementAndGet);
+
+        // when
+        int retried = store.execute("key", 100L, executions::incrementAndGet);
+
+        // then
+        assertEquals(first, retried);
+        assertEquals(1, executions.get());
+        assertEquals(2, store.calls());
+        assertEquals(1, store.executions());
+    }
+
+    @Test
+    @DisplayName("실행 중에 도착한 같은 키의 호출은 다시 실행하지 않고 첫 실행의 결과를 기다린다")
+    void execute_shouldJoinInFlightExecution() throws InterruptedException {
+        // given
+        IdempotencyStore<String, Integer> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> results = new ArrayList<>();
+        Thread first = start(() -> record(results, store.execute("key", 100L, () -> {
+            await(release);
+            return executions.incrementAndGet();
+        })));
+        awaitWaiting(first);
+        Thread retry = start(() -> record(results, store.execute("key", 100L, executions::incrementAndGet)));
+        awaitWaiting(retry);
+
+        // when
+        release.countDown();
+        first.join();
+        retry.join();
+
+        // then
+        assertThat(results).containsExactly(1, 1);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청이 들어오면 실행하지 않고 예외를 던진다")
+    void execute_shouldReject_whenRequestDiffers() {
+        // given
+        IdempotencyStore<String, Integer> store = store(10, Duration.ofMinutes(1));
+        store.execute("key", 100L, executions::incrementAndGet);
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("key", 200L, executions::incrementAndGet))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 보관하지 않으므로 같은 키로 다시 실행할 수 있다")
+    void execute_shouldNotKeepFailure() {
+        // given
+        IdempotencyStore<String, Integer> store = store(10, Duration.ofMinutes(1));
+
+        // when
+        assertThatThrownBy(() -> store.execute("key", 100L, () -> {
+            throw new IllegalStateException("실행 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        int rtn = store.execute("key", 100L, executions::incrementAndGet);
+
+        // then
+        assertEquals(1, rtn);
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 결과는 버리고 같은 키의 호출을 새 요청으로 실행한다")
+    void execute_shouldExpireAfterTtl() {
+        // given
+        IdempotencyStore<String, Integer> store = store(10, Duration.ofSeconds(10));
+        store.execute("key", 100L, executions::incrementAndGet);
+
+        // when
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+        int rtn = store.execute("key", 100L, executions::incrementAndGet);
+
+        // then
+        assertEquals(2, rtn);
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("보관 건수가 maxEntries를 넘으면 가장 오래된 결과부터 버린다")
+    void execute_shouldEvictOldest_whenFull() {
+        // given
+        IdempotencyStore<String, Integer> store = store(3, Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            store.execute("key-" + i, 100L, executions::incrementAndGet);
+        }
+
+        // when
+        int oldest = store.execute("key-0", 100L, executions::incrementAndGet);
+        int newest = store.execute("key-4", 100L, executions::incrementAndGet);
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(4);
+        assertEquals(6, oldest);
+        assertEquals(5, newest);
+    }
+
+    private IdempotencyStore<String, Integer> store(int maxEntries, Duration ttl) {
+        return new IdempotencyStore<>(maxEntries, ttl, nanos::get);
+    }
+
+    private static Thread start(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void record(List<Integer> results, int result) {
+        synchronized (results) {
+            results.add(result);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
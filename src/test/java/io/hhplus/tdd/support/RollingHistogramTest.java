@@ -0,0 +1,92 @@
+package io.hhplus.tdd.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RollingHistogramTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final RollingHistogram rollingHistogram = new RollingHistogram(Duration.ofSeconds(60), 6, clock::get);
+
+    @Test
+    @DisplayName("분위수는 버킷 해상도(약 3%) 안에서 계산되고 최댓값은 정확하다")
+    void snapshot_shouldApproximatePercentiles() {
+        // given
+        for (long micros = 1; micros <= 1000; micros++) {
+            rollingHistogram.record(micros * 1_000L);
+        }
+
+        // when
+        RollingHistogram.Snapshot snapshot = rollingHistogram.snapshot();
+
+        // then
+        assertEquals(1000L, snapshot.count());
+        assertThat(snapshot.p50()).isCloseTo(500_000L, within(500_000L / 32));
+        assertThat(snapshot.p95()).isCloseTo(950_000L, within(950_000L / 32));
+        assertThat(snapshot.p99()).isCloseTo(990_000L, within(990_000L / 32));
+        assertEquals(1_000_000L, snapshot.max());
+    }
+
+    @Test
+    @DisplayName("window가 지난 구간의 기록은 집계에서 빠지고, 처리량은 집계한 시간 기준으로 계산된다")
+    void snapshot_shouldDropExpiredSlots() {
+        // given
+        rollingHistogram.record(1_000_000L);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        for (int i = 0; i < 30; i++) {
+            rollingHistogram.record(2_000L);
+        }
+
+        // when
+        RollingHistogram.Snapshot beforeExpiry = rollingHistogram.snapshot();
+        clock.addAndGet(Duration.ofSeconds(35).toNanos());
+        RollingHistogram.Snapshot afterExpiry = rollingHistogram.snapshot();
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+        RollingHistogram.Snapshot empty = rollingHistogram.snapshot();
+
+        // then
+        assertEquals(31L, beforeExpiry.count());
+        assertThat(beforeExpiry.throughputPerSecond()).isCloseTo(31 / 30.0, within(0.01));
+        assertEquals(30L, afterExpiry.count());
+        assertEquals(2_000L, afterExpiry.max());
+        assertEquals(0L, empty.count());
+        assertEquals(0L, empty.p99());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 건수가 누락되지 않는다")
+    void record_shouldCountConcurrentRecords() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int records = 100_000;
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < records; i++) {
+                    rollingHistogram.record(i % 5_000);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        RollingHistogram.Snapshot snapshot = rollingHistogram.snapshot();
+        assertEquals((long) threadCount * records, snapshot.count());
+        assertEquals(4_999L, snapshot.max());
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("실행 중에 도착한 같은 키의 호출은 하나의 실행 결과를 함께 받는다")
+    void execute_shouldShareInFlightExecution() throws InterruptedException {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> results = new ArrayList<>();
+        Thread leader = start(() -> record(results, singleFlight.execute(1L, () -> {
+            await(release);
+            return executions.incrementAndGet();
+        })));
+        awaitWaiting(leader);
+
+        // when
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            Thread follower = start(() -> record(results, singleFlight.execute(1L, executions::incrementAndGet)));
+            awaitWaiting(follower);
+            followers.add(follower);
+        }
+        release.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // then
+        assertThat(results).hasSize(10).containsOnly(1);
+        assertEquals(1, executions.get());
+        assertEquals(10.0, singleFlight.fanInRatio());
+    }
+
+    @Test
+    @DisplayName("실행이 끝난 뒤의 호출은 결과를 재사용하지 않고 다시 실행한다")
+    void execute_shouldNotCacheCompletedResult() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        singleFlight.execute(1L, executions::incrementAndGet);
+        int rtn = singleFlight.execute(1L, executions::incrementAndGet);
+
+        // then
+        assertEquals(2, rtn);
+        assertEquals(1.0, singleFlight.fanInRatio());
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 기다리던 호출도 같은 예외를 받고, 다음 호출은 다시 실행한다")
+    void execute_shouldPropagateFailureToFollowers() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<RuntimeException> leaderError = new AtomicReference<>();
+        AtomicReference<RuntimeException> followerError = new AtomicReference<>();
+        Thread leader = start(() -> capture(leaderError, () -> singleFlight.execute(1L, () -> {
+            await(release);
+            throw new IllegalStateException("조회 실패");
+        })));
+        awaitWaiting(leader);
+        Thread follower = start(() -> capture(followerError, () -> singleFlight.execute(1L, () -> 0)));
+        awaitWaiting(follower);
+
+        // when
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // then
+        assertThat(leaderError.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(followerError.get()).isSameAs(leaderError.get());
+        assertThat(singleFlight.execute(1L, () -> 7)).isEqualTo(7);
+    }
+
+    private static Thread start(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void record(List<Integer> results, int result) {
+        synchronized (results) {
+            results.add(result);
+        }
+    }
+
+    private static void capture(AtomicReference<RuntimeException> error, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            error.set(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionTraceLoggerTest {
+
+    @Test
+    @DisplayName("꺼져 있으면 아무것도 기록하지 않는다")
+    void trace_shouldIgnore_whenDisabled() {
+        // given
+        List<String> lines = new CopyOnWriteArrayList<>();
+        TransactionTraceLogger traceLogger = new TransactionTraceLogger(new TransactionTraceProperties(false, 8), lines::add);
+
+        // when
+        traceLogger.trace("사용자: {}", 1L);
+        traceLogger.close();
+
+        // then
+        assertThat(lines).isEmpty();
+        assertEquals(0, traceLogger.pendingCount());
+    }
+
+    @Test
+    @DisplayName("켜져 있으면 drain 스레드가 기록 순서대로 인자를 채운 메시지를 출력한다")
+    void trace_shouldFormatInOrder_whenEnabled() {
+        // given
+        List<String> lines = new CopyOnWriteArrayList<>();
+        TransactionTraceLogger traceLogger = new TransactionTraceLogger(new TransactionTraceProperties(true, 8), lines::add);
+
+        // when
+        traceLogger.trace("CHARGE 트랜잭션 시작 - 사용자: {}, 금액: {}", 1L, 1000L);
+        traceLogger.trace("이체 - {} -> {}, 금액: {}", 1L, 2L, 300L);
+        traceLogger.trace("완료 - 사용자: {}", 1L);
+        traceLogger.close();
+
+        // then
+        String threadName = Thread.currentThread().getName();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).endsWith(" [" + threadName + "] CHARGE 트랜잭션 시작 - 사용자: 1, 금액: 1000");
+        assertThat(lines.get(1)).endsWith("] 이체 - 1 -> 2, 금액: 300");
+        assertThat(lines.get(2)).endsWith("] 완료 - 사용자: 1");
+        assertThat(lines.get(0)).matches("\\d{2}:\\d{2}:\\d{2}\\.\\d{3} .*");
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출 스레드를 막지 않고 기록을 버린다")
+    void trace_shouldDrop_whenBufferIsFull() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> lines = new CopyOnWriteArrayList<>();
+        TransactionTraceLogger traceLogger = new TransactionTraceLogger(new TransactionTraceProperties(true, 2), line -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lines.add(line);
+        });
+
+        // when
+        for (long i = 1; i <= 5; i++) {
+            traceLogger.trace("순번: {}", i);
+        }
+
+        // then
+        assertThat(traceLogger.droppedCount()).isGreaterThanOrEqualTo(2L);
+        release.countDown();
+        traceLogger.close();
+        assertEquals(5 - traceLogger.droppedCount(), lines.size());
+        assertThat(lines.get(0)).endsWith("순번: 1");
+    }
+
+    @Test
+    @DisplayName("capacity는 양수여야 한다")
+    void constructor_shouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new TransactionTraceLogger(new TransactionTraceProperties(true, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
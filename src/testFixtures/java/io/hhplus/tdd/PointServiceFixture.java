@@ -0,0 +1,75 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.repository.HeapUserPointStore;
+import io.hhplus.tdd.repository.PointHistoryIndex;
+import io.hhplus.tdd.repository.PointHistoryTable;
+import io.hhplus.tdd.repository.PointHistoryWriter;
+import io.hhplus.tdd.repository.PointHistoryWriterProperties;
+import io.hhplus.tdd.repository.UserPointCache;
+import io.hhplus.tdd.repository.UserPointCacheProperties;
+import io.hhplus.tdd.repository.UserPointTable;
+import io.hhplus.tdd.repository.wal.PointWriteAheadLog;
+import io.hhplus.tdd.repository.wal.PointWriteAheadLogProperties;
+import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.PointTransactionFinder;
+import io.hhplus.tdd.service.executor.PointTransactionExecutor;
+import io.hhplus.tdd.service.transaction.ChargeTransaction;
+import io.hhplus.tdd.service.transaction.PointTransferProperties;
+import io.hhplus.tdd.service.transaction.TransferTransaction;
+import io.hhplus.tdd.service.transaction.UseTransaction;
+import io.hhplus.tdd.support.TransactionTraceLogger;
+import io.hhplus.tdd.support.TransactionTraceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * PointService와 트랜잭션 실행기 테스트, 벤치마크가 함께 쓰는 객체 구성
+ * - 테이블 → 캐시 → 이력 인덱스 → 이력 기록기 → 트랜잭션 순으로 한 곳에서 조립하므로, 생성자가 바뀌면 이 파일만 고칩니다.
+ * - 캐시는 WRITE_THROUGH, 이력 기록은 SYNC, WAL과 트랜잭션 추적 로그는 끈 운영 기본값으로 구성합니다.
+ * - 테이블은 호출하는 쪽이 넘겨주므로, 테스트는 mock을, 벤치마크는 지연 없는 대역을 사용할 수 있습니다.
+ * - Lock 관리자와 실행 방식은 비교 대상이므로 pointService(executor)로 호출하는 쪽이 정합니다.
+ */
+public record PointServiceFixture(
+        PointMetrics pointMetrics,
+        UserPointCache userPointCache,
+        PointHistoryIndex pointHistoryIndex,
+        PointHistoryWriter pointHistoryWriter,
+        PointWriteAheadLog pointWriteAheadLog,
+        ChargeTransaction chargeTransaction,
+        UseTransaction useTransaction,
+        TransferTransaction transferTransaction
+) {
+
+    public static PointServiceFixture create(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        return create(userPointTable, pointHistoryTable, new SimpleMeterRegistry());
+    }
+
+    public static PointServiceFixture create(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, MeterRegistry meterRegistry) {
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        UserPointCache userPointCache = new UserPointCache(userPointTable, new UserPointCacheProperties(
+                UserPointCacheProperties.WriteMode.WRITE_THROUGH, Duration.ofMillis(100), Duration.ofSeconds(1)), pointMetrics, new HeapUserPointStore());
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        PointWriteAheadLog pointWriteAheadLog = new PointWriteAheadLog(PointWriteAheadLogProperties.disabled(), pointMetrics);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointHistoryIndex,
+                new PointHistoryWriterProperties(PointHistoryWriterProperties.Mode.SYNC, 10000, 100), pointMetrics, pointWriteAheadLog);
+        TransactionTraceLogger traceLogger = new TransactionTraceLogger(new TransactionTraceProperties(false, 8192));
+
+        return new PointServiceFixture(pointMetrics, userPointCache, pointHistoryIndex, pointHistoryWriter, pointWriteAheadLog,
+                new ChargeTransaction(userPointCache, pointHistoryWriter, traceLogger),
+                new UseTransaction(userPointCache, pointHistoryWriter, traceLogger),
+                new TransferTransaction(userPointCache, pointHistoryWriter, traceLogger, new PointTransferProperties(16)));
+    }
+
+    public PointTransactionFinder pointTransactionFinder() {
+        return new PointTransactionFinder(List.of(chargeTransaction, useTransaction));
+    }
+
+    public PointService pointService(PointTransactionExecutor pointTransactionExecutor) {
+        return new PointService(userPointCache, pointHistoryIndex, pointTransactionFinder(), transferTransaction,
+                pointTransactionExecutor, pointMetrics, pointWriteAheadLog);
+    }
+}